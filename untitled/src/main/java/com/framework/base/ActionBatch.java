@@ -0,0 +1,240 @@
+package com.framework.base;
+
+import com.framework.exceptions.FrameworkException;
+import com.framework.utils.TestContext;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Queue of deferred page actions flushed as one browser-side script
+ * This demonstrates:
+ * 1. Command Pattern - Clicks, typing and clearing recorded as replayable actions
+ * 2. Encapsulation - Pages queue actions through BasePage, only the flush talks to the browser
+ *
+ * Each action remembers the page step that queued it (e.g. EnhancedLoginPage.enterUsername).
+ * The flush script stops at the first action it cannot apply in the page, or that throws; that
+ * action and all following ones are then replayed through regular WebDriver calls with explicit
+ * waits, so a failure is reported for the exact step that queued it. Only when the script cannot
+ * be started at all is the whole batch replayed.
+ */
+public class ActionBatch {
+
+    private static final Logger logger = LogManager.getLogger(ActionBatch.class);
+    private static final StackWalker stackWalker = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    private static final TestContext.Local<Set<ActionBatch>> pendingBatches = new TestContext.Local<>(LinkedHashSet::new);
+
+    private static final String FLUSH_SCRIPT =
+        "var actions = arguments[0];" +
+        "var setterOf = function(el) {" +
+        "  var proto = el instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype : HTMLInputElement.prototype;" +
+        "  var descriptor = Object.getOwnPropertyDescriptor(proto, 'value');" +
+        "  return descriptor && descriptor.set;" +
+        "};" +
+        "for (var i = 0; i < actions.length; i++) {" +
+        "  try {" +
+        "    var a = actions[i], el = a.element;" +
+        "    var rect = el.getBoundingClientRect();" +
+        "    if (!el.isConnected || el.disabled || (rect.width === 0 && rect.height === 0)" +
+        "        || getComputedStyle(el).visibility === 'hidden') { return { index: i, reason: 'not interactable' }; }" +
+        "    if (a.kind === 'click') { el.click(); continue; }" +
+        "    var setter = setterOf(el);" +
+        "    if (el.readOnly || !setter) { return { index: i, reason: 'not editable' }; }" +
+        "    el.focus();" +
+        "    setter.call(el, a.value);" +
+        "    el.dispatchEvent(new Event('input', { bubbles: true }));" +
+        "    el.dispatchEvent(new Event('change', { bubbles: true }));" +
+        "    el.blur();" +
+        "    if (el.value !== a.value) { return { index: i, reason: 'value rejected' }; }" +
+        "  } catch (e) {" +
+        "    return { index: i, error: String(e && e.message || e) };" +
+        "  }" +
+        "}" +
+        "return null;";
+
+    private final WebDriver driver;
+    private final WebDriverWait wait;
+    private final List<Action> actions = new ArrayList<>();
+
+    /**
+     * Constructor
+     * @param driver WebDriver instance
+     * @param wait Wait used when actions are replayed through WebDriver
+     */
+    public ActionBatch(WebDriver driver, WebDriverWait wait) {
+        this.driver = driver;
+        this.wait = wait;
+    }
+
+    /**
+     * Queue a click
+     * @param element Element to click
+     */
+    public void click(WebElement element) {
+        add(new Action("click", element, null));
+    }
+
+    /**
+     * Queue replacing the value of a text field
+     * @param element Element to type into
+     * @param text Text to type
+     */
+    public void type(WebElement element, String text) {
+        add(new Action("type", element, text != null ? text : ""));
+    }
+
+    /**
+     * Queue clearing a text field
+     * @param element Element to clear
+     */
+    public void clear(WebElement element) {
+        add(new Action("clear", element, ""));
+    }
+
+    /**
+     * Check if actions are waiting to be flushed
+     * @return true if the queue is not empty
+     */
+    public boolean hasPendingActions() {
+        return !actions.isEmpty();
+    }
+
+    /**
+     * Run all queued actions in one script execution, replaying from the first failed one
+     */
+    @SuppressWarnings("unchecked")
+    public void flush() {
+        if (actions.isEmpty()) {
+            return;
+        }
+        List<Action> flushed = new ArrayList<>(actions);
+        actions.clear();
+        pendingBatches.get().remove(this);
+
+        int failedIndex;
+        try {
+            List<Map<String, Object>> arguments = new ArrayList<>();
+            for (Action action : flushed) {
+                Map<String, Object> argument = new LinkedHashMap<>();
+                argument.put("kind", action.kind);
+                argument.put("element", action.element);
+                argument.put("value", action.value);
+                arguments.add(argument);
+            }
+            Map<String, Object> failure = (Map<String, Object>) ((JavascriptExecutor) driver)
+                .executeScript(FLUSH_SCRIPT, arguments);
+            if (failure == null) {
+                logger.info("Flushed {} deferred actions in one script: {}", flushed.size(), flushed);
+                return;
+            }
+            failedIndex = ((Number) failure.get("index")).intValue();
+            if (failure.containsKey("error")) {
+                logger.info("Deferred step {} threw in script, replaying from there: {}", flushed.get(failedIndex), failure.get("error"));
+            } else {
+                logger.info("Deferred step {} {} in script, replaying from there", flushed.get(failedIndex), failure.get("reason"));
+            }
+        } catch (Exception e) {
+            // The script never ran, e.g. a stale element or a value that could not be sent as an argument;
+            // errors inside the script are caught per action above, so nothing was applied yet
+            failedIndex = 0;
+            logger.info("Deferred action script failed, replaying {} actions: {}", flushed.size(), e.getMessage());
+        }
+
+        for (Action action : flushed.subList(failedIndex, flushed.size())) {
+            replay(action);
+        }
+    }
+
+    /**
+     * Drop deferred actions of the current test that were never flushed
+     * @return Number of dropped actions
+     */
+    public static int discardPending() {
+        int dropped = 0;
+        for (ActionBatch batch : pendingBatches.get()) {
+            logger.warn("Discarding {} deferred actions that were never flushed: {}", batch.actions.size(), batch.actions);
+            dropped += batch.actions.size();
+            batch.actions.clear();
+        }
+        pendingBatches.remove();
+        return dropped;
+    }
+
+    private void add(Action action) {
+        actions.add(action);
+        pendingBatches.get().add(this);
+        logger.debug("Deferred {}", action);
+    }
+
+    /**
+     * Run one action through WebDriver with explicit waits
+     * @param action Action to run
+     */
+    private void replay(Action action) {
+        try {
+            if ("click".equals(action.kind)) {
+                wait.until(ExpectedConditions.elementToBeClickable(action.element)).click();
+            } else {
+                WebElement element = wait.until(ExpectedConditions.visibilityOf(action.element));
+                element.clear();
+                element.sendKeys(action.value);
+            }
+            logger.info("Replayed deferred step {}", action);
+        } catch (Exception e) {
+            logger.error("Deferred step {} failed", action, e);
+            throw new FrameworkException("Deferred step " + action + " failed", e);
+        }
+    }
+
+    /**
+     * Find the page method that queued an action
+     * @return Page class and method, e.g. LoginPage.enterUsername
+     */
+    private static String callingStep() {
+        return stackWalker.walk(frames -> frames
+            .filter(frame -> BasePage.class.isAssignableFrom(frame.getDeclaringClass())
+                && frame.getDeclaringClass() != BasePage.class)
+            .findFirst()
+            .map(frame -> {
+                // Strip AspectJ around-advice suffixes of @Step methods
+                String method = frame.getMethodName();
+                int woven = method.indexOf("_aroundBody");
+                return frame.getDeclaringClass().getSimpleName() + "." + (woven > 0 ? method.substring(0, woven) : method);
+            })
+            .orElse("page action"));
+    }
+
+    /**
+     * One queued action and the step that queued it
+     */
+    private static class Action {
+
+        private final String kind;
+        private final WebElement element;
+        private final String value;
+        private final String step;
+
+        private Action(String kind, WebElement element, String value) {
+            this.kind = kind;
+            this.element = element;
+            this.value = value;
+            this.step = callingStep();
+        }
+
+        @Override
+        public String toString() {
+            return "'" + step + "' (" + kind + ")";
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.framework.base;
 
 import com.framework.interfaces.IPageActions;
 import com.framework.utils.ConfigReader;
+import com.framework.utils.ImpactRecorder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.OutputType;
@@ -38,7 +39,8 @@ public abstract class BaseComponent implements IPageActions {
     public BaseComponent(WebDriver driver) {
         this.driver = driver;
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(ConfigReader.getExplicitWait()));
-        PageFactory.initElements(driver, this);
+        PageFactory.initElements(ImpactRecorder.trackingLocatorFactory(driver), this);
+        ImpactRecorder.recordClass(this.getClass());
         logger.info("Initialized {} component", this.getClass().getSimpleName());
     }
     
@@ -189,7 +191,7 @@ public abstract class BaseComponent implements IPageActions {
      * Useful when DOM elements are dynamically updated
      */
     protected void refreshComponent() {
-        PageFactory.initElements(driver, this);
+        PageFactory.initElements(ImpactRecorder.trackingLocatorFactory(driver), this);
         logger.info("{}: Component refreshed", getComponentName());
     }
 }
@@ -2,8 +2,13 @@ package com.framework.base;
 
 import com.framework.interfaces.IPageActions;
 import com.framework.utils.ConfigReader;
+import com.framework.utils.ImpactRecorder;
+import com.framework.utils.PerformanceCollector;
+import com.framework.utils.TestContext;
+import com.framework.utils.VisualBaselineStore;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
@@ -12,7 +17,10 @@ import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 
+import java.awt.Rectangle;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Abstract base page class implementing common page actions (Abstraction)
@@ -20,11 +28,17 @@ import java.time.Duration;
  * 1. Abstraction - Abstract class with common functionality
  * 2. Inheritance - Other pages will extend this class
  * 3. Encapsulation - Private fields with protected methods for subclasses
+ *
+ * After deferActions() clicks, typing and clearing are queued in an ActionBatch instead of
+ * being executed. The queue is flushed in one script at the next click, read (getText,
+ * isDisplayed, waits, screenshots) or navigation, so a chain like
+ * enterUsername(...).enterPassword(...).clickLoginButton() costs a single round-trip.
  */
 public abstract class BasePage implements IPageActions {
     
     protected WebDriver driver;
     protected WebDriverWait wait;
+    private ActionBatch actionBatch;
     private static final Logger logger = LogManager.getLogger(BasePage.class);
     
     /**
@@ -34,7 +48,11 @@ public abstract class BasePage implements IPageActions {
     public BasePage(WebDriver driver) {
         this.driver = driver;
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(ConfigReader.getExplicitWait()));
-        PageFactory.initElements(driver, this);
+        PageFactory.initElements(ImpactRecorder.trackingLocatorFactory(driver), this);
+        ImpactRecorder.recordClass(this.getClass());
+        if (TestContext.isActive()) {
+            TestContext.current().setCurrentPageClass(this.getClass());
+        }
         logger.info("Initialized {} page", this.getClass().getSimpleName());
     }
     
@@ -45,11 +63,44 @@ public abstract class BasePage implements IPageActions {
      */
     public abstract boolean isPageLoaded();
     
+    /**
+     * Switch this page to deferred execution of clicks, typing and clearing
+     * Subclasses override this with their own return type for method chaining
+     * @return BasePage instance for method chaining
+     */
+    public BasePage deferActions() {
+        if (actionBatch == null) {
+            actionBatch = new ActionBatch(driver, wait);
+            logger.info("Deferring actions of {} page", this.getClass().getSimpleName());
+        }
+        return this;
+    }
+    
+    /**
+     * Check if this page queues its actions
+     * @return true after deferActions(), false otherwise
+     */
+    public boolean isDeferringActions() {
+        return actionBatch != null;
+    }
+    
+    /**
+     * Run all queued actions now
+     * Called automatically before reads, clicks and navigation; call it before using
+     * wrappers or components directly while actions are deferred
+     */
+    public void flushActions() {
+        if (actionBatch != null) {
+            actionBatch.flush();
+        }
+    }
+    
     /**
      * Get page title - common functionality for all pages
      * @return current page title
      */
     public String getPageTitle() {
+        flushActions();
         String title = driver.getTitle();
         logger.info("Current page title: {}", title);
         return title;
@@ -60,6 +111,7 @@ public abstract class BasePage implements IPageActions {
      * @return current page URL
      */
     public String getCurrentUrl() {
+        flushActions();
         String url = driver.getCurrentUrl();
         logger.info("Current URL: {}", url);
         return url;
@@ -67,6 +119,12 @@ public abstract class BasePage implements IPageActions {
     
     @Override
     public void click(WebElement element) {
+        if (actionBatch != null) {
+            // A click may navigate, so it always ends the batch
+            actionBatch.click(element);
+            actionBatch.flush();
+            return;
+        }
         try {
             waitForElementToBeClickable(element);
             element.click();
@@ -79,6 +137,10 @@ public abstract class BasePage implements IPageActions {
     
     @Override
     public void type(WebElement element, String text) {
+        if (actionBatch != null) {
+            actionBatch.type(element, text);
+            return;
+        }
         try {
             waitForElementToBeVisible(element);
             clear(element);
@@ -92,6 +154,10 @@ public abstract class BasePage implements IPageActions {
     
     @Override
     public void clear(WebElement element) {
+        if (actionBatch != null) {
+            actionBatch.clear(element);
+            return;
+        }
         try {
             waitForElementToBeVisible(element);
             element.clear();
@@ -104,6 +170,7 @@ public abstract class BasePage implements IPageActions {
     
     @Override
     public String getText(WebElement element) {
+        flushActions();
         try {
             waitForElementToBeVisible(element);
             String text = element.getText();
@@ -117,6 +184,7 @@ public abstract class BasePage implements IPageActions {
     
     @Override
     public boolean isDisplayed(WebElement element) {
+        flushActions();
         try {
             boolean isDisplayed = element.isDisplayed();
             logger.info("Element {} is displayed: {}", element.toString(), isDisplayed);
@@ -129,6 +197,7 @@ public abstract class BasePage implements IPageActions {
     
     @Override
     public void waitForElementToBeClickable(WebElement element) {
+        flushActions();
         try {
             wait.until(ExpectedConditions.elementToBeClickable(element));
             logger.debug("Element is clickable: {}", element.toString());
@@ -140,6 +209,7 @@ public abstract class BasePage implements IPageActions {
     
     @Override
     public void waitForElementToBeVisible(WebElement element) {
+        flushActions();
         try {
             wait.until(ExpectedConditions.visibilityOf(element));
             logger.debug("Element is visible: {}", element.toString());
@@ -151,6 +221,7 @@ public abstract class BasePage implements IPageActions {
     
     @Override
     public byte[] takeScreenshot() {
+        flushActions();
         try {
             TakesScreenshot takesScreenshot = (TakesScreenshot) driver;
             byte[] screenshot = takesScreenshot.getScreenshotAs(OutputType.BYTES);
@@ -162,11 +233,39 @@ public abstract class BasePage implements IPageActions {
         }
     }
     
+    /**
+     * Compare a screenshot of the page with its visual baseline (stored as PageClass/checkpoint)
+     * @param checkpoint Checkpoint name
+     * @param ignoredElements Elements excluded from the comparison (clocks, ads, avatars)
+     */
+    public void verifyVisual(String checkpoint, WebElement... ignoredElements) {
+        byte[] screenshot = takeScreenshot();
+        List<Rectangle> ignoreRegions = new ArrayList<>();
+        if (ignoredElements.length > 0) {
+            // Viewport screenshots are in device pixels, element rects in CSS pixels relative to the viewport
+            List<?> rects = (List<?>) ((JavascriptExecutor) driver).executeScript(
+                "var ratio = window.devicePixelRatio || 1;" +
+                "return Array.prototype.map.call(arguments, function(el) {" +
+                "  var r = el.getBoundingClientRect();" +
+                "  return [Math.floor(r.left * ratio), Math.floor(r.top * ratio)," +
+                "    Math.ceil(r.width * ratio) + 1, Math.ceil(r.height * ratio) + 1];" +
+                "});", (Object[]) ignoredElements);
+            for (Object rect : rects) {
+                List<?> values = (List<?>) rect;
+                ignoreRegions.add(new Rectangle(((Number) values.get(0)).intValue(), ((Number) values.get(1)).intValue(),
+                    ((Number) values.get(2)).intValue(), ((Number) values.get(3)).intValue()));
+            }
+        }
+        VisualBaselineStore.verify(getClass().getSimpleName() + "/" + checkpoint, screenshot, ignoreRegions);
+    }
+    
     /**
      * Navigate to a specific URL
      * @param url URL to navigate to
      */
     protected void navigateToUrl(String url) {
+        flushActions();
+        PerformanceCollector.beforeNavigation(driver);
         try {
             driver.get(url);
             logger.info("Navigated to URL: {}", url);
@@ -174,12 +273,14 @@ public abstract class BasePage implements IPageActions {
             logger.error("Failed to navigate to URL: {}", url, e);
             throw new RuntimeException("Failed to navigate to URL", e);
         }
+        PerformanceCollector.afterNavigation(driver, this.getClass(), url);
     }
     
     /**
      * Refresh the current page
      */
     protected void refreshPage() {
+        flushActions();
         try {
             driver.navigate().refresh();
             logger.info("Page refreshed successfully");
@@ -0,0 +1,27 @@
+package com.framework.exceptions;
+
+/**
+ * Exception marking a test whose browser session stopped responding
+ * Raised by the driver watchdog, classified as a driver crash so the test is retried on a fresh session
+ */
+public class BrowserHangException extends FrameworkException {
+    
+    private static final long serialVersionUID = 1L;
+    
+    /**
+     * Constructor with message
+     * @param message Exception message
+     */
+    public BrowserHangException(String message) {
+        super(message);
+    }
+    
+    /**
+     * Constructor with message and cause
+     * @param message Exception message
+     * @param cause Failure the hang caused in the test, if any
+     */
+    public BrowserHangException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -6,6 +6,7 @@ import com.framework.components.HeaderComponent;
 import com.framework.utils.ConfigReader;
 import com.framework.wrappers.Button;
 import com.framework.wrappers.Dropdown;
+import com.framework.wrappers.FormFiller;
 import com.framework.wrappers.TextBox;
 import io.qameta.allure.Step;
 import org.apache.logging.log4j.LogManager;
@@ -122,6 +123,18 @@ public class EnhancedLoginPage extends BasePage {
         logger.debug("Initialized element wrappers for EnhancedLoginPage");
     }
     
+    /**
+     * Queue clicks and typing until the next read or navigation
+     * Wrapper based steps queue through the underlying elements while actions are deferred,
+     * other wrapper and component calls flush the queue first
+     * @return EnhancedLoginPage instance for method chaining
+     */
+    @Override
+    public EnhancedLoginPage deferActions() {
+        super.deferActions();
+        return this;
+    }
+    
     /**
      * Navigate to login page
      * @return EnhancedLoginPage instance for method chaining
@@ -141,6 +154,10 @@ public class EnhancedLoginPage extends BasePage {
      */
     @Step("Enter username: {username}")
     public EnhancedLoginPage enterUsername(String username) {
+        if (isDeferringActions()) {
+            type(usernameElement, username);
+            return this;
+        }
         usernameTextBox.type(username);
         logger.info("Entered username using enhanced wrapper: {}", username);
         return this;
@@ -153,6 +170,10 @@ public class EnhancedLoginPage extends BasePage {
      */
     @Step("Enter password")
     public EnhancedLoginPage enterPassword(String password) {
+        if (isDeferringActions()) {
+            type(passwordElement, password);
+            return this;
+        }
         passwordTextBox.type(password);
         logger.info("Entered password using enhanced wrapper");
         return this;
@@ -164,6 +185,10 @@ public class EnhancedLoginPage extends BasePage {
      */
     @Step("Click enhanced login button")
     public DashboardPage clickLoginButton() {
+        if (isDeferringActions()) {
+            click(loginButtonElement);
+            return new DashboardPage(driver);
+        }
         loginButton.click();
         logger.info("Clicked login button using enhanced wrapper");
         return new DashboardPage(driver);
@@ -171,14 +196,23 @@ public class EnhancedLoginPage extends BasePage {
     
     /**
      * Perform complete login operation using enhanced wrappers
+     * Always logs in through the form, which is what callers of this page exercise; tests that only
+     * need an authenticated session use LoginPage.loginWithCachedSession instead
      * @param username Username to login with
      * @param password Password to login with
      * @return DashboardPage instance
      */
     @Step("Enhanced login with username: {username}")
     public DashboardPage performEnhancedLogin(String username, String password) {
-        enterUsername(username);
-        enterPassword(password);
+        if (isDeferringActions()) {
+            // Queued together with the login click into one batch
+            return enterUsername(username).enterPassword(password).clickLoginButton();
+        }
+        FormFiller.on(driver)
+            .set(usernameTextBox, username)
+            .set(passwordTextBox, password)
+            .fill();
+        logger.info("Filled login form using enhanced wrappers for username: {}", username);
         return clickLoginButton();
     }
     
@@ -192,9 +226,7 @@ public class EnhancedLoginPage extends BasePage {
     @Step("Login with language selection: {language}")
     public DashboardPage loginWithLanguage(String username, String password, String language) {
         selectLanguage(language);
-        enterUsername(username);
-        enterPassword(password);
-        return clickLoginButton();
+        return performEnhancedLogin(username, password);
     }
     
     /**
@@ -204,6 +236,7 @@ public class EnhancedLoginPage extends BasePage {
      */
     @Step("Select language: {language}")
     public EnhancedLoginPage selectLanguage(String language) {
+        flushActions();
         languageDropdown.selectByText(language);
         logger.info("Selected language using enhanced dropdown: {}", language);
         return this;
@@ -215,6 +248,7 @@ public class EnhancedLoginPage extends BasePage {
      */
     @Step("Login with Google")
     public DashboardPage loginWithGoogle() {
+        flushActions();
         googleLoginButton.click();
         logger.info("Clicked Google login button");
         // In real scenario, handle OAuth flow here
@@ -227,6 +261,7 @@ public class EnhancedLoginPage extends BasePage {
      */
     @Step("Login with Facebook")
     public DashboardPage loginWithFacebook() {
+        flushActions();
         facebookLoginButton.click();
         logger.info("Clicked Facebook login button");
         // In real scenario, handle OAuth flow here
@@ -261,6 +296,10 @@ public class EnhancedLoginPage extends BasePage {
      */
     @Step("Clear username field")
     public EnhancedLoginPage clearUsername() {
+        if (isDeferringActions()) {
+            clear(usernameElement);
+            return this;
+        }
         usernameTextBox.clear();
         logger.info("Cleared username field using enhanced wrapper");
         return this;
@@ -272,6 +311,10 @@ public class EnhancedLoginPage extends BasePage {
      */
     @Step("Clear password field")
     public EnhancedLoginPage clearPassword() {
+        if (isDeferringActions()) {
+            clear(passwordElement);
+            return this;
+        }
         passwordTextBox.clear();
         logger.info("Cleared password field using enhanced wrapper");
         return this;
@@ -283,6 +326,7 @@ public class EnhancedLoginPage extends BasePage {
      */
     @Step("Focus on username field")
     public EnhancedLoginPage focusOnUsername() {
+        flushActions();
         usernameTextBox.focus();
         logger.info("Focused on username field");
         return this;
@@ -294,6 +338,7 @@ public class EnhancedLoginPage extends BasePage {
      */
     @Step("Submit form using Enter key")
     public DashboardPage submitFormUsingEnter() {
+        flushActions();
         passwordTextBox.pressEnter();
         logger.info("Submitted form using Enter key");
         return new DashboardPage(driver);
@@ -305,6 +350,7 @@ public class EnhancedLoginPage extends BasePage {
      */
     @Step("Get available languages")
     public List<String> getAvailableLanguages() {
+        flushActions();
         List<String> languages = languageDropdown.getAllOptionTexts();
         logger.info("Retrieved {} available languages", languages.size());
         return languages;
@@ -316,6 +362,7 @@ public class EnhancedLoginPage extends BasePage {
      */
     @Step("Get selected language")
     public String getSelectedLanguage() {
+        flushActions();
         String selectedLanguage = languageDropdown.getSelectedText();
         logger.info("Currently selected language: {}", selectedLanguage);
         return selectedLanguage;
@@ -370,6 +417,7 @@ public class EnhancedLoginPage extends BasePage {
      */
     @Step("Verify login form elements")
     public boolean verifyLoginFormElements() {
+        flushActions();
         boolean allPresent = usernameTextBox.isDisplayed() &&
                            usernameTextBox.isEnabled() &&
                            passwordTextBox.isDisplayed() &&
@@ -386,6 +434,7 @@ public class EnhancedLoginPage extends BasePage {
      * @return HeaderComponent instance
      */
     public HeaderComponent getHeaderComponent() {
+        flushActions();
         return headerComponent;
     }
     
@@ -394,6 +443,7 @@ public class EnhancedLoginPage extends BasePage {
      * @return FooterComponent instance
      */
     public FooterComponent getFooterComponent() {
+        flushActions();
         return footerComponent;
     }
     
@@ -402,6 +452,7 @@ public class EnhancedLoginPage extends BasePage {
      * @return TextBox wrapper for username field
      */
     public TextBox getUsernameTextBox() {
+        flushActions();
         return usernameTextBox;
     }
     
@@ -410,6 +461,7 @@ public class EnhancedLoginPage extends BasePage {
      * @return TextBox wrapper for password field
      */
     public TextBox getPasswordTextBox() {
+        flushActions();
         return passwordTextBox;
     }
     
@@ -418,6 +470,7 @@ public class EnhancedLoginPage extends BasePage {
      * @return Button wrapper for login button
      */
     public Button getLoginButtonWrapper() {
+        flushActions();
         return loginButton;
     }
     
@@ -426,6 +479,7 @@ public class EnhancedLoginPage extends BasePage {
      * @return Dropdown wrapper for language selector
      */
     public Dropdown getLanguageDropdown() {
+        flushActions();
         return languageDropdown;
     }
     
@@ -2,6 +2,8 @@ package com.framework.pages;
 
 import com.framework.base.BasePage;
 import com.framework.utils.ConfigReader;
+import com.framework.utils.SessionStateCache;
+import com.framework.wrappers.FormFiller;
 import io.qameta.allure.Step;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -53,6 +55,16 @@ public class LoginPage extends BasePage {
         super(driver);
     }
     
+    /**
+     * Queue clicks and typing until the next read or navigation
+     * @return LoginPage instance for method chaining
+     */
+    @Override
+    public LoginPage deferActions() {
+        super.deferActions();
+        return this;
+    }
+    
     /**
      * Navigate to login page
      * @return LoginPage instance for method chaining
@@ -108,11 +120,46 @@ public class LoginPage extends BasePage {
      */
     @Step("Login with username: {username}")
     public DashboardPage login(String username, String password) {
-        enterUsername(username);
-        enterPassword(password);
+        if (isDeferringActions()) {
+            // Queued together with the login click into one batch
+            return enterUsername(username).enterPassword(password).clickLoginButton();
+        }
+        FormFiller.on(driver)
+            .set(usernameField, username)
+            .set(passwordField, password)
+            .fill();
+        logger.info("Filled login form for username: {}", username);
         return clickLoginButton();
     }
     
+    /**
+     * Login by restoring a cached authenticated session, falling back to UI login
+     * The restored session is probed by loading the dashboard; a rejected session is invalidated
+     * and replaced by a fresh capture after the UI login
+     * @param username Username to login with
+     * @param password Password to login with
+     * @return DashboardPage instance
+     */
+    @Step("Login with cached session for username: {username}")
+    public DashboardPage loginWithCachedSession(String username, String password) {
+        if (SessionStateCache.restore(driver, username, password)) {
+            navigateToUrl(ConfigReader.getBaseUrl() + "/dashboard");
+            DashboardPage dashboardPage = new DashboardPage(driver);
+            if (dashboardPage.isPageLoaded()) {
+                logger.info("Logged in using cached session for: {}", username);
+                return dashboardPage;
+            }
+            logger.info("Cached session rejected for: {}, logging in through UI", username);
+            SessionStateCache.invalidate(username, password);
+        }
+        
+        DashboardPage dashboardPage = navigateToLoginPage().login(username, password);
+        if (dashboardPage.isPageLoaded()) {
+            SessionStateCache.capture(driver, username, password);
+        }
+        return dashboardPage;
+    }
+    
     /**
      * Click remember me checkbox
      * @return LoginPage instance for method chaining
@@ -1,6 +1,7 @@
 package com.framework.pages;
 
 import com.framework.base.BasePage;
+import com.framework.utils.ListHarvester;
 import io.qameta.allure.Step;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -9,6 +10,7 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -150,6 +152,24 @@ public class SearchPage extends BasePage {
         return titles;
     }
     
+    /**
+     * Harvest all search results by scrolling the (virtualized or infinite) result list in the browser
+     * Unlike getAllSearchResultTitles this also sees rows that are not rendered yet
+     * @param maxResults Maximum number of results (0 = all)
+     * @return Result records with key and text, deduplicated by their data-id (results may share a title)
+     */
+    @Step("Harvest search results")
+    public List<Map<String, String>> harvestSearchResults(int maxResults) {
+        flushActions();
+        waitForElementToBeVisible(searchResultsContainer);
+        List<Map<String, String>> results = new ListHarvester(driver, searchResultsContainer, "div.search-result-item")
+            .keyAttribute("data-id")
+            .maxRows(maxResults)
+            .harvest();
+        logger.info("Harvested {} search results", results.size());
+        return results;
+    }
+    
     /**
      * Check if no results message is displayed
      * @return true if no results message is displayed, false otherwise
@@ -0,0 +1,176 @@
+package com.framework.utils;
+
+import com.framework.exceptions.FrameworkException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Browser context manager for running many isolated sessions inside one shared browser process
+ * This demonstrates:
+ * 1. Singleton Pattern - One shared host browser per JVM
+ * 2. Encapsulation - CDP browser context handling hidden behind acquire/release
+ *
+ * Each acquired session gets its own CDP browser context (separate cookies, storage and cache)
+ * and its own lightweight ChromeDriver attached to the shared browser through its debugger address.
+ * Only the host browser process is started, so parallel threads no longer need one Chrome each.
+ */
+public class BrowserContextManager {
+
+    private static final Logger logger = LogManager.getLogger(BrowserContextManager.class);
+    private static final Object hostLock = new Object();
+    private static final Map<WebDriver, String> contextIds = new ConcurrentHashMap<>();
+    private static ChromeDriver hostDriver;
+    private static String debuggerAddress;
+
+    /**
+     * Private constructor to prevent instantiation (Utility class pattern)
+     */
+    private BrowserContextManager() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Acquire a driver bound to a fresh isolated browser context
+     * @param hostFactory Factory used to start the shared host browser on first use
+     * @return WebDriver instance attached to its own browser context
+     */
+    public static WebDriver acquire(Supplier<ChromeDriver> hostFactory) {
+        String contextId = null;
+        try {
+            ChromeDriver host = getHost(hostFactory);
+
+            String targetId;
+            synchronized (hostLock) {
+                Map<String, Object> context = host.executeCdpCommand("Target.createBrowserContext", Map.of());
+                contextId = String.valueOf(context.get("browserContextId"));
+                Map<String, Object> target = host.executeCdpCommand("Target.createTarget",
+                    Map.of("url", "about:blank", "browserContextId", contextId));
+                targetId = String.valueOf(target.get("targetId"));
+            }
+
+            ChromeOptions options = new ChromeOptions();
+            options.setExperimentalOption("debuggerAddress", debuggerAddress);
+            ChromeDriver driver = new ChromeDriver(options);
+
+            // ChromeDriver uses DevTools target ids as window handles
+            driver.switchTo().window(targetId);
+            contextIds.put(driver, contextId);
+
+            logger.info("Acquired isolated browser context {} on shared browser {}", contextId, debuggerAddress);
+            return driver;
+
+        } catch (Exception e) {
+            if (contextId != null) {
+                disposeContext(contextId);
+            }
+            logger.error("Failed to acquire isolated browser context", e);
+            throw new FrameworkException("Failed to acquire isolated browser context", e);
+        }
+    }
+
+    /**
+     * Check if driver was acquired from this manager
+     * @param driver WebDriver instance
+     * @return true if driver is bound to a managed browser context, false otherwise
+     */
+    public static boolean isContextDriver(WebDriver driver) {
+        return driver != null && contextIds.containsKey(driver);
+    }
+
+    /**
+     * Release a context driver and dispose its browser context
+     * Quitting an attached ChromeDriver leaves the shared browser running
+     * @param driver WebDriver instance acquired from this manager
+     */
+    public static void release(WebDriver driver) {
+        String contextId = contextIds.remove(driver);
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            logger.error("Error occurred while detaching context driver", e);
+        } finally {
+            if (contextId != null) {
+                disposeContext(contextId);
+            }
+        }
+    }
+
+    /**
+     * Shut down the shared host browser
+     */
+    public static void shutdown() {
+        synchronized (hostLock) {
+            if (hostDriver != null) {
+                try {
+                    hostDriver.quit();
+                    logger.info("Shared host browser quit successfully");
+                } catch (Exception e) {
+                    logger.error("Error occurred while quitting shared host browser", e);
+                } finally {
+                    hostDriver = null;
+                    debuggerAddress = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Get shared host browser, starting it on first use
+     * @param hostFactory Factory used to start the host browser
+     * @return Host ChromeDriver instance
+     */
+    private static ChromeDriver getHost(Supplier<ChromeDriver> hostFactory) {
+        synchronized (hostLock) {
+            if (hostDriver == null) {
+                hostDriver = hostFactory.get();
+                debuggerAddress = readDebuggerAddress(hostDriver);
+                Runtime.getRuntime().addShutdownHook(new Thread(BrowserContextManager::shutdown));
+                logger.info("Started shared host browser with debugger address: {}", debuggerAddress);
+            }
+            return hostDriver;
+        }
+    }
+
+    /**
+     * Read DevTools debugger address from ChromeDriver capabilities
+     * @param driver Host ChromeDriver instance
+     * @return Debugger address (host:port)
+     */
+    @SuppressWarnings("unchecked")
+    private static String readDebuggerAddress(WebDriver driver) {
+        Object chromeOptions = ((HasCapabilities) driver).getCapabilities().getCapability("goog:chromeOptions");
+        if (chromeOptions instanceof Map) {
+            Object address = ((Map<String, Object>) chromeOptions).get("debuggerAddress");
+            if (address != null) {
+                return address.toString();
+            }
+        }
+        throw new FrameworkException("Host browser did not report a DevTools debugger address");
+    }
+
+    /**
+     * Dispose browser context and all of its pages
+     * @param contextId Browser context id
+     */
+    private static void disposeContext(String contextId) {
+        synchronized (hostLock) {
+            if (hostDriver == null) {
+                return;
+            }
+            try {
+                hostDriver.executeCdpCommand("Target.disposeBrowserContext", Map.of("browserContextId", contextId));
+                logger.info("Disposed browser context: {}", contextId);
+            } catch (Exception e) {
+                logger.warn("Failed to dispose browser context {}: {}", contextId, e.getMessage());
+            }
+        }
+    }
+}
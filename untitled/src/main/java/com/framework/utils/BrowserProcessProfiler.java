@@ -0,0 +1,296 @@
+package com.framework.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resource profiler for the driver and browser processes of a session
+ * This demonstrates:
+ * 1. Observer Pattern - Periodic sampling of a session's process tree in the background
+ * 2. Encapsulation - Process discovery and /proc parsing hidden behind start/drain methods
+ *
+ * The browser process is found through the session capabilities: the user data directory reported
+ * by ChromeDriver/EdgeDriver (matched against --user-data-dir on browser command lines) or the
+ * moz:processID reported by GeckoDriver. The tree below its driver process is sampled every
+ * performance.process.sample.interval.ms for total RSS, CPU (percent of one core) and threads,
+ * and broken down by process type (driver, browser, renderer, gpu-process, ...).
+ * Samples are drained per test into a compact JSON time series with peak values.
+ * In driver.mode=context all sessions share one browser, so each test sees the shared process.
+ * Linux only (/proc).
+ */
+public class BrowserProcessProfiler {
+
+    private static final Logger logger = LogManager.getLogger(BrowserProcessProfiler.class);
+    private static final int TICKS_PER_SECOND = 100;
+    private static final Map<WebDriver, Profile> profilesByDriver = new ConcurrentHashMap<>();
+    private static ScheduledExecutorService sampler;
+
+    /**
+     * Private constructor to prevent instantiation (Utility class pattern)
+     */
+    private BrowserProcessProfiler() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Discover the process tree of the driver session and start sampling it
+     * @param driver WebDriver instance
+     */
+    public static void start(WebDriver driver) {
+        if (!ConfigReader.isProcessProfilingEnabled()) {
+            return;
+        }
+        if (!ProcFs.isAvailable()) {
+            logger.warn("Process profiling needs /proc, skipping");
+            return;
+        }
+        try {
+            long rootPid = findRootPid(driver);
+            if (rootPid <= 0) {
+                logger.warn("Could not find browser processes of {} session, skipping process profiling",
+                    driver.getClass().getSimpleName());
+                return;
+            }
+            Profile profile = new Profile(rootPid);
+            profile.sample();
+            long interval = ConfigReader.getProcessSampleInterval();
+            profile.task = sampler().scheduleAtFixedRate(profile::sample, interval, interval, TimeUnit.MILLISECONDS);
+            profilesByDriver.put(driver, profile);
+            logger.info("Process profiling started for process tree of pid {}", rootPid);
+        } catch (Exception e) {
+            logger.error("Failed to start process profiling, continuing without it", e);
+        }
+    }
+
+    /**
+     * Build the time series sampled since the last drain and reset it
+     * @param driver WebDriver instance
+     * @return Profile JSON or null if the session is not profiled
+     */
+    public static String drain(WebDriver driver) {
+        Profile profile = driver != null ? profilesByDriver.get(driver) : null;
+        if (profile == null) {
+            return null;
+        }
+        profile.sample();
+        return profile.drain();
+    }
+
+    /**
+     * Stop sampling the driver session
+     * @param driver WebDriver instance
+     */
+    public static void release(WebDriver driver) {
+        Profile profile = driver != null ? profilesByDriver.remove(driver) : null;
+        if (profile != null && profile.task != null) {
+            profile.task.cancel(false);
+        }
+    }
+
+    /**
+     * Find the process to profile: the driver process above the browser, or the browser itself
+     * @param driver WebDriver instance
+     * @return Process id or -1 if not found
+     */
+    static long findRootPid(WebDriver driver) {
+        if (!(driver instanceof HasCapabilities)) {
+            return -1;
+        }
+        Capabilities capabilities = ((HasCapabilities) driver).getCapabilities();
+        List<ProcFs.ProcessInfo> processes = ProcFs.processes();
+        long browserPid = -1;
+
+        Object firefoxPid = capabilities.getCapability("moz:processID");
+        if (firefoxPid instanceof Number) {
+            browserPid = ((Number) firefoxPid).longValue();
+        } else {
+            String userDataDir = chromiumUserDataDir(capabilities);
+            if (userDataDir != null) {
+                String argument = "--user-data-dir=" + userDataDir;
+                for (ProcFs.ProcessInfo process : processes) {
+                    String commandLine = ProcFs.commandLine(process.getPid());
+                    // The browser process is the one without a --type (renderer, gpu-process, ...)
+                    if (commandLine.contains(argument) && !commandLine.contains("--type=")) {
+                        browserPid = process.getPid();
+                        break;
+                    }
+                }
+            }
+        }
+        if (browserPid <= 0) {
+            return -1;
+        }
+        for (ProcFs.ProcessInfo process : processes) {
+            if (process.getPid() == browserPid) {
+                ProcFs.ProcessInfo parent = processes.stream()
+                    .filter(candidate -> candidate.getPid() == process.getParentPid())
+                    .findFirst().orElse(null);
+                return parent != null && parent.getName().contains("driver") ? parent.getPid() : browserPid;
+            }
+        }
+        return browserPid;
+    }
+
+    private static String chromiumUserDataDir(Capabilities capabilities) {
+        for (String vendor : new String[] {"chrome", "msedge"}) {
+            Object options = capabilities.getCapability(vendor);
+            if (options instanceof Map && ((Map<?, ?>) options).get("userDataDir") != null) {
+                return String.valueOf(((Map<?, ?>) options).get("userDataDir"));
+            }
+        }
+        return null;
+    }
+
+    private static synchronized ScheduledExecutorService sampler() {
+        if (sampler == null) {
+            sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "process-profiler");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return sampler;
+    }
+
+    /**
+     * Type of a process in the session tree
+     * @param process Process
+     * @param commandLine Command line of the process
+     * @return driver, browser or the Chromium --type value (renderer, gpu-process, utility, ...)
+     */
+    private static String processType(ProcFs.ProcessInfo process, String commandLine) {
+        if (process.getName().contains("driver")) {
+            return "driver";
+        }
+        int type = commandLine.indexOf("--type=");
+        if (type < 0) {
+            return "Web Content".equals(process.getName()) ? "content" : "browser";
+        }
+        int end = commandLine.indexOf(' ', type);
+        return commandLine.substring(type + 7, end > 0 ? end : commandLine.length());
+    }
+
+    /**
+     * Samples of one session
+     */
+    private static class Profile {
+
+        private final long rootPid;
+        private final long startNanos = System.nanoTime();
+        private final Map<Long, Long> lastCpuTicks = new HashMap<>();
+        private final Map<Long, String> typeByPid = new HashMap<>();
+        private final List<long[]> samples = new ArrayList<>();
+        private final Map<String, Long> peakRssByType = new LinkedHashMap<>();
+        private long lastSampleNanos;
+        private ScheduledFuture<?> task;
+
+        private Profile(long rootPid) {
+            this.rootPid = rootPid;
+        }
+
+        /**
+         * Record total RSS, CPU since the previous sample, threads and process count of the tree
+         */
+        private synchronized void sample() {
+            try {
+                List<ProcFs.ProcessInfo> tree = ProcFs.processTree(ProcFs.processes(), rootPid);
+                long now = System.nanoTime();
+                long rssKb = 0;
+                long cpuTicks = 0;
+                long threads = 0;
+                Map<String, Long> rssByType = new HashMap<>();
+                for (ProcFs.ProcessInfo process : tree) {
+                    rssKb += process.getRssKb();
+                    threads += process.getThreads();
+                    long ticks = ProcFs.processCpuTicks(process.getPid());
+                    Long previous = lastCpuTicks.put(process.getPid(), ticks);
+                    if (ticks >= 0) {
+                        cpuTicks += ticks - (previous != null && previous >= 0 ? previous : ticks);
+                    }
+                    String type = typeByPid.computeIfAbsent(process.getPid(),
+                        pid -> processType(process, ProcFs.commandLine(pid)));
+                    rssByType.merge(type, process.getRssKb(), Long::sum);
+                }
+                rssByType.forEach((type, kb) -> peakRssByType.merge(type, kb, Math::max));
+                // Forget processes that exited
+                List<Long> running = tree.stream().map(ProcFs.ProcessInfo::getPid).toList();
+                lastCpuTicks.keySet().retainAll(running);
+                typeByPid.keySet().retainAll(running);
+
+                long elapsedNanos = lastSampleNanos > 0 ? now - lastSampleNanos : 0;
+                long cpuPercent = elapsedNanos > 0
+                    ? Math.round(cpuTicks * 100.0 / TICKS_PER_SECOND / (elapsedNanos / 1e9))
+                    : 0;
+                lastSampleNanos = now;
+                samples.add(new long[] {TimeUnit.NANOSECONDS.toMillis(now - startNanos), rssKb, cpuPercent, threads, tree.size()});
+            } catch (Exception e) {
+                logger.debug("Process sample failed: {}", e.getMessage());
+            }
+        }
+
+        private synchronized String drain() {
+            List<Long> offsets = new ArrayList<>();
+            List<Long> rssMb = new ArrayList<>();
+            List<Long> cpuPercent = new ArrayList<>();
+            List<Long> threads = new ArrayList<>();
+            List<Long> processes = new ArrayList<>();
+            long peakRssKb = 0;
+            long peakCpu = 0;
+            long peakThreads = 0;
+            long peakProcesses = 0;
+            for (long[] sample : samples) {
+                offsets.add(sample[0]);
+                rssMb.add(sample[1] / 1024);
+                cpuPercent.add(sample[2]);
+                threads.add(sample[3]);
+                processes.add(sample[4]);
+                peakRssKb = Math.max(peakRssKb, sample[1]);
+                peakCpu = Math.max(peakCpu, sample[2]);
+                peakThreads = Math.max(peakThreads, sample[3]);
+                peakProcesses = Math.max(peakProcesses, sample[4]);
+            }
+
+            Map<String, Object> peak = new LinkedHashMap<>();
+            peak.put("rssMb", peakRssKb / 1024);
+            peak.put("cpuPercent", peakCpu);
+            peak.put("threads", peakThreads);
+            peak.put("processes", peakProcesses);
+            Map<String, Long> peakRssMbByType = new LinkedHashMap<>();
+            peakRssByType.forEach((type, kb) -> peakRssMbByType.put(type, kb / 1024));
+            peak.put("rssMbByType", peakRssMbByType);
+
+            Map<String, Object> series = new LinkedHashMap<>();
+            series.put("offsetMs", offsets);
+            series.put("rssMb", rssMb);
+            series.put("cpuPercent", cpuPercent);
+            series.put("threads", threads);
+            series.put("processes", processes);
+
+            Map<String, Object> document = new LinkedHashMap<>();
+            document.put("rootPid", rootPid);
+            document.put("peak", peak);
+            document.put("samples", series);
+            logger.info("Browser processes peaked at {} MB RSS, {}% CPU, {} threads in {} processes",
+                peakRssKb / 1024, peakCpu, peakThreads, peakProcesses);
+
+            samples.clear();
+            peakRssByType.clear();
+            return new Json().toJson(document);
+        }
+    }
+}
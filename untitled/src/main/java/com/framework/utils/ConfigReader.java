@@ -6,6 +6,9 @@ import org.apache.logging.log4j.Logger;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -49,11 +52,12 @@ public class ConfigReader {
     
     /**
      * Get property value by key
+     * System properties (-Dkey=value) take precedence over the config file
      * @param key Property key
      * @return Property value
      */
     private static String getProperty(String key) {
-        String value = properties.getProperty(key);
+        String value = System.getProperty(key, properties.getProperty(key));
         if (value == null || value.trim().isEmpty()) {
             logger.error("Property '{}' not found or empty in configuration file", key);
             throw new FrameworkException("Property '" + key + "' not found or empty in configuration file");
@@ -68,7 +72,7 @@ public class ConfigReader {
      * @return Property value or default value
      */
     private static String getProperty(String key, String defaultValue) {
-        String value = properties.getProperty(key);
+        String value = System.getProperty(key, properties.getProperty(key));
         if (value == null || value.trim().isEmpty()) {
             logger.warn("Property '{}' not found, using default value: {}", key, defaultValue);
             return defaultValue;
@@ -76,6 +80,23 @@ public class ConfigReader {
         return value.trim();
     }
     
+    /**
+     * Get comma separated property value as list
+     * @param key Property key
+     * @return List of trimmed, non-empty values (empty list if property not found)
+     */
+    private static List<String> getListProperty(String key) {
+        String value = System.getProperty(key, properties.getProperty(key));
+        List<String> values = new ArrayList<>();
+        if (value != null) {
+            Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .forEach(values::add);
+        }
+        return values;
+    }
+    
     /**
      * Get browser type from configuration
      * @return Browser type
@@ -140,6 +161,110 @@ public class ConfigReader {
         return Boolean.parseBoolean(getProperty("screenshot.on.failure", "true"));
     }
     
+    /**
+     * Check if failures are grouped into clusters at the end of the run
+     * @return true if the failure cluster summary is produced, false otherwise
+     */
+    public static boolean isFailureClusteringEnabled() {
+        return Boolean.parseBoolean(getProperty("failure.clustering.enabled", "true"));
+    }
+    
+    /**
+     * Get path of the failure cluster summary
+     * @return JSON file path
+     */
+    public static String getFailureClustersPath() {
+        return getProperty("failure.clusters.path", "target/failure-clusters.json");
+    }
+    
+    /**
+     * Check if a DOM snapshot is attached to failed tests
+     * @return true if failures get a compressed DOM snapshot, false otherwise
+     */
+    public static boolean isDomSnapshotEnabled() {
+        return Boolean.parseBoolean(getProperty("dom.snapshot.enabled", "true"));
+    }
+    
+    /**
+     * Get maximum compressed size of a DOM snapshot attachment
+     * @return Size cap in kilobytes
+     */
+    public static int getDomSnapshotMaxKb() {
+        return Integer.parseInt(getProperty("dom.snapshot.max.kb", "512"));
+    }
+    
+    /**
+     * Check if passing DOM snapshots are kept per page class for diffing failures against
+     * @return true if failures get a diff against the last passing snapshot, false otherwise
+     */
+    public static boolean isDomBaselineEnabled() {
+        return Boolean.parseBoolean(getProperty("dom.snapshot.baseline.enabled", "true"));
+    }
+    
+    /**
+     * Get directory of the passing DOM snapshots
+     * @return Baseline directory
+     */
+    public static String getDomBaselineDir() {
+        return getProperty("dom.snapshot.baseline.dir", ".dom-baselines");
+    }
+    
+    /**
+     * Check if visual checkpoints are compared against their baselines
+     * @return true if verifyVisual compares screenshots, false if checkpoints are skipped
+     */
+    public static boolean isVisualEnabled() {
+        return Boolean.parseBoolean(getProperty("visual.enabled", "true"));
+    }
+    
+    /**
+     * Get directory of the visual baseline screenshots (one subdirectory per browser)
+     * @return Baseline directory
+     */
+    public static String getVisualBaselineDir() {
+        return getProperty("visual.baseline.dir", "src/test/resources/visual-baselines");
+    }
+    
+    /**
+     * Check if visual baselines are overwritten with the current screenshots
+     * @return true if baselines are updated instead of compared, false otherwise
+     */
+    public static boolean isVisualBaselineUpdate() {
+        return Boolean.parseBoolean(getProperty("visual.baseline.update", "false"));
+    }
+    
+    /**
+     * Get edge length of the tiles compared in parallel
+     * @return Tile size in pixels
+     */
+    public static int getVisualTileSize() {
+        return Integer.parseInt(getProperty("visual.tile.size", "64"));
+    }
+    
+    /**
+     * Get maximum per-channel color difference treated as equal
+     * @return Color tolerance (0-255)
+     */
+    public static int getVisualColorTolerance() {
+        return Integer.parseInt(getProperty("visual.color.tolerance", "8"));
+    }
+    
+    /**
+     * Check if differences on anti-aliased edges are ignored
+     * @return true if anti-aliased pixels are ignored, false otherwise
+     */
+    public static boolean isVisualIgnoreAntialiasing() {
+        return Boolean.parseBoolean(getProperty("visual.ignore.antialiasing", "true"));
+    }
+    
+    /**
+     * Get maximum share of differing pixels before a visual checkpoint fails
+     * @return Diff ratio (0.0 - 1.0)
+     */
+    public static double getVisualMaxDiffRatio() {
+        return Double.parseDouble(getProperty("visual.max.diff.ratio", "0.001"));
+    }
+    
     /**
      * Get test environment
      * @return Test environment (dev, staging, prod, etc.)
@@ -163,4 +288,470 @@ public class ConfigReader {
     public static int getThreadCount() {
         return Integer.parseInt(getProperty("thread.count", "1"));
     }
+    
+    /**
+     * Get driver mode
+     * "process" starts one browser per session, "context" runs isolated browser contexts inside one shared browser
+     * @return Driver mode
+     */
+    public static String getDriverMode() {
+        return getProperty("driver.mode", "process").toLowerCase();
+    }
+    
+    /**
+     * Check if network interception (request blocking and stubbing) is enabled
+     * @return true if network interception is enabled, false otherwise
+     */
+    public static boolean isNetworkInterceptionEnabled() {
+        return Boolean.parseBoolean(getProperty("network.interception.enabled", "false"));
+    }
+    
+    /**
+     * Get URL patterns to block for the current environment
+     * Combines network.block.patterns with network.block.patterns.&lt;environment&gt;
+     * @return List of URL patterns ('*' wildcards allowed)
+     */
+    public static List<String> getNetworkBlockPatterns() {
+        List<String> patterns = getListProperty("network.block.patterns");
+        patterns.addAll(getListProperty("network.block.patterns." + getEnvironment()));
+        return patterns;
+    }
+    
+    /**
+     * Get third-party hosts to short-circuit with empty responses for the current environment
+     * Combines network.stub.hosts with network.stub.hosts.&lt;environment&gt;
+     * @return List of host names
+     */
+    public static List<String> getNetworkStubHosts() {
+        List<String> hosts = getListProperty("network.stub.hosts");
+        hosts.addAll(getListProperty("network.stub.hosts." + getEnvironment()));
+        return hosts;
+    }
+    
+    /**
+     * Get estimated response size of requests saved by a block pattern or stubbed host
+     * Looks up network.saved.bytes.&lt;pattern or host&gt; as configured in the block and stub lists
+     * @param patternOrHost Block pattern or stubbed host
+     * @return Estimated bytes per request or -1 if no valid estimate is configured
+     */
+    public static long getNetworkSavedBytes(String patternOrHost) {
+        String key = "network.saved.bytes." + patternOrHost;
+        String value = System.getProperty(key, properties.getProperty(key));
+        if (value == null || value.trim().isEmpty()) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Property '{}' is not a number of bytes: '{}', ignoring the estimate", key, value);
+            return -1;
+        }
+    }
+    
+    /**
+     * Check if authenticated session caching is enabled
+     * @return true if session state may be restored instead of logging in through the UI, false otherwise
+     */
+    public static boolean isSessionCacheEnabled() {
+        return Boolean.parseBoolean(getProperty("session.cache.enabled", "true"));
+    }
+    
+    /**
+     * Get time to live for cached authenticated sessions
+     * @return Session cache TTL in seconds
+     */
+    public static int getSessionCacheTtl() {
+        return Integer.parseInt(getProperty("session.cache.ttl.seconds", "900"));
+    }
+    
+    /**
+     * Check if performance timeline capture is enabled
+     * @return true if navigation, resource and web vitals timings are captured per navigation, false otherwise
+     */
+    public static boolean isPerformanceCaptureEnabled() {
+        return Boolean.parseBoolean(getProperty("performance.capture.enabled", "false"));
+    }
+    
+    /**
+     * Check if HAR capture is enabled
+     * @return true if network traffic is recorded as HAR per test, false otherwise
+     */
+    public static boolean isHarCaptureEnabled() {
+        return Boolean.parseBoolean(getProperty("performance.har.enabled", "false"));
+    }
+    
+    /**
+     * Check if performance budgets fail the test when exceeded
+     * @return true if budget violations fail the test, false if they are only reported
+     */
+    public static boolean isPerformanceBudgetEnforced() {
+        return Boolean.parseBoolean(getProperty("performance.budget.enforce", "false"));
+    }
+    
+    /**
+     * Get performance budget for a page class and metric
+     * Looks up performance.budget.&lt;PageClass&gt;.&lt;metric&gt;, then performance.budget.default.&lt;metric&gt;
+     * @param pageName Simple name of the page class
+     * @param metric Metric name (ttfb, domContentLoaded, load, lcp, cls, inp, longTaskTotal, transferSize)
+     * @return Budget value or -1 if no budget is configured
+     */
+    public static double getPerformanceBudget(String pageName, String metric) {
+        String value = System.getProperty("performance.budget." + pageName + "." + metric,
+            properties.getProperty("performance.budget." + pageName + "." + metric,
+                properties.getProperty("performance.budget.default." + metric)));
+        return value == null || value.trim().isEmpty() ? -1 : Double.parseDouble(value.trim());
+    }
+    
+    /**
+     * Get path of the historical test duration store
+     * @return Duration store file path
+     */
+    public static String getTestHistoryPath() {
+        return getProperty("test.history.path", ".test-history/durations.json");
+    }
+    
+    /**
+     * Check if duration-aware (longest processing time first) scheduling is enabled
+     * @return true if test methods are reordered longest-first, false otherwise
+     */
+    public static boolean isDurationAwareScheduling() {
+        return Boolean.parseBoolean(getProperty("scheduling.duration.aware", "true"));
+    }
+    
+    /**
+     * Get number of forked JVMs used by the sharded suite runner
+     * @return Shard count, 0 to derive it from available cores and the suite thread-count
+     */
+    public static int getShardCount() {
+        return Integer.parseInt(getProperty("shard.count", "0"));
+    }
+    
+    /**
+     * Get working directory of the sharded suite runner
+     * @return Directory holding per-shard suites, outputs and merged TestNG results
+     */
+    public static String getShardWorkDir() {
+        return getProperty("shard.work.dir", "target/shards");
+    }
+    
+    /**
+     * Get path of the JVM startup timing report
+     * @return Report file path
+     */
+    public static String getStartupTimingPath() {
+        return getProperty("startup.timing.path", "target/startup-timing.json");
+    }
+    
+    /**
+     * Get directory of the class-data-sharing archives used by shard JVMs
+     * @return Archive directory, empty if class-data sharing is off
+     */
+    public static String getCdsArchiveDir() {
+        return getProperty("startup.cds.dir", "");
+    }
+    
+    /**
+     * Check if test impact recording is enabled
+     * @return true if page object and locator usage is recorded per test, false otherwise
+     */
+    public static boolean isImpactRecordingEnabled() {
+        return Boolean.parseBoolean(getProperty("impact.recording.enabled", "true"));
+    }
+    
+    /**
+     * Get path of the persisted test impact map
+     * @return Impact map file path
+     */
+    public static String getImpactMapPath() {
+        return getProperty("impact.map.path", ".test-impact/impact-map.json");
+    }
+    
+    /**
+     * Get explicitly changed source files for impact-based test selection
+     * @return List of repository-relative file paths, empty if not given
+     */
+    public static List<String> getImpactChangedFiles() {
+        return getListProperty("impact.changed.files");
+    }
+    
+    /**
+     * Get git ref to diff against for impact-based test selection
+     * @return Base ref (e.g. origin/main) or empty string if selection by git diff is disabled
+     */
+    public static String getImpactBaseRef() {
+        return getProperty("impact.base.ref", "");
+    }
+    
+    /**
+     * Get explicitly changed locators for impact-based test selection
+     * @return List of locators as PageClass.field, empty if not given
+     */
+    public static List<String> getImpactChangedLocators() {
+        return getListProperty("impact.changed.locators");
+    }
+    
+    /**
+     * Get number of workers data source rows are split across
+     * @return Data shard count (1 = every worker reads all rows)
+     */
+    public static int getDataShardCount() {
+        return Integer.parseInt(getProperty("data.shard.count", "1"));
+    }
+    
+    /**
+     * Get index of this worker for data source row sharding
+     * @return Data shard index (0-based)
+     */
+    public static int getDataShardIndex() {
+        return Integer.parseInt(getProperty("data.shard.index", "0"));
+    }
+    
+    /**
+     * Check if forms are filled with real keystrokes instead of one fill script
+     * @return true if every FormFiller field is typed, false otherwise
+     */
+    public static boolean isFormFillKeystrokes() {
+        return Boolean.parseBoolean(getProperty("form.fill.keystrokes", "false"));
+    }
+    
+    /**
+     * Get time a harvested list must stay at its end without new rows before harvesting stops
+     * @return Settle time in milliseconds
+     */
+    public static int getHarvestSettleMillis() {
+        return Integer.parseInt(getProperty("list.harvest.settle.ms", "1500"));
+    }
+    
+    /**
+     * Get delay between scroll steps of list harvesting
+     * @return Scroll interval in milliseconds
+     */
+    public static int getHarvestScrollInterval() {
+        return Integer.parseInt(getProperty("list.harvest.scroll.interval.ms", "100"));
+    }
+    
+    /**
+     * Get maximum duration of one list harvest
+     * @return Harvest timeout in seconds
+     */
+    public static int getHarvestTimeout() {
+        return Integer.parseInt(getProperty("list.harvest.timeout.seconds", "300"));
+    }
+    
+    /**
+     * Check if the embedded fixture server should serve the application under test
+     * @return true if tests run against FixtureServer, false otherwise
+     */
+    public static boolean isFixtureServerEnabled() {
+        return Boolean.parseBoolean(getProperty("fixture.server.enabled", "false"));
+    }
+    
+    /**
+     * Get port of the embedded fixture server
+     * @return Port number (0 = any free port)
+     */
+    public static int getFixtureServerPort() {
+        return Integer.parseInt(getProperty("fixture.server.port", "0"));
+    }
+    
+    /**
+     * Get latency added to every fixture server response
+     * @return Latency in milliseconds
+     */
+    public static int getFixtureLatency() {
+        return Integer.parseInt(getProperty("fixture.latency.ms", "0"));
+    }
+    
+    /**
+     * Get maximum random deviation from the fixture server latency
+     * @return Jitter in milliseconds
+     */
+    public static int getFixtureJitter() {
+        return Integer.parseInt(getProperty("fixture.jitter.ms", "0"));
+    }
+    
+    /**
+     * Get seed of the fixture server jitter, making delays reproducible between runs
+     * @return Random seed
+     */
+    public static long getFixtureJitterSeed() {
+        return Long.parseLong(getProperty("fixture.jitter.seed", "42"));
+    }
+    
+    /**
+     * Get number of results the fixture server returns for a search
+     * @return Number of search results
+     */
+    public static int getFixtureSearchResults() {
+        return Integer.parseInt(getProperty("fixture.search.results", "25"));
+    }
+    
+    /**
+     * Get traffic archive mode
+     * @return off, record or replay
+     */
+    public static String getTrafficArchiveMode() {
+        return getProperty("traffic.archive.mode", "off").toLowerCase();
+    }
+    
+    /**
+     * Get directory of the traffic archive
+     * @return Archive directory path
+     */
+    public static String getTrafficArchivePath() {
+        return getProperty("traffic.archive.path", ".traffic-archive");
+    }
+    
+    /**
+     * Get index file of the traffic archive
+     * Shards of a sharded recording write an index of their own, merged into the archive after the run
+     * @return Index file path (default index.jsonl.gz in the archive directory)
+     */
+    public static String getTrafficArchiveIndexPath() {
+        return getProperty("traffic.archive.index.path", getTrafficArchivePath() + "/index.jsonl.gz");
+    }
+    
+    /**
+     * Get factor applied to recorded server latency when replaying responses
+     * @return Latency factor (0 = no delay, 1 = recorded latency)
+     */
+    public static double getTrafficReplayLatencyFactor() {
+        return Double.parseDouble(getProperty("traffic.replay.latency.factor", "0"));
+    }
+    
+    /**
+     * Check if requests missing from the traffic archive go to the network during replay
+     * @return true to load missing requests live, false to answer them with 404
+     */
+    public static boolean isTrafficReplayPassthrough() {
+        return Boolean.parseBoolean(getProperty("traffic.replay.passthrough", "false"));
+    }
+    
+    /**
+     * Check if the number of concurrent browser sessions adapts to host resource headroom
+     * @return true if ParallelismController adjusts the session limit, false otherwise
+     */
+    public static boolean isAdaptiveParallelismEnabled() {
+        return Boolean.parseBoolean(getProperty("parallelism.adaptive.enabled", "false"));
+    }
+    
+    /**
+     * Get lowest number of concurrent browser sessions in adaptive mode
+     * @return Minimum session limit
+     */
+    public static int getParallelismMin() {
+        return Integer.parseInt(getProperty("parallelism.min", "1"));
+    }
+    
+    /**
+     * Get highest number of concurrent browser sessions in adaptive mode
+     * @return Maximum session limit (0 = available processors)
+     */
+    public static int getParallelismMax() {
+        return Integer.parseInt(getProperty("parallelism.max", "0"));
+    }
+    
+    /**
+     * Get host CPU utilization the adaptive session limit aims for
+     * @return Target utilization between 0 and 1
+     */
+    public static double getParallelismTargetCpu() {
+        return Double.parseDouble(getProperty("parallelism.target.cpu", "0.75"));
+    }
+    
+    /**
+     * Get memory that must stay available on the host in adaptive mode
+     * @return Memory reserve in megabytes
+     */
+    public static int getParallelismMemoryReserveMb() {
+        return Integer.parseInt(getProperty("parallelism.memory.reserve.mb", "1024"));
+    }
+    
+    /**
+     * Get interval between host resource samples in adaptive mode
+     * @return Sample interval in milliseconds
+     */
+    public static long getParallelismSampleInterval() {
+        return Long.parseLong(getProperty("parallelism.sample.interval.ms", "2000"));
+    }
+    
+    /**
+     * Check if driver and browser processes are profiled per test
+     * @return true if RSS, CPU and thread samples are attached to each test, false otherwise
+     */
+    public static boolean isProcessProfilingEnabled() {
+        return Boolean.parseBoolean(getProperty("performance.process.profiling.enabled", "false"));
+    }
+    
+    /**
+     * Get interval between browser process samples
+     * @return Sample interval in milliseconds
+     */
+    public static long getProcessSampleInterval() {
+        return Long.parseLong(getProperty("performance.process.sample.interval.ms", "500"));
+    }
+    
+    /**
+     * Check if browser sessions are heartbeated by the driver watchdog
+     * @return true if hung sessions are killed and recycled, false otherwise
+     */
+    public static boolean isWatchdogEnabled() {
+        return Boolean.parseBoolean(getProperty("watchdog.enabled", "false"));
+    }
+    
+    /**
+     * Get interval between watchdog heartbeats
+     * @return Heartbeat interval in seconds
+     */
+    public static int getWatchdogHeartbeatInterval() {
+        return Integer.parseInt(getProperty("watchdog.heartbeat.interval.seconds", "10"));
+    }
+    
+    /**
+     * Get time a heartbeat may take before the session is considered hung
+     * @return Heartbeat timeout in seconds (0 = page load timeout + 30 seconds)
+     */
+    public static int getWatchdogHeartbeatTimeout() {
+        return Integer.parseInt(getProperty("watchdog.heartbeat.timeout.seconds", "0"));
+    }
+    
+    /**
+     * Get time quitting a browser may take before its process tree is killed
+     * @return Quit timeout in seconds
+     */
+    public static int getWatchdogQuitTimeout() {
+        return Integer.parseInt(getProperty("watchdog.quit.timeout.seconds", "30"));
+    }
+    
+    /**
+     * Check if the live run dashboard is served
+     * @return true if test events are streamed over Server-Sent Events, false otherwise
+     */
+    public static boolean isLiveServerEnabled() {
+        return Boolean.parseBoolean(getProperty("live.server.enabled", "false"));
+    }
+    
+    /**
+     * Get port of the live run dashboard
+     * @return Port for an unsharded run, 0 for any free port
+     */
+    public static int getLiveServerPort() {
+        return Integer.parseInt(getProperty("live.server.port", "4040"));
+    }
+    
+    /**
+     * Get number of test events kept for clients connecting late
+     * @return Event buffer size
+     */
+    public static int getLiveServerBufferSize() {
+        return Integer.parseInt(getProperty("live.server.buffer.size", "1000"));
+    }
+    
+    /**
+     * Get number of slowest running tests listed in live snapshots
+     * @return Number of tests
+     */
+    public static int getLiveServerSlowestCount() {
+        return Integer.parseInt(getProperty("live.server.slowest.count", "5"));
+    }
 }
@@ -0,0 +1,39 @@
+package com.framework.utils;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the file a data-driven test method reads its rows from
+ * This demonstrates:
+ * 1. Annotation-driven configuration - Test data bound to the test method, not to provider code
+ * 2. Separation of Concerns - Test data kept in files under src/test/resources
+ *
+ * Used together with the providers of DataSources:
+ * <pre>
+ * &#64;Test(dataProvider = DataSources.SEQUENTIAL, dataProviderClass = DataSources.class)
+ * &#64;DataSource("testdata/search-terms.csv")
+ * public void testSearch(String term, String description) { ... }
+ * </pre>
+ * The file format is taken from the extension: .csv (first line is the header) or
+ * .jsonl (one JSON array or object per line). Values are converted to the parameter
+ * types of the test method in column order.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface DataSource {
+
+    /**
+     * Classpath location of the data file
+     * @return Resource path, e.g. testdata/login-credentials.csv
+     */
+    String value();
+
+    /**
+     * Keys to read, in parameter order, when JSON Lines rows are objects
+     * @return Column names (ignored for CSV and for JSON array rows)
+     */
+    String[] columns() default {};
+}
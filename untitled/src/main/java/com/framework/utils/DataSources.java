@@ -0,0 +1,335 @@
+package com.framework.utils;
+
+import com.framework.exceptions.FrameworkException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+import org.testng.ITestContext;
+import org.testng.annotations.DataProvider;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Streaming TestNG data providers backed by files declared with @DataSource
+ * This demonstrates:
+ * 1. Iterator Pattern - Rows are read lazily, one line at a time
+ * 2. Adapter Pattern - CSV and JSON Lines rows converted to typed test method arguments
+ *
+ * SEQUENTIAL reads the next row only when TestNG asks for it, so memory use does not grow
+ * with the file size. PARALLEL runs rows concurrently on the data-provider-thread-count pool,
+ * but TestNG drains the whole iterator before starting a parallel provider, so every row of
+ * the file is held in memory. Run large files with SEQUENTIAL and spread them over workers
+ * with data.shard.* instead.
+ * Rows can be split across workers with data.shard.index / data.shard.count (taken from the
+ * &lt;test&gt; parameters first, e.g. as set by ShardPlanner, then from configuration); a worker
+ * keeps every row whose index modulo the count equals its own index.
+ */
+public class DataSources {
+
+    public static final String SEQUENTIAL = "dataSource";
+    public static final String PARALLEL = "parallelDataSource";
+
+    private static final Logger logger = LogManager.getLogger(DataSources.class);
+
+    /**
+     * Private constructor to prevent instantiation (Utility class pattern)
+     */
+    private DataSources() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Stream rows of the test method's data source one by one
+     * @param method Test method annotated with @DataSource
+     * @param context Test context
+     * @return Lazy row iterator
+     */
+    @DataProvider(name = SEQUENTIAL)
+    public static Iterator<Object[]> sequential(Method method, ITestContext context) {
+        return open(method, context);
+    }
+
+    /**
+     * Provide rows of the test method's data source for parallel execution
+     * TestNG reads all rows up front for parallel providers, so this is not streaming
+     * @param method Test method annotated with @DataSource
+     * @param context Test context
+     * @return Row iterator, fully consumed by TestNG before the first row runs
+     */
+    @DataProvider(name = PARALLEL, parallel = true)
+    public static Iterator<Object[]> parallel(Method method, ITestContext context) {
+        return open(method, context);
+    }
+
+    /**
+     * Open the data source of a test method
+     * @param method Test method annotated with @DataSource
+     * @param context Test context
+     * @return Lazy row iterator
+     */
+    private static Iterator<Object[]> open(Method method, ITestContext context) {
+        DataSource dataSource = method.getAnnotation(DataSource.class);
+        if (dataSource == null) {
+            throw new FrameworkException("Test method " + method.getName() + " has no @DataSource annotation");
+        }
+
+        String path = dataSource.value();
+        InputStream stream = Thread.currentThread().getContextClassLoader().getResourceAsStream(path);
+        if (stream == null) {
+            throw new FrameworkException("Data source not found on classpath: " + path);
+        }
+
+        int shardCount = Math.max(1, shardParameter(context, "data.shard.count", ConfigReader.getDataShardCount()));
+        int shardIndex = shardParameter(context, "data.shard.index", ConfigReader.getDataShardIndex());
+        logger.info("Streaming rows of {} for {} (shard {} of {})", path, method.getName(), shardIndex, shardCount);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+        RowParser parser = path.endsWith(".csv")
+            ? new CsvRowParser()
+            : path.endsWith(".jsonl") ? new JsonLinesRowParser(dataSource.columns()) : null;
+        if (parser == null) {
+            closeQuietly(reader);
+            throw new FrameworkException("Unsupported data source format (use .csv or .jsonl): " + path);
+        }
+        return new RowIterator(reader, parser, method, path, shardIndex, shardCount);
+    }
+
+    /**
+     * Read a shard setting from the test parameters, falling back to configuration
+     * @param context Test context
+     * @param name Parameter name
+     * @param defaultValue Configured value
+     * @return Shard setting
+     */
+    private static int shardParameter(ITestContext context, String name, int defaultValue) {
+        String value = context != null ? context.getCurrentXmlTest().getParameter(name) : null;
+        return value != null ? Integer.parseInt(value.trim()) : defaultValue;
+    }
+
+    /**
+     * Convert a raw value to a test method parameter type
+     * @param value Raw value (string from CSV, string/number/boolean from JSON)
+     * @param type Parameter type
+     * @return Converted value
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object convert(Object value, Class<?> type) {
+        if (value == null) {
+            return type.isPrimitive() ? convert("0", type) : null;
+        }
+        if (type.isInstance(value) && !(value instanceof Number)) {
+            return value;
+        }
+        String text = String.valueOf(value).trim();
+        if (type == String.class || type == Object.class) {
+            return value instanceof String ? value : text;
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return Boolean.parseBoolean(text);
+        }
+        if (type == int.class || type == Integer.class) {
+            return (int) Double.parseDouble(text);
+        }
+        if (type == long.class || type == Long.class) {
+            return (long) Double.parseDouble(text);
+        }
+        if (type == double.class || type == Double.class) {
+            return Double.parseDouble(text);
+        }
+        if (type.isEnum()) {
+            return Enum.valueOf((Class<Enum>) type, text);
+        }
+        try {
+            return type.getMethod("valueOf", String.class).invoke(null, text);
+        } catch (ReflectiveOperationException e) {
+            throw new FrameworkException("Cannot convert data value '" + text + "' to " + type.getSimpleName(), e);
+        }
+    }
+
+    private static void closeQuietly(BufferedReader reader) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            logger.debug("Failed to close data source: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Parses one line of a data file into raw column values
+     */
+    private interface RowParser {
+
+        /**
+         * Parse a line
+         * @param line Non-empty line
+         * @param firstLine true for the first non-comment line of the file
+         * @return Raw values, or null if the line carries no row (e.g. CSV header)
+         */
+        List<Object> parse(String line, boolean firstLine);
+    }
+
+    /**
+     * CSV rows with a header line, quoted fields and "" escapes (one record per line)
+     */
+    private static class CsvRowParser implements RowParser {
+
+        @Override
+        public List<Object> parse(String line, boolean firstLine) {
+            if (firstLine) {
+                return null;
+            }
+            List<Object> values = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            values.add(field.toString());
+            return values;
+        }
+    }
+
+    /**
+     * JSON Lines rows, each a JSON array (positional) or a JSON object (read by column names)
+     */
+    private static class JsonLinesRowParser implements RowParser {
+
+        private final Json json = new Json();
+        private final String[] columns;
+
+        private JsonLinesRowParser(String[] columns) {
+            this.columns = columns;
+        }
+
+        @Override
+        public List<Object> parse(String line, boolean firstLine) {
+            Object row = json.toType(line, Object.class);
+            if (row instanceof List) {
+                return new ArrayList<>((List<?>) row);
+            }
+            if (row instanceof Map) {
+                if (columns.length == 0) {
+                    throw new FrameworkException("JSON object rows need @DataSource(columns = ...): " + line);
+                }
+                List<Object> values = new ArrayList<>();
+                for (String column : columns) {
+                    values.add(((Map<?, ?>) row).get(column));
+                }
+                return values;
+            }
+            throw new FrameworkException("JSON Lines row must be an array or object: " + line);
+        }
+    }
+
+    /**
+     * Lazy iterator reading ahead exactly one row of this worker's shard
+     */
+    private static class RowIterator implements Iterator<Object[]> {
+
+        private final BufferedReader reader;
+        private final RowParser parser;
+        private final Class<?>[] parameterTypes;
+        private final String path;
+        private final int shardIndex;
+        private final int shardCount;
+        private boolean firstLine = true;
+        private int rowIndex;
+        private int lineNumber;
+        private Object[] next;
+        private boolean finished;
+
+        private RowIterator(BufferedReader reader, RowParser parser, Method method, String path,
+                            int shardIndex, int shardCount) {
+            this.reader = reader;
+            this.parser = parser;
+            this.parameterTypes = method.getParameterTypes();
+            this.path = path;
+            this.shardIndex = shardIndex;
+            this.shardCount = shardCount;
+        }
+
+        @Override
+        public synchronized boolean hasNext() {
+            if (next == null && !finished) {
+                next = readNextRow();
+            }
+            return next != null;
+        }
+
+        @Override
+        public synchronized Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more rows in " + path);
+            }
+            Object[] row = next;
+            next = null;
+            return row;
+        }
+
+        /**
+         * Read lines until the next row of this shard
+         * @return Converted row or null at end of file
+         */
+        private Object[] readNextRow() {
+            try {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (line.isBlank() || line.startsWith("#")) {
+                        continue;
+                    }
+                    List<Object> values = parser.parse(line, firstLine);
+                    firstLine = false;
+                    if (values == null || rowIndex++ % shardCount != shardIndex) {
+                        continue;
+                    }
+                    return toArguments(values);
+                }
+            } catch (IOException e) {
+                throw new FrameworkException("Failed to read data source " + path, e);
+            }
+            finished = true;
+            closeQuietly(reader);
+            return null;
+        }
+
+        private Object[] toArguments(List<Object> values) {
+            if (values.size() != parameterTypes.length) {
+                throw new FrameworkException(String.format("%s line %d has %d values, test method expects %d",
+                    path, lineNumber, values.size(), parameterTypes.length));
+            }
+            Object[] arguments = new Object[parameterTypes.length];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                arguments[i] = convert(values.get(i), parameterTypes[i]);
+            }
+            return arguments;
+        }
+    }
+}
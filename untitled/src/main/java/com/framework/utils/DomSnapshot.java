@@ -0,0 +1,338 @@
+package com.framework.utils;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compressed DOM snapshots of failed tests with a diff against the last passing snapshot
+ * This demonstrates:
+ * 1. Encapsulation - Serialization, compression and diffing hidden behind capture methods
+ * 2. Producer-Consumer - The test thread only serializes, a background thread compresses and writes
+ *
+ * One script call serializes the live DOM one node per line: open shadow roots are inlined as
+ * declarative shadow DOM templates, same-origin frame documents inside their frame element,
+ * current form values as data-live-* attributes (passwords masked). Scripts, style sheets and
+ * inline event handlers are left out. Attachments are prepared on the test thread and written by
+ * the background thread as .html.gz of at most dom.snapshot.max.kb; larger snapshots are truncated.
+ * Every passing test replaces the snapshot of its page class in dom.snapshot.baseline.dir; a failure
+ * on that page class gets a line diff against the last pass. The single writer thread stores snapshots
+ * in test completion order, so the diff reads the newest pass recorded before the failure.
+ */
+public class DomSnapshot {
+
+    private static final Logger logger = LogManager.getLogger(DomSnapshot.class);
+    private static final int MAX_DIFF_LINES = 200;
+    private static final long AWAIT_SECONDS = 30;
+
+    private static final String SERIALIZE_SCRIPT =
+        "var SKIP = { SCRIPT: 1, STYLE: 1, NOSCRIPT: 1, TEMPLATE: 1 };" +
+        "var VOID = { AREA: 1, BASE: 1, BR: 1, COL: 1, EMBED: 1, HR: 1, IMG: 1, INPUT: 1, LINK: 1, META: 1," +
+        "  PARAM: 1, SOURCE: 1, TRACK: 1, WBR: 1 };" +
+        "var out = ['<!DOCTYPE html>', '<!-- ' + location.href.replace(/--/g, '') + ' -->'];" +
+        "var esc = function(text) { return text.replace(/&/g, '&amp;').replace(/</g, '&lt;').replace(/>/g, '&gt;'); };" +
+        "var quote = function(text) { return esc(String(text)).replace(/\"/g, '&quot;'); };" +
+        "var pad = function(depth) { return new Array(depth + 1).join('  '); };" +
+        "var children = function(node, depth) {" +
+        "  for (var child = node.firstChild; child; child = child.nextSibling) { walk(child, depth); }" +
+        "};" +
+        "var walk = function(node, depth) {" +
+        "  if (node.nodeType === 3) {" +
+        "    var text = node.nodeValue.replace(/\\s+/g, ' ').trim();" +
+        "    if (text) { out.push(pad(depth) + esc(text)); }" +
+        "    return;" +
+        "  }" +
+        "  if (node.nodeType !== 1) { return; }" +
+        "  var tag = node.tagName.toUpperCase(), name = node.tagName.toLowerCase();" +
+        "  if (SKIP[tag] || (tag === 'LINK' && /stylesheet|preload/i.test(node.rel || ''))) { return; }" +
+        "  var password = tag === 'INPUT' && node.type === 'password';" +
+        "  var open = '<' + name;" +
+        "  for (var i = 0; i < node.attributes.length; i++) {" +
+        "    var a = node.attributes[i];" +
+        "    if (/^on/i.test(a.name) || (password && a.name === 'value')) { continue; }" +
+        "    open += ' ' + a.name + '=\"' + quote(a.value) + '\"';" +
+        "  }" +
+        "  if (tag === 'INPUT' || tag === 'SELECT' || tag === 'TEXTAREA') {" +
+        "    open += ' data-live-value=\"' + (password ? '***' : quote(node.value)) + '\"';" +
+        "    if (node.checked) { open += ' data-live-checked'; }" +
+        "  }" +
+        "  out.push(pad(depth) + open + '>');" +
+        "  if (VOID[tag]) { return; }" +
+        "  if (node.shadowRoot) {" +
+        "    out.push(pad(depth + 1) + '<template shadowrootmode=\"open\">');" +
+        "    children(node.shadowRoot, depth + 2);" +
+        "    out.push(pad(depth + 1) + '</template>');" +
+        "  }" +
+        "  if (tag === 'IFRAME' || tag === 'FRAME') {" +
+        "    var frame = null;" +
+        "    try { frame = node.contentDocument; } catch (e) { frame = null; }" +
+        "    if (frame && frame.documentElement) { walk(frame.documentElement, depth + 1); }" +
+        "    else { out.push(pad(depth + 1) + '<!-- cross-origin frame not captured -->'); }" +
+        "  }" +
+        "  children(node, depth + 1);" +
+        "  out.push(pad(depth) + '</' + name + '>');" +
+        "};" +
+        "walk(document.documentElement, 0);" +
+        "return out.join('\\n');";
+
+    private static final List<Future<?>> pending = new ArrayList<>();
+    private static ExecutorService writer;
+
+    /**
+     * Private constructor to prevent instantiation (Utility class pattern)
+     */
+    private DomSnapshot() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Attach the DOM of a failed test, and its diff against the last passing snapshot of the page class
+     * Called by TestListener.onTestFailure while the Allure test case is still running
+     * @param driver WebDriver instance, ignored if null
+     */
+    public static void captureFailure(WebDriver driver) {
+        if (!ConfigReader.isDomSnapshotEnabled() || driver == null) {
+            return;
+        }
+        try {
+            String html = serialize(driver);
+            String page = currentPageClass();
+            Path baseline = page != null && ConfigReader.isDomBaselineEnabled() ? baselinePath(page) : null;
+            AllureLifecycle lifecycle = Allure.getLifecycle();
+            String snapshotSource = lifecycle.prepareAttachment(
+                "DOM Snapshot" + (page != null ? " (" + page + ")" : ""), "application/gzip", ".html.gz");
+            String diffSource = baseline != null && Files.exists(baseline)
+                ? lifecycle.prepareAttachment("DOM Diff vs last pass (" + page + ")", "text/plain", ".txt")
+                : null;
+
+            submit(() -> {
+                byte[] compressed = compress(html, ConfigReader.getDomSnapshotMaxKb() * 1024);
+                lifecycle.writeAttachment(snapshotSource, new ByteArrayInputStream(compressed));
+                logger.info("DOM snapshot attached ({} KB, {} KB compressed)", html.length() / 1024, compressed.length / 1024);
+                if (diffSource != null) {
+                    String diff;
+                    try {
+                        diff = diff(decompress(Files.readAllBytes(baseline)), html);
+                    } catch (IOException e) {
+                        // The prepared attachment is already linked to the test, so it gets the reason instead
+                        diff = "Last passing snapshot " + baseline + " is unreadable: " + e.getMessage();
+                    }
+                    lifecycle.writeAttachment(diffSource, new ByteArrayInputStream(diff.getBytes(StandardCharsets.UTF_8)));
+                }
+            });
+        } catch (Exception e) {
+            logger.warn("Failed to capture DOM snapshot: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Store the DOM of a passing test as the last passing snapshot of its page class
+     * @param driver WebDriver instance, ignored if null
+     */
+    public static void recordPass(WebDriver driver) {
+        if (!ConfigReader.isDomSnapshotEnabled() || !ConfigReader.isDomBaselineEnabled() || driver == null) {
+            return;
+        }
+        String page = currentPageClass();
+        if (page == null) {
+            return;
+        }
+        try {
+            String html = serialize(driver);
+            Path baseline = baselinePath(page);
+            submit(() -> {
+                Files.createDirectories(baseline.getParent());
+                Path temp = baseline.resolveSibling(baseline.getFileName() + ".tmp");
+                Files.write(temp, compress(html, Integer.MAX_VALUE));
+                Files.move(temp, baseline, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                logger.debug("Stored DOM baseline of {}", page);
+            });
+        } catch (Exception e) {
+            logger.warn("Failed to capture DOM baseline of {}: {}", page, e.getMessage());
+        }
+    }
+
+    /**
+     * Wait for snapshots still being compressed or written
+     * Called when a test tag finishes, before Allure results are read
+     */
+    public static void awaitPending() {
+        List<Future<?>> futures;
+        synchronized (pending) {
+            futures = new ArrayList<>(pending);
+            pending.clear();
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get(AWAIT_SECONDS, TimeUnit.SECONDS);
+            } catch (ExecutionException | TimeoutException e) {
+                logger.warn("DOM snapshot not written within {} s: {}", AWAIT_SECONDS, e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Serialize the DOM of the current page in one script call
+     * @param driver WebDriver instance
+     * @return Serialized DOM, one node per line
+     */
+    public static String serialize(WebDriver driver) {
+        return String.valueOf(((JavascriptExecutor) driver).executeScript(SERIALIZE_SCRIPT));
+    }
+
+    /**
+     * Compare a snapshot against a baseline line by line
+     * Common leading and trailing lines are skipped, the lines in between are compared as multisets,
+     * which is linear in the snapshot size and robust against moved blocks
+     * @param baseline Baseline snapshot
+     * @param current Current snapshot
+     * @return Removed (-) and added (+) lines, empty summary if equal
+     */
+    public static String diff(String baseline, String current) {
+        String[] before = baseline.split("\n");
+        String[] after = current.split("\n");
+        int prefix = 0;
+        while (prefix < before.length && prefix < after.length && before[prefix].equals(after[prefix])) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < before.length - prefix && suffix < after.length - prefix
+                && before[before.length - 1 - suffix].equals(after[after.length - 1 - suffix])) {
+            suffix++;
+        }
+
+        Map<String, Integer> remaining = new HashMap<>();
+        for (int i = prefix; i < before.length - suffix; i++) {
+            remaining.merge(before[i], 1, Integer::sum);
+        }
+        List<String> added = new ArrayList<>();
+        for (int i = prefix; i < after.length - suffix; i++) {
+            if (remaining.getOrDefault(after[i], 0) > 0) {
+                remaining.merge(after[i], -1, Integer::sum);
+            } else {
+                added.add(after[i]);
+            }
+        }
+        List<String> removed = new ArrayList<>();
+        for (int i = prefix; i < before.length - suffix; i++) {
+            if (remaining.getOrDefault(before[i], 0) > 0) {
+                remaining.merge(before[i], -1, Integer::sum);
+                removed.add(before[i]);
+            }
+        }
+
+        StringBuilder report = new StringBuilder()
+            .append(removed.size()).append(" lines removed, ").append(added.size()).append(" lines added");
+        if (removed.isEmpty() && added.isEmpty()) {
+            return report.append(" - DOM matches the last passing snapshot").toString();
+        }
+        report.append(" (changes between line ").append(prefix + 1).append(" and ")
+            .append(before.length - suffix).append(" of the last passing snapshot)\n");
+        appendLines(report, "- ", removed);
+        appendLines(report, "+ ", added);
+        return report.toString();
+    }
+
+    private static void appendLines(StringBuilder report, String marker, List<String> lines) {
+        for (int i = 0; i < Math.min(MAX_DIFF_LINES, lines.size()); i++) {
+            report.append('\n').append(marker).append(lines.get(i));
+        }
+        if (lines.size() > MAX_DIFF_LINES) {
+            report.append('\n').append(marker).append("... ").append(lines.size() - MAX_DIFF_LINES).append(" more lines");
+        }
+    }
+
+    /**
+     * Gzip a snapshot, truncating it if the compressed size exceeds the cap
+     * @param html Serialized DOM
+     * @param maxBytes Maximum compressed size
+     * @return Gzip bytes
+     */
+    private static byte[] compress(String html, int maxBytes) throws IOException {
+        byte[] compressed = gzip(html);
+        if (compressed.length <= maxBytes) {
+            return compressed;
+        }
+        // Cut proportionally to the compression ratio, with headroom for the marker
+        int keep = (int) (html.length() * (maxBytes * 0.9 / compressed.length));
+        return gzip(html.substring(0, keep) + "\n<!-- truncated: snapshot exceeded " + maxBytes / 1024 + " KB compressed -->");
+    }
+
+    private static byte[] gzip(String text) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+
+    private static String decompress(byte[] compressed) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String currentPageClass() {
+        Class<?> pageClass = TestContext.isActive() ? TestContext.current().getCurrentPageClass() : null;
+        return pageClass != null ? pageClass.getSimpleName() : null;
+    }
+
+    private static Path baselinePath(String page) {
+        return Paths.get(ConfigReader.getDomBaselineDir(), page + ".html.gz");
+    }
+
+    private static void submit(SnapshotTask task) {
+        synchronized (pending) {
+            if (writer == null) {
+                writer = Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "dom-snapshot-writer");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+            pending.removeIf(Future::isDone);
+            pending.add(writer.submit(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    logger.warn("Failed to write DOM snapshot: {}", e.getMessage());
+                }
+            }));
+        }
+    }
+
+    /**
+     * Compression and write work done on the background thread
+     */
+    private interface SnapshotTask {
+        void run() throws Exception;
+    }
+}
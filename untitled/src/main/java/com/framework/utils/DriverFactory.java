@@ -25,7 +25,8 @@ import java.time.Duration;
 public class DriverFactory {
     
     private static final Logger logger = LogManager.getLogger(DriverFactory.class);
-    private static final ThreadLocal<WebDriver> driverThreadLocal = new ThreadLocal<>();
+    // Per test invocation (follows the TestContext across threads), per thread outside of tests
+    private static final TestContext.Local<WebDriver> driverThreadLocal = new TestContext.Local<>();
     
     /**
      * Private constructor to prevent instantiation (Utility class pattern)
@@ -42,10 +43,14 @@ public class DriverFactory {
     public static WebDriver createDriver(String browserType) {
         WebDriver driver = null;
         
+        // Wait until host resources allow one more browser session (adaptive parallelism)
+        ParallelismController.acquireSession();
         try {
             switch (browserType.toLowerCase()) {
                 case "chrome":
-                    driver = createChromeDriver();
+                    driver = isContextMode()
+                        ? BrowserContextManager.acquire(DriverFactory::createChromeDriver)
+                        : createChromeDriver();
                     break;
                 case "firefox":
                     driver = createFirefoxDriver();
@@ -64,6 +69,13 @@ public class DriverFactory {
             // Configure driver settings
             configureDriver(driver);
             
+            // Apply request blocking and stubbing rules
+            NetworkInterceptionManager.apply(driver);
+            TrafficArchive.attach(driver);
+            HarRecorder.start(driver);
+            BrowserProcessProfiler.start(driver);
+            DriverWatchdog.start(driver);
+            
             // Set driver to ThreadLocal for parallel execution
             driverThreadLocal.set(driver);
             
@@ -71,6 +83,12 @@ public class DriverFactory {
             return driver;
             
         } catch (Exception e) {
+            if (driver != null) {
+                // Browser started but its setup failed: quit it, which also releases the session permit
+                quit(driver);
+            } else {
+                ParallelismController.releaseSession();
+            }
             logger.error("Failed to create WebDriver instance for browser: {}", browserType, e);
             throw new FrameworkException("Failed to create WebDriver instance", e);
         }
@@ -80,7 +98,7 @@ public class DriverFactory {
      * Create Chrome driver with options
      * @return ChromeDriver instance
      */
-    private static WebDriver createChromeDriver() {
+    private static ChromeDriver createChromeDriver() {
         WebDriverManager.chromedriver().setup();
         ChromeOptions options = new ChromeOptions();
         
@@ -148,6 +166,14 @@ public class DriverFactory {
         return new SafariDriver();
     }
     
+    /**
+     * Check if browser context isolation mode is enabled
+     * @return true if sessions share one browser process, false otherwise
+     */
+    private static boolean isContextMode() {
+        return "context".equals(ConfigReader.getDriverMode());
+    }
+    
     /**
      * Configure common driver settings
      * @param driver WebDriver instance to configure
@@ -165,8 +191,8 @@ public class DriverFactory {
     }
     
     /**
-     * Get current thread's WebDriver instance
-     * @return WebDriver instance for current thread
+     * Get WebDriver instance of the current test invocation (of the current thread outside of tests)
+     * @return WebDriver instance for current test
      */
     public static WebDriver getDriver() {
         WebDriver driver = driverThreadLocal.get();
@@ -177,6 +203,22 @@ public class DriverFactory {
         return driver;
     }
     
+    /**
+     * Check if the current test invocation has a WebDriver instance
+     * @return true if a driver was created for current test, false otherwise
+     */
+    public static boolean hasDriver() {
+        return driverThreadLocal.get() != null;
+    }
+    
+    /**
+     * Make a driver created earlier the driver of the current test invocation (session kept for a retry)
+     * @param driver WebDriver instance
+     */
+    static void attachDriver(WebDriver driver) {
+        driverThreadLocal.set(driver);
+    }
+    
     /**
      * Quit driver and remove from ThreadLocal
      */
@@ -184,10 +226,7 @@ public class DriverFactory {
         WebDriver driver = driverThreadLocal.get();
         if (driver != null) {
             try {
-                driver.quit();
-                logger.info("WebDriver instance quit successfully");
-            } catch (Exception e) {
-                logger.error("Error occurred while quitting WebDriver", e);
+                quit(driver);
             } finally {
                 driverThreadLocal.remove();
                 logger.info("WebDriver instance removed from ThreadLocal");
@@ -195,6 +234,30 @@ public class DriverFactory {
         }
     }
     
+    /**
+     * Quit a driver and release the resources tracked for it
+     * @param driver WebDriver instance
+     */
+    private static void quit(WebDriver driver) {
+        try {
+            if (BrowserContextManager.isContextDriver(driver)) {
+                BrowserContextManager.release(driver);
+            } else {
+                DriverWatchdog.quit(driver);
+            }
+            logger.info("WebDriver instance quit successfully");
+        } catch (Exception e) {
+            logger.error("Error occurred while quitting WebDriver", e);
+        } finally {
+            NetworkInterceptionManager.release(driver);
+            TrafficArchive.release(driver);
+            HarRecorder.release(driver);
+            BrowserProcessProfiler.release(driver);
+            DriverWatchdog.release(driver);
+            ParallelismController.releaseSession();
+        }
+    }
+    
     /**
      * Close current browser window
      */
@@ -209,4 +272,16 @@ public class DriverFactory {
             }
         }
     }
+    
+    /**
+     * Shut down shared resources created by the factory (shared host browser in context mode, traffic archive)
+     */
+    public static void shutdown() {
+        // Sessions kept for retries that never ran
+        for (WebDriver driver : TestContext.drainRetryDrivers()) {
+            quit(driver);
+        }
+        BrowserContextManager.shutdown();
+        TrafficArchive.save();
+    }
 }
@@ -0,0 +1,205 @@
+package com.framework.utils;
+
+import com.framework.exceptions.BrowserHangException;
+import com.framework.exceptions.FrameworkException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Watchdog detecting hung browser sessions and recycling them
+ * This demonstrates:
+ * 1. Observer Pattern - One heartbeat thread watching each browser session
+ * 2. Fail-Fast - A wedged browser is killed instead of blocking its worker for minutes
+ *
+ * Every watchdog.heartbeat.interval.seconds the watchdog asks the session for its window handle.
+ * ChromeDriver and GeckoDriver run the commands of a session one after the other, so the heartbeat
+ * waits behind a slow page load; it only misses its deadline (page.load.timeout + 30 seconds by
+ * default) when the session stopped answering. The driver and browser process tree is then killed,
+ * which fails the blocked command of the test right away. hangFailure replaces that failure with
+ * a BrowserHangException, which is retried on a fresh session. Quitting is bounded by
+ * watchdog.quit.timeout.seconds, after which the process tree is killed as well.
+ * In driver.mode=context sessions share one browser, so it is not killed; only the quit is bounded.
+ */
+public class DriverWatchdog {
+
+    private static final Logger logger = LogManager.getLogger(DriverWatchdog.class);
+    private static final Map<WebDriver, Watch> watchesByDriver = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation (Utility class pattern)
+     */
+    private DriverWatchdog() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Start heartbeating the driver session
+     * @param driver WebDriver instance
+     */
+    public static void start(WebDriver driver) {
+        if (!ConfigReader.isWatchdogEnabled()) {
+            return;
+        }
+        long rootPid = -1;
+        if ("context".equals(ConfigReader.getDriverMode())) {
+            logger.info("Sessions share one browser in context mode, a hung session will not be killed");
+        } else if (ProcFs.isAvailable()) {
+            rootPid = BrowserProcessProfiler.findRootPid(driver);
+        }
+        Watch watch = new Watch(driver, rootPid);
+        watchesByDriver.put(driver, watch);
+        Thread.ofVirtual().name("driver-watchdog").start(watch::run);
+        logger.info("Driver watchdog started (heartbeat every {} s, deadline {} s, process tree root {})",
+            ConfigReader.getWatchdogHeartbeatInterval(), heartbeatTimeout(), rootPid > 0 ? rootPid : "unknown");
+    }
+
+    /**
+     * Quit the driver, killing its process tree if quitting takes longer than watchdog.quit.timeout.seconds
+     * @param driver WebDriver instance
+     */
+    public static void quit(WebDriver driver) {
+        Watch watch = watchesByDriver.remove(driver);
+        if (watch == null) {
+            driver.quit();
+            return;
+        }
+        watch.stop();
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        Future<?> quit = executor.submit(driver::quit);
+        try {
+            quit.get(ConfigReader.getWatchdogQuitTimeout(), TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            logger.error("Quitting the browser took more than {} s, killing its process tree", ConfigReader.getWatchdogQuitTimeout());
+            quit.cancel(true);
+            killProcessTree(watch.rootPid);
+        } catch (ExecutionException e) {
+            if (watch.hangCause == null) {
+                throw new FrameworkException("Failed to quit browser session", e.getCause());
+            }
+            // Expected, the process tree of the hung session is already gone
+            logger.debug("Quit of killed session failed: {}", e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            killProcessTree(watch.rootPid);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Stop watching the driver session without quitting it
+     * @param driver WebDriver instance
+     */
+    public static void release(WebDriver driver) {
+        Watch watch = driver != null ? watchesByDriver.remove(driver) : null;
+        if (watch != null) {
+            watch.stop();
+        }
+    }
+
+    /**
+     * Blame a hung session of the current thread for a test method's failure
+     * Called right after the test method ran, before the retry analyzer and the listeners see the result
+     * @param failure Failure of the test method, kept as cause (may be null)
+     * @return BrowserHangException to fail the test with, or null if the session did not hang
+     */
+    public static BrowserHangException hangFailure(Throwable failure) {
+        Watch watch = DriverFactory.hasDriver() ? watchesByDriver.get(DriverFactory.getDriver()) : null;
+        if (watch == null || watch.hangCause == null || failure instanceof BrowserHangException) {
+            return null;
+        }
+        return new BrowserHangException(watch.hangCause, failure);
+    }
+
+    private static long heartbeatTimeout() {
+        int timeout = ConfigReader.getWatchdogHeartbeatTimeout();
+        return timeout > 0 ? timeout : ConfigReader.getPageLoadTimeout() + 30L;
+    }
+
+    /**
+     * Kill a process and all of its descendants
+     * @param rootPid Root process id, ignored if unknown
+     */
+    private static void killProcessTree(long rootPid) {
+        if (rootPid <= 0) {
+            return;
+        }
+        ProcessHandle.of(rootPid).ifPresent(root -> {
+            root.descendants().forEach(ProcessHandle::destroyForcibly);
+            root.destroyForcibly();
+            logger.warn("Killed process tree of pid {}", rootPid);
+        });
+    }
+
+    /**
+     * Heartbeat loop of one session
+     */
+    private static class Watch {
+
+        private final WebDriver driver;
+        private final long rootPid;
+        private final ExecutorService heartbeats = Executors.newVirtualThreadPerTaskExecutor();
+        private volatile boolean stopped;
+        private volatile String hangCause;
+
+        private Watch(WebDriver driver, long rootPid) {
+            this.driver = driver;
+            this.rootPid = rootPid;
+        }
+
+        private void run() {
+            long interval = ConfigReader.getWatchdogHeartbeatInterval();
+            long timeout = heartbeatTimeout();
+            try {
+                while (!stopped) {
+                    TimeUnit.SECONDS.sleep(interval);
+                    if (stopped) {
+                        break;
+                    }
+                    try {
+                        heartbeats.submit(driver::getWindowHandle).get(timeout, TimeUnit.SECONDS);
+                    } catch (RejectedExecutionException e) {
+                        // Stopped while sleeping
+                        break;
+                    } catch (ExecutionException e) {
+                        // The session answered, even if with an error (e.g. window closed by the test)
+                        logger.debug("Heartbeat answered with an error: {}", e.getCause().getMessage());
+                    } catch (TimeoutException e) {
+                        if (!stopped) {
+                            hang(timeout);
+                        }
+                        break;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                heartbeats.shutdownNow();
+            }
+        }
+
+        private void hang(long timeout) {
+            hangCause = "Browser session did not answer a heartbeat within " + timeout + " s"
+                + (rootPid > 0 ? ", killed its process tree (pid " + rootPid + ")" : "");
+            logger.error(hangCause);
+            killProcessTree(rootPid);
+        }
+
+        private void stop() {
+            stopped = true;
+            heartbeats.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.framework.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * TestNG method interceptor applying longest-processing-time-first (LPT) scheduling
+ * This demonstrates:
+ * 1. Strategy Pattern - Replacing the default method ordering
+ * 2. Observer Pattern - Plugged into TestNG as a listener
+ *
+ * Starting the longest tests first lets the parallel threads finish at roughly the same time,
+ * instead of one thread picking up a slow test at the end of the run.
+ * Methods without history are estimated with the median known duration.
+ * Tests with preserve-order="true" keep their declared order.
+ */
+public class DurationAwareMethodInterceptor implements IMethodInterceptor {
+
+    private static final Logger logger = LogManager.getLogger(DurationAwareMethodInterceptor.class);
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!ConfigReader.isDurationAwareScheduling()) {
+            return methods;
+        }
+        if (Boolean.TRUE.equals(context.getCurrentXmlTest().getPreserveOrder())) {
+            logger.debug("Keeping declared order for preserve-order test: {}", context.getName());
+            return methods;
+        }
+
+        double median = TestDurationStore.getMedianDuration();
+        if (median < 0) {
+            logger.info("No duration history yet, keeping default order for: {}", context.getName());
+            return methods;
+        }
+
+        List<IMethodInstance> ordered = new ArrayList<>(methods);
+        ordered.sort(Comparator.comparingDouble((IMethodInstance instance) -> expectedDuration(instance, median)).reversed());
+
+        // Priorities would otherwise take precedence over the intercepted order
+        for (int rank = 0; rank < ordered.size(); rank++) {
+            ordered.get(rank).getMethod().setPriority(rank);
+        }
+
+        logger.info("Ordered {} methods longest-first for: {}", ordered.size(), context.getName());
+        return ordered;
+    }
+
+    /**
+     * Get expected duration of a method instance
+     * @param instance Method instance
+     * @param median Estimate used for methods without history
+     * @return Expected duration in milliseconds
+     */
+    private double expectedDuration(IMethodInstance instance, double median) {
+        double expected = TestDurationStore.getExpectedDuration(TestDurationStore.keyOf(instance.getMethod()));
+        return expected >= 0 ? expected : median;
+    }
+}
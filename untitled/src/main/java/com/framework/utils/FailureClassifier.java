@@ -0,0 +1,124 @@
+package com.framework.utils;
+
+import com.framework.exceptions.BrowserHangException;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Classifier deciding whether a test failure is transient and how the browser session should be treated
+ * This demonstrates:
+ * 1. Encapsulation - Failure heuristics kept in one place for retry analyzer and test teardown
+ * 2. Polymorphism - Failure types carry their own retry and session handling policy
+ *
+ * The whole cause chain is inspected, so wrapped exceptions (e.g. FrameworkException around a
+ * StaleElementReferenceException) are classified by their root problem.
+ */
+public class FailureClassifier {
+
+    // Thrown by TestNG when a test exceeds its timeOut; internal API, so matched by name
+    private static final String TESTNG_TIMEOUT_EXCEPTION = "org.testng.internal.thread.ThreadTimeoutException";
+
+    private static final List<String> CRASH_MESSAGES = List.of(
+        "chrome not reachable",
+        "disconnected: not connected to devtools",
+        "session deleted because of page crash",
+        "tab crashed",
+        "invalid session id",
+        "browsing context has been discarded");
+
+    /**
+     * Failure types with their retry and session policy
+     */
+    public enum FailureType {
+        STALE_ELEMENT(true, true),
+        TIMEOUT(true, true),
+        // The timed-out test thread may still be blocked in a command of the session
+        TEST_TIMEOUT(true, false),
+        DRIVER_CRASH(true, false),
+        NON_TRANSIENT(false, false);
+
+        private final boolean transientFailure;
+        private final boolean sessionReusable;
+
+        FailureType(boolean transientFailure, boolean sessionReusable) {
+            this.transientFailure = transientFailure;
+            this.sessionReusable = sessionReusable;
+        }
+
+        /**
+         * Check if failure is worth retrying
+         * @return true for transient failures, false otherwise
+         */
+        public boolean isTransient() {
+            return transientFailure;
+        }
+
+        /**
+         * Check if the browser session can be kept for the retry
+         * @return true if session is still healthy, false if it must be recycled
+         */
+        public boolean isSessionReusable() {
+            return sessionReusable;
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation (Utility class pattern)
+     */
+    private FailureClassifier() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Classify a test failure
+     * @param throwable Failure cause (may be null)
+     * @return Failure type
+     */
+    public static FailureType classify(Throwable throwable) {
+        Set<Throwable> visited = new HashSet<>();
+        FailureType type = FailureType.NON_TRANSIENT;
+        for (Throwable current = throwable; current != null && visited.add(current); current = current.getCause()) {
+            // Assertion failures are real test failures even if a timeout caused the wait before them
+            if (current instanceof AssertionError) {
+                return FailureType.NON_TRANSIENT;
+            }
+            if (isDriverCrash(current)) {
+                return FailureType.DRIVER_CRASH;
+            }
+            if (TESTNG_TIMEOUT_EXCEPTION.equals(current.getClass().getName())) {
+                return FailureType.TEST_TIMEOUT;
+            }
+            if (current instanceof StaleElementReferenceException) {
+                type = FailureType.STALE_ELEMENT;
+            } else if (type == FailureType.NON_TRANSIENT && current instanceof TimeoutException) {
+                type = FailureType.TIMEOUT;
+            }
+        }
+        return type;
+    }
+
+    /**
+     * Check if exception indicates a dead or unreachable browser session
+     * @param throwable Exception to check
+     * @return true if session is gone, false otherwise
+     */
+    private static boolean isDriverCrash(Throwable throwable) {
+        if (throwable instanceof NoSuchSessionException || throwable instanceof UnreachableBrowserException
+            || throwable instanceof BrowserHangException) {
+            return true;
+        }
+        if (throwable instanceof WebDriverException && throwable.getMessage() != null) {
+            String message = throwable.getMessage().toLowerCase(Locale.ROOT);
+            return CRASH_MESSAGES.stream().anyMatch(message::contains);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,395 @@
+package com.framework.utils;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.StatusDetails;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.util.ResultsUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.json.Json;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Post-run analyzer grouping test failures that share a root cause
+ * This demonstrates:
+ * 1. Observer Pattern - Failures fed by TestListener, clusters reported when the suite finishes
+ * 2. Separation of Concerns - Signature normalization kept apart from reporting
+ *
+ * Every failure is reduced to a signature: the root cause type, its first message line with
+ * numbers, ids and session info masked, and the first framework frame (page, component, wrapper
+ * or test method) it was thrown from. Failures are clustered by failing locator (the PageFactory
+ * field whose lookup failed, as DeclaringClass.field), page class and signature, ranked by size,
+ * written to failure.clusters.path and added to Allure as a "Failure clusters" entry, so one
+ * broken locator failing thirty tests shows up as one cluster instead of thirty reports.
+ */
+public class FailureClusterAnalyzer implements ISuiteListener {
+
+    private static final Logger logger = LogManager.getLogger(FailureClusterAnalyzer.class);
+    private static final Pattern SELECTOR = Pattern.compile("By\\.\\w+: .+?(?='| \\(tried|\\n|$)");
+    private static final Pattern SESSION_INFO = Pattern.compile("\\s*\\(Session info:[^)]*\\)");
+    private static final Pattern UUID_VALUE = Pattern.compile("\\b[0-9a-fA-F]{8}(-[0-9a-fA-F]{4}){3}-[0-9a-fA-F]{12}\\b");
+    private static final Pattern HEX_ID = Pattern.compile("\\b[0-9a-fA-F]{16,}\\b");
+    private static final Pattern NUMBER = Pattern.compile("\\b\\d+(\\.\\d+)?\\b");
+    private static final int MAX_MESSAGE_LENGTH = 300;
+    private static final int EXAMPLE_FRAMES = 12;
+    private static final int LISTED_TESTS = 5;
+    private static final List<Failure> failures = new ArrayList<>();
+
+    /**
+     * Record a failed test for clustering
+     * Called by TestListener.onTestFailure
+     * @param result Failed test result
+     */
+    public static void record(ITestResult result) {
+        if (!ConfigReader.isFailureClusteringEnabled() || result.getThrowable() == null) {
+            return;
+        }
+        String test = result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName()
+            + (result.getParameters().length > 0 ? Arrays.toString(result.getParameters()) : "");
+        try {
+            Failure failure = analyze(test, result.getThrowable(), ImpactRecorder.getFailedLocator());
+            synchronized (failures) {
+                failures.add(failure);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Failed to analyze failure of {}: {}", test, e.getMessage());
+        }
+    }
+
+    /**
+     * Report the clusters of the suite's failures
+     * @param suite Suite that finished
+     */
+    @Override
+    public void onFinish(ISuite suite) {
+        report(suite.getName());
+    }
+
+    /**
+     * Cluster the failures recorded so far, write and log the report
+     * @param suiteName Name of the finished suite
+     */
+    static void report(String suiteName) {
+        List<Failure> recorded;
+        synchronized (failures) {
+            recorded = new ArrayList<>(failures);
+            failures.clear();
+        }
+        if (recorded.isEmpty()) {
+            return;
+        }
+        Map<String, Map<String, Object>> clusters = new LinkedHashMap<>();
+        for (Failure failure : recorded) {
+            Map<String, Object> cluster = clusters.computeIfAbsent(failure.key(), key -> failure.newCluster());
+            cluster.put("count", ((Number) cluster.get("count")).longValue() + 1);
+            testsOf(cluster).add(failure.test);
+        }
+        Map<String, Object> document = buildDocument(clusters.values());
+        String json = new Json().toJson(document);
+        String summary = summarize(document);
+        logger.info("Failure clusters of suite '{}':\n{}", suiteName, summary);
+        write(Paths.get(ConfigReader.getFailureClustersPath()), json);
+        addAllureEntry(summary, json);
+    }
+
+    /**
+     * Merge the cluster files of several JVMs (e.g. shards) into one
+     * @param reports Cluster files, missing files are skipped
+     * @param target Merged cluster file
+     */
+    public static void mergeReports(List<Path> reports, Path target) throws IOException {
+        Json json = new Json();
+        Map<String, Map<String, Object>> clusters = new LinkedHashMap<>();
+        for (Path report : reports) {
+            if (!Files.exists(report)) {
+                continue;
+            }
+            Map<String, Object> document = json.toType(Files.readString(report, StandardCharsets.UTF_8), Json.MAP_TYPE);
+            for (Object value : (List<?>) document.get("clusters")) {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> cluster = new LinkedHashMap<>((Map<String, Object>) value);
+                Map<String, Object> merged = clusters.get(String.valueOf(cluster.get("key")));
+                if (merged == null) {
+                    cluster.put("tests", new ArrayList<>(testsOf(cluster)));
+                    clusters.put(String.valueOf(cluster.get("key")), cluster);
+                } else {
+                    merged.put("count", ((Number) merged.get("count")).longValue() + ((Number) cluster.get("count")).longValue());
+                    testsOf(merged).addAll(testsOf(cluster));
+                }
+            }
+        }
+        if (clusters.isEmpty()) {
+            return;
+        }
+        Map<String, Object> document = buildDocument(clusters.values());
+        write(target, json.toJson(document));
+        logger.info("Failure clusters of all shards ({}):\n{}", target, summarize(document));
+    }
+
+    /**
+     * Reduce a failure to its test, locator, page class and signature
+     * @param test Test name
+     * @param throwable Failure
+     * @param failedLocator Locator whose lookup failed last on the test thread, or null
+     * @return Analyzed failure
+     */
+    private static Failure analyze(String test, Throwable throwable, String failedLocator) {
+        List<Throwable> chain = new ArrayList<>();
+        Set<Throwable> visited = new HashSet<>();
+        for (Throwable current = throwable; current != null && visited.add(current); current = current.getCause()) {
+            chain.add(current);
+        }
+        Throwable root = chain.get(chain.size() - 1);
+
+        Failure failure = new Failure();
+        failure.test = test;
+        failure.exception = root.getClass().getSimpleName();
+        failure.message = normalize(root.getMessage());
+        // Only element failures are blamed on the failed lookup, an assertion after it has another cause
+        if (failedLocator != null && chain.stream().anyMatch(FailureClusterAnalyzer::isElementFailure)) {
+            failure.locator = failedLocator;
+        }
+        for (Throwable current : chain) {
+            Matcher selector = SELECTOR.matcher(String.valueOf(current.getMessage()));
+            if (selector.find()) {
+                failure.selector = selector.group().trim();
+                break;
+            }
+        }
+        // Innermost cause first, it was thrown closest to the problem
+        for (int i = chain.size() - 1; i >= 0; i--) {
+            for (StackTraceElement frame : chain.get(i).getStackTrace()) {
+                String className = frame.getClassName();
+                if (!className.startsWith("com.framework.") || className.startsWith("com.framework.utils.")) {
+                    continue;
+                }
+                String simpleName = className.substring(className.lastIndexOf('.') + 1).replaceAll("\\$.*", "");
+                if (failure.origin.isEmpty()) {
+                    // AspectJ-woven @Step methods run as method_aroundBody<n>
+                    failure.origin = simpleName + "." + frame.getMethodName().replaceAll("_aroundBody\\d*$", "");
+                }
+                if (failure.pageClass.isEmpty()
+                        && (className.startsWith("com.framework.pages.") || className.startsWith("com.framework.components."))) {
+                    failure.pageClass = simpleName;
+                }
+            }
+        }
+        if (failure.pageClass.isEmpty() && !failure.locator.isEmpty()) {
+            failure.pageClass = failure.locator.substring(0, failure.locator.indexOf('.'));
+        }
+
+        StringBuilder example = new StringBuilder(root.getClass().getName()).append(": ").append(firstLine(root.getMessage()));
+        StackTraceElement[] frames = root.getStackTrace();
+        for (int i = 0; i < Math.min(EXAMPLE_FRAMES, frames.length); i++) {
+            example.append("\n\tat ").append(frames[i]);
+        }
+        failure.example = example.toString();
+        return failure;
+    }
+
+    private static boolean isElementFailure(Throwable throwable) {
+        return throwable instanceof NotFoundException || throwable instanceof TimeoutException
+            || throwable instanceof StaleElementReferenceException || throwable instanceof ElementNotInteractableException;
+    }
+
+    /**
+     * Mask the run-specific parts of an exception message
+     * @param message Exception message, may be null
+     * @return First line with session info, ids and numbers replaced
+     */
+    static String normalize(String message) {
+        String normalized = SESSION_INFO.matcher(firstLine(message)).replaceAll("");
+        normalized = UUID_VALUE.matcher(normalized).replaceAll("<id>");
+        normalized = HEX_ID.matcher(normalized).replaceAll("<id>");
+        normalized = NUMBER.matcher(normalized).replaceAll("<n>");
+        normalized = normalized.replaceAll("\\s+", " ").trim();
+        return normalized.length() > MAX_MESSAGE_LENGTH ? normalized.substring(0, MAX_MESSAGE_LENGTH) + "..." : normalized;
+    }
+
+    private static String firstLine(String message) {
+        if (message == null) {
+            return "";
+        }
+        int end = message.indexOf('\n');
+        return end >= 0 ? message.substring(0, end) : message;
+    }
+
+    /**
+     * Rank clusters and add totals per locator and page class
+     * @param clusters Clusters with key, count and tests
+     * @return Report document
+     */
+    private static Map<String, Object> buildDocument(Collection<Map<String, Object>> clusters) {
+        List<Map<String, Object>> ranked = new ArrayList<>(clusters);
+        ranked.sort(Comparator.comparingLong((Map<String, Object> cluster) -> ((Number) cluster.get("count")).longValue())
+            .thenComparingInt(cluster -> new HashSet<>(testsOf(cluster)).size())
+            .reversed());
+        long total = 0;
+        Map<String, Long> byLocator = new LinkedHashMap<>();
+        Map<String, Long> byPageClass = new LinkedHashMap<>();
+        for (int i = 0; i < ranked.size(); i++) {
+            Map<String, Object> cluster = ranked.get(i);
+            long count = ((Number) cluster.get("count")).longValue();
+            cluster.put("rank", i + 1);
+            total += count;
+            if (!String.valueOf(cluster.get("locator")).isEmpty()) {
+                byLocator.merge(String.valueOf(cluster.get("locator")), count, Long::sum);
+            }
+            if (!String.valueOf(cluster.get("pageClass")).isEmpty()) {
+                byPageClass.merge(String.valueOf(cluster.get("pageClass")), count, Long::sum);
+            }
+        }
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("failures", total);
+        document.put("clusterCount", ranked.size());
+        document.put("byLocator", sortedByCount(byLocator));
+        document.put("byPageClass", sortedByCount(byPageClass));
+        document.put("clusters", ranked);
+        return document;
+    }
+
+    private static Map<String, Long> sortedByCount(Map<String, Long> counts) {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+            .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+            .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    /**
+     * Render a ranked plain-text summary of a report document
+     * @param document Report document
+     * @return Summary text
+     */
+    @SuppressWarnings("unchecked")
+    private static String summarize(Map<String, Object> document) {
+        StringBuilder summary = new StringBuilder()
+            .append(document.get("failures")).append(" failures in ").append(document.get("clusterCount")).append(" clusters");
+        for (Map<String, Object> cluster : (List<Map<String, Object>>) document.get("clusters")) {
+            List<String> tests = testsOf(cluster);
+            summary.append("\n\n#").append(cluster.get("rank")).append("  ").append(cluster.get("count")).append(" failures");
+            appendIfPresent(summary, "  locator ", cluster.get("locator"));
+            appendIfPresent(summary, "  page ", cluster.get("pageClass"));
+            appendIfPresent(summary, "  ", cluster.get("selector"));
+            summary.append("\n    ").append(cluster.get("exception")).append(": ").append(cluster.get("message"));
+            appendIfPresent(summary, "\n    at ", cluster.get("origin"));
+            summary.append("\n    tests: ").append(String.join(", ", tests.subList(0, Math.min(LISTED_TESTS, tests.size()))));
+            if (tests.size() > LISTED_TESTS) {
+                summary.append(" (+").append(tests.size() - LISTED_TESTS).append(" more)");
+            }
+        }
+        return summary.toString();
+    }
+
+    private static void appendIfPresent(StringBuilder summary, String prefix, Object value) {
+        if (value != null && !String.valueOf(value).isEmpty()) {
+            summary.append(prefix).append(value);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> testsOf(Map<String, Object> cluster) {
+        return (List<String>) cluster.get("tests");
+    }
+
+    private static void write(Path path, String json) {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.writeString(path, json, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.error("Failed to write failure clusters to: {}", path, e);
+        }
+    }
+
+    /**
+     * Add the clusters to the Allure report as a test entry of their own
+     * The entry is written without a status (shown as unknown), so it is not counted as a passed or failed test
+     * @param summary Summary text
+     * @param json Report document
+     */
+    private static void addAllureEntry(String summary, String json) {
+        try {
+            String shard = System.getProperty("shard.index");
+            String name = "Failure clusters" + (shard != null ? " (shard " + shard + ")" : "");
+            String uuid = UUID.randomUUID().toString();
+            TestResult result = new TestResult()
+                .setUuid(uuid)
+                .setName(name)
+                .setFullName(FailureClusterAnalyzer.class.getName() + "." + name)
+                .setHistoryId(FailureClusterAnalyzer.class.getName() + "." + name)
+                .setStatusDetails(new StatusDetails().setMessage(firstLine(summary)))
+                .setLabels(new ArrayList<>(List.of(ResultsUtils.createSuiteLabel("Failure triage"))));
+            AllureLifecycle lifecycle = Allure.getLifecycle();
+            lifecycle.scheduleTestCase(result);
+            lifecycle.startTestCase(uuid);
+            lifecycle.addAttachment("Failure clusters", "text/plain", ".txt", summary.getBytes(StandardCharsets.UTF_8));
+            lifecycle.addAttachment("Failure clusters JSON", "application/json", ".json", json.getBytes(StandardCharsets.UTF_8));
+            lifecycle.stopTestCase(uuid);
+            lifecycle.writeTestCase(uuid);
+        } catch (RuntimeException e) {
+            logger.error("Failed to add failure clusters to Allure", e);
+        }
+    }
+
+    /**
+     * One analyzed failure
+     */
+    private static class Failure {
+
+        private String test;
+        private String locator = "";
+        private String selector = "";
+        private String pageClass = "";
+        private String exception;
+        private String message;
+        private String origin = "";
+        private String example;
+
+        private String key() {
+            return locator + "|" + pageClass + "|" + exception + ": " + message + " @ " + origin;
+        }
+
+        private Map<String, Object> newCluster() {
+            Map<String, Object> cluster = new LinkedHashMap<>();
+            cluster.put("id", String.format("%08x", key().hashCode()));
+            cluster.put("key", key());
+            cluster.put("count", 0L);
+            cluster.put("locator", locator);
+            cluster.put("selector", selector);
+            cluster.put("pageClass", pageClass);
+            cluster.put("exception", exception);
+            cluster.put("message", message);
+            cluster.put("origin", origin);
+            cluster.put("tests", new ArrayList<String>());
+            cluster.put("example", example);
+            return cluster;
+        }
+    }
+}
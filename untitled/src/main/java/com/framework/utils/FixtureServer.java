@@ -0,0 +1,378 @@
+package com.framework.utils;
+
+import com.framework.exceptions.FrameworkException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Embedded HTTP server serving the application pages the page objects expect
+ * This demonstrates:
+ * 1. Test Double - A fake application matching the locators of LoginPage, DashboardPage, SearchPage and the components
+ * 2. Singleton Pattern - One server per JVM, started once for the suite
+ *
+ * Pages are rendered from HTML templates under /fixtures on the classpath. Credentials are accepted
+ * unless blank or containing "invalid" or "wrong"; a successful login sets a session cookie required
+ * by the dashboard. Search returns fixture.search.results results, ten per page, with a fragment
+ * endpoint feeding the infinite-scroll list. Every response is delayed by fixture.latency.ms plus
+ * a seeded random jitter of up to fixture.jitter.ms in either direction, so timing-sensitive code
+ * can be exercised reproducibly without a real environment.
+ *
+ * Started by BaseTest when fixture.server.enabled=true, which also points base.url at the server.
+ */
+public class FixtureServer {
+
+    private static final Logger logger = LogManager.getLogger(FixtureServer.class);
+    private static final String SESSION_COOKIE = "fixture_session";
+    private static final int RESULTS_PER_PAGE = 10;
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{(\\w+)}");
+    private static final Object lock = new Object();
+
+    private static HttpServer server;
+    private static ExecutorService executor;
+    private static String baseUrl;
+
+    private final Map<String, String> sessions = new ConcurrentHashMap<>();
+    private final Map<String, String> templates = new ConcurrentHashMap<>();
+    private final Random jitterRandom = new Random(ConfigReader.getFixtureJitterSeed());
+    private final int latencyMillis = ConfigReader.getFixtureLatency();
+    private final int jitterMillis = ConfigReader.getFixtureJitter();
+    private final int searchResults = ConfigReader.getFixtureSearchResults();
+
+    private FixtureServer() {
+    }
+
+    /**
+     * Start the fixture server if it is not running and point base.url at it
+     * @return Base URL of the server, e.g. http://127.0.0.1:41234
+     */
+    public static String start() {
+        synchronized (lock) {
+            if (server != null) {
+                return baseUrl;
+            }
+            try {
+                FixtureServer fixture = new FixtureServer();
+                InetAddress loopback = InetAddress.getLoopbackAddress();
+                server = HttpServer.create(new InetSocketAddress(loopback, ConfigReader.getFixtureServerPort()), 0);
+                server.createContext("/", fixture::handle);
+                executor = Executors.newVirtualThreadPerTaskExecutor();
+                server.setExecutor(executor);
+                server.start();
+                baseUrl = "http://" + loopback.getHostAddress() + ":" + server.getAddress().getPort();
+                System.setProperty("base.url", baseUrl);
+                logger.info("Fixture server started at {} (latency {} ms, jitter {} ms)",
+                    baseUrl, fixture.latencyMillis, fixture.jitterMillis);
+                return baseUrl;
+            } catch (IOException e) {
+                server = null;
+                throw new FrameworkException("Failed to start fixture server", e);
+            }
+        }
+    }
+
+    /**
+     * Stop the fixture server if it is running
+     */
+    public static void stop() {
+        synchronized (lock) {
+            if (server == null) {
+                return;
+            }
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+            executor = null;
+            logger.info("Fixture server at {} stopped", baseUrl);
+        }
+    }
+
+    /**
+     * Check if the fixture server is running
+     * @return true if started and not stopped
+     */
+    public static boolean isRunning() {
+        synchronized (lock) {
+            return server != null;
+        }
+    }
+
+    /**
+     * Run the fixture server standalone, e.g. to inspect the pages in a browser
+     * @param args Not used
+     */
+    public static void main(String[] args) {
+        logger.info("Fixture server running at {} - press Ctrl+C to stop", start());
+        Runtime.getRuntime().addShutdownHook(new Thread(FixtureServer::stop));
+    }
+
+    private void handle(HttpExchange exchange) {
+        try {
+            delay();
+            route(exchange);
+        } catch (Exception e) {
+            logger.error("Fixture server failed to serve {}", exchange.getRequestURI(), e);
+            try {
+                send(exchange, 500, "text/plain", "Fixture server error: " + e.getMessage());
+            } catch (IOException ignored) {
+                // Response already started, nothing more to send
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Inject the configured latency and jitter
+     */
+    private void delay() throws InterruptedException {
+        long millis = latencyMillis;
+        if (jitterMillis > 0) {
+            synchronized (jitterRandom) {
+                millis += jitterRandom.nextInt(2 * jitterMillis + 1) - jitterMillis;
+            }
+        }
+        if (millis > 0) {
+            Thread.sleep(millis);
+        }
+    }
+
+    private void route(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String user = sessions.get(sessionId(exchange));
+        switch (path) {
+            case "/":
+                redirect(exchange, user != null ? "/dashboard" : "/login", null);
+                break;
+            case "/login":
+                if ("POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+                    login(exchange);
+                } else {
+                    sendPage(exchange, "Login", loginContent(""), null);
+                }
+                break;
+            case "/logout":
+                sessions.remove(sessionId(exchange));
+                redirect(exchange, "/login", SESSION_COOKIE + "=; Path=/; Max-Age=0");
+                break;
+            case "/dashboard":
+                if (user == null) {
+                    redirect(exchange, "/login", null);
+                } else {
+                    sendPage(exchange, "Dashboard", render("dashboard", Map.of("userName", escape(user))), user);
+                }
+                break;
+            case "/search":
+                search(exchange, user);
+                break;
+            case "/search/results":
+                searchResults(exchange);
+                break;
+            case "/static/fixture.js":
+                send(exchange, 200, "application/javascript", template("fixture.js"));
+                break;
+            case "/static/fixture.css":
+                send(exchange, 200, "text/css", template("fixture.css"));
+                break;
+            default:
+                String title = path.length() > 1 ? capitalize(path.substring(path.lastIndexOf('/') + 1)) : "Home";
+                sendPage(exchange, title, render("page", Map.of("title", escape(title))), user);
+        }
+    }
+
+    private void login(HttpExchange exchange) throws IOException {
+        Map<String, String> form = parseQuery(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+        String username = form.getOrDefault("username", "");
+        String password = form.getOrDefault("password", "");
+        if (!isAccepted(username) || !isAccepted(password)) {
+            logger.debug("Fixture login rejected for '{}'", username);
+            sendPage(exchange, "Login", loginContent("<div class=\"error-message\">Invalid username or password</div>"), null);
+            return;
+        }
+        String sessionId = UUID.randomUUID().toString();
+        sessions.put(sessionId, username);
+        redirect(exchange, "/dashboard", SESSION_COOKIE + "=" + sessionId + "; Path=/; HttpOnly");
+    }
+
+    private static boolean isAccepted(String credential) {
+        String value = credential.trim().toLowerCase();
+        return !value.isEmpty() && !value.contains("invalid") && !value.contains("wrong");
+    }
+
+    private String loginContent(String error) {
+        return render("login", Map.of("error", error));
+    }
+
+    private void search(HttpExchange exchange, String user) throws IOException {
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        String term = query.getOrDefault("q", "");
+        int page = parsePage(query.get("page"));
+        int total = totalResults(term);
+        int pages = (total + RESULTS_PER_PAGE - 1) / RESULTS_PER_PAGE;
+
+        StringBuilder pageLinks = new StringBuilder();
+        for (int i = 1; i <= pages; i++) {
+            pageLinks.append("    <a class=\"page-link\" href=\"/search?q=")
+                .append(escape(encode(term))).append("&amp;page=").append(i).append("\">").append(i).append("</a>\n");
+        }
+        Map<String, String> values = new HashMap<>();
+        values.put("query", escape(term));
+        values.put("resultsCountText", total + " results found");
+        values.put("noResults", total == 0 ? "<div id=\"no-results-message\">No results found for your search</div>" : "");
+        values.put("results", resultItems(term, page, total));
+        values.put("nextPage", page < pages ? String.valueOf(page + 1) : "");
+        values.put("pageLinks", pageLinks.toString());
+        sendPage(exchange, "Search Results", render("search", values), user);
+    }
+
+    /**
+     * Serve one result page as an HTML fragment for infinite scrolling
+     */
+    private void searchResults(HttpExchange exchange) throws IOException {
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        String term = query.getOrDefault("q", "");
+        int page = parsePage(query.get("page"));
+        int total = totalResults(term);
+        boolean hasNext = page * RESULTS_PER_PAGE < total;
+        exchange.getResponseHeaders().set("X-Next-Page", hasNext ? String.valueOf(page + 1) : "");
+        send(exchange, 200, "text/html; charset=utf-8", resultItems(term, page, total));
+    }
+
+    private int totalResults(String term) {
+        String value = term.trim().toLowerCase();
+        return value.isEmpty() || value.contains("noresults") ? 0 : searchResults;
+    }
+
+    private static String resultItems(String term, int page, int total) {
+        StringBuilder items = new StringBuilder();
+        int first = (page - 1) * RESULTS_PER_PAGE + 1;
+        for (int id = first; id <= Math.min(total, first + RESULTS_PER_PAGE - 1); id++) {
+            items.append("    <div class=\"search-result-item\" data-id=\"").append(id).append("\">")
+                .append("<a href=\"/results/").append(id).append("\">").append(escape(term)).append(" result ").append(id).append("</a>")
+                .append("</div>\n");
+        }
+        return items.toString();
+    }
+
+    private static int parsePage(String page) {
+        try {
+            return Math.max(1, Integer.parseInt(page));
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+
+    private void sendPage(HttpExchange exchange, String title, String content, String user) throws IOException {
+        String userMenu = user == null ? "" : render("user-menu", Map.of(
+            "userName", escape(user),
+            "initial", escape(user.substring(0, 1).toUpperCase())));
+        Map<String, String> values = new HashMap<>();
+        values.put("title", escape(title));
+        values.put("header", render("header", Map.of("title", escape(title), "userMenu", userMenu)));
+        values.put("content", content);
+        values.put("footer", template("footer.html"));
+        send(exchange, 200, "text/html; charset=utf-8", render("layout", values));
+    }
+
+    private static void redirect(HttpExchange exchange, String location, String cookie) throws IOException {
+        exchange.getResponseHeaders().set("Location", location);
+        if (cookie != null) {
+            exchange.getResponseHeaders().add("Set-Cookie", cookie);
+        }
+        exchange.sendResponseHeaders(303, -1);
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.getResponseHeaders().set("Cache-Control", "no-store");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Fill the ${name} placeholders of an HTML template; values are inserted as given
+     */
+    private String render(String name, Map<String, String> values) {
+        Matcher matcher = PLACEHOLDER.matcher(template(name + ".html"));
+        StringBuilder html = new StringBuilder();
+        while (matcher.find()) {
+            matcher.appendReplacement(html, Matcher.quoteReplacement(values.getOrDefault(matcher.group(1), "")));
+        }
+        matcher.appendTail(html);
+        return html.toString();
+    }
+
+    private String template(String file) {
+        return templates.computeIfAbsent(file, key -> {
+            try (InputStream in = FixtureServer.class.getResourceAsStream("/fixtures/" + key)) {
+                if (in == null) {
+                    throw new FrameworkException("Fixture template not found: /fixtures/" + key);
+                }
+                return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new FrameworkException("Failed to read fixture template: /fixtures/" + key, e);
+            }
+        });
+    }
+
+    private static String sessionId(HttpExchange exchange) {
+        String cookies = exchange.getRequestHeaders().getFirst("Cookie");
+        if (cookies != null) {
+            for (String cookie : cookies.split(";")) {
+                String[] pair = cookie.trim().split("=", 2);
+                if (pair.length == 2 && SESSION_COOKIE.equals(pair[0])) {
+                    return pair[1];
+                }
+            }
+        }
+        return "";
+    }
+
+    private static Map<String, String> parseQuery(String query) {
+        Map<String, String> values = new HashMap<>();
+        if (query == null || query.isEmpty()) {
+            return values;
+        }
+        for (String pair : query.split("&")) {
+            String[] parts = pair.split("=", 2);
+            values.put(URLDecoder.decode(parts[0], StandardCharsets.UTF_8),
+                parts.length > 1 ? URLDecoder.decode(parts[1], StandardCharsets.UTF_8) : "");
+        }
+        return values;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static String capitalize(String value) {
+        return value.isEmpty() ? value : Character.toUpperCase(value.charAt(0)) + value.substring(1).replace('-', ' ');
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;")
+            .replace("\"", "&quot;").replace("'", "&#39;");
+    }
+}
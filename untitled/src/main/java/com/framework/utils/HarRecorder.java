@@ -0,0 +1,203 @@
+package com.framework.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * HAR recorder built on DevTools network events
+ * This demonstrates:
+ * 1. Observer Pattern - Listening to network events of a browser session
+ * 2. Encapsulation - HAR 1.2 document building hidden behind start/drain methods
+ *
+ * Only request and response metadata is recorded (no bodies), which keeps the HAR small
+ * enough to attach to every test.
+ */
+public class HarRecorder {
+
+    private static final Logger logger = LogManager.getLogger(HarRecorder.class);
+    private static final Function<JsonInput, Map<String, Object>> MAP_MAPPER = input -> input.read(Map.class);
+    private static final Map<WebDriver, Map<String, HarEntry>> entriesByDriver = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation (Utility class pattern)
+     */
+    private HarRecorder() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Start recording network traffic of the driver
+     * @param driver WebDriver instance
+     */
+    public static void start(WebDriver driver) {
+        if (!ConfigReader.isHarCaptureEnabled()) {
+            return;
+        }
+        if (!(driver instanceof ChromiumDriver)) {
+            logger.warn("HAR capture is only supported for Chromium browsers, skipping for: {}",
+                driver.getClass().getSimpleName());
+            return;
+        }
+
+        Map<String, HarEntry> entries = new ConcurrentHashMap<>();
+        try {
+            DevTools devTools = ((ChromiumDriver) driver).getDevTools();
+            // Only this session's tab, context mode tabs of other tests must not end up in the HAR
+            devTools.createSessionIfThereIsNotOne(driver.getWindowHandle());
+
+            devTools.addListener(new Event<>("Network.requestWillBeSent", MAP_MAPPER), params -> {
+                HarEntry entry = new HarEntry();
+                entry.request = asMap(params.get("request"));
+                entry.wallTime = asDouble(params.get("wallTime"));
+                entry.startTimestamp = asDouble(params.get("timestamp"));
+                entries.put(String.valueOf(params.get("requestId")), entry);
+            });
+            devTools.addListener(new Event<>("Network.responseReceived", MAP_MAPPER), params -> {
+                HarEntry entry = entries.get(String.valueOf(params.get("requestId")));
+                if (entry != null) {
+                    entry.response = asMap(params.get("response"));
+                }
+            });
+            devTools.addListener(new Event<>("Network.loadingFinished", MAP_MAPPER), params -> {
+                HarEntry entry = entries.get(String.valueOf(params.get("requestId")));
+                if (entry != null) {
+                    entry.endTimestamp = asDouble(params.get("timestamp"));
+                    entry.encodedDataLength = (long) asDouble(params.get("encodedDataLength"));
+                }
+            });
+            devTools.addListener(new Event<>("Network.loadingFailed", MAP_MAPPER), params -> {
+                HarEntry entry = entries.get(String.valueOf(params.get("requestId")));
+                if (entry != null) {
+                    entry.endTimestamp = asDouble(params.get("timestamp"));
+                    entry.errorText = String.valueOf(params.get("errorText"));
+                }
+            });
+            devTools.send(new Command<>("Network.enable", Map.of()));
+
+            entriesByDriver.put(driver, entries);
+            logger.info("HAR capture started");
+        } catch (Exception e) {
+            logger.error("Failed to start HAR capture, continuing without it", e);
+        }
+    }
+
+    /**
+     * Build HAR document of everything recorded so far and reset the recording
+     * @param driver WebDriver instance
+     * @return HAR JSON or null if nothing was recorded
+     */
+    public static String drain(WebDriver driver) {
+        Map<String, HarEntry> entries = driver != null ? entriesByDriver.get(driver) : null;
+        if (entries == null || entries.isEmpty()) {
+            return null;
+        }
+
+        List<HarEntry> snapshot = new ArrayList<>(entries.values());
+        entries.clear();
+        snapshot.sort((a, b) -> Double.compare(a.wallTime, b.wallTime));
+
+        List<Map<String, Object>> harEntries = new ArrayList<>();
+        for (HarEntry entry : snapshot) {
+            harEntries.add(entry.toHar());
+        }
+
+        Map<String, Object> log = new LinkedHashMap<>();
+        log.put("version", "1.2");
+        log.put("creator", Map.of("name", "selenium-testng-allure-framework", "version", "1.0"));
+        log.put("entries", harEntries);
+        return new Json().toJson(Map.of("log", log));
+    }
+
+    /**
+     * Stop tracking the driver
+     * @param driver WebDriver instance
+     */
+    public static void release(WebDriver driver) {
+        if (driver != null) {
+            entriesByDriver.remove(driver);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asMap(Object value) {
+        return value instanceof Map ? (Map<String, Object>) value : Map.of();
+    }
+
+    private static double asDouble(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : 0;
+    }
+
+    /**
+     * One request/response pair as reported by DevTools
+     */
+    private static class HarEntry {
+
+        private Map<String, Object> request = Map.of();
+        private Map<String, Object> response = Map.of();
+        private double wallTime;
+        private double startTimestamp;
+        private double endTimestamp;
+        private long encodedDataLength = -1;
+        private String errorText;
+
+        private Map<String, Object> toHar() {
+            long time = endTimestamp > 0 ? Math.round((endTimestamp - startTimestamp) * 1000) : -1;
+
+            Map<String, Object> harRequest = new LinkedHashMap<>();
+            harRequest.put("method", request.getOrDefault("method", "GET"));
+            harRequest.put("url", request.getOrDefault("url", ""));
+            harRequest.put("httpVersion", response.getOrDefault("protocol", "unknown"));
+            harRequest.put("headers", toNameValueList(request.get("headers")));
+            harRequest.put("queryString", List.of());
+            harRequest.put("cookies", List.of());
+            harRequest.put("headersSize", -1);
+            harRequest.put("bodySize", -1);
+
+            Map<String, Object> harResponse = new LinkedHashMap<>();
+            harResponse.put("status", response.getOrDefault("status", 0));
+            harResponse.put("statusText", errorText != null ? errorText : response.getOrDefault("statusText", ""));
+            harResponse.put("httpVersion", response.getOrDefault("protocol", "unknown"));
+            harResponse.put("headers", toNameValueList(response.get("headers")));
+            harResponse.put("cookies", List.of());
+            harResponse.put("content", Map.of(
+                "size", encodedDataLength,
+                "mimeType", response.getOrDefault("mimeType", "")));
+            harResponse.put("redirectURL", "");
+            harResponse.put("headersSize", -1);
+            harResponse.put("bodySize", encodedDataLength);
+
+            Map<String, Object> harEntry = new LinkedHashMap<>();
+            harEntry.put("startedDateTime", Instant.ofEpochMilli(Math.round(wallTime * 1000)).toString());
+            harEntry.put("time", time);
+            harEntry.put("request", harRequest);
+            harEntry.put("response", harResponse);
+            harEntry.put("cache", Map.of());
+            harEntry.put("timings", Map.of("send", 0, "wait", time, "receive", 0));
+            return harEntry;
+        }
+
+        private List<Map<String, Object>> toNameValueList(Object headers) {
+            List<Map<String, Object>> list = new ArrayList<>();
+            if (headers instanceof Map) {
+                ((Map<?, ?>) headers).forEach((name, value) ->
+                    list.add(Map.of("name", String.valueOf(name), "value", String.valueOf(value))));
+            }
+            return list;
+        }
+    }
+}
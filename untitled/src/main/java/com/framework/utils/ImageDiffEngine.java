@@ -0,0 +1,474 @@
+package com.framework.utils;
+
+import com.framework.exceptions.FrameworkException;
+
+import javax.imageio.ImageIO;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Pixel comparison of screenshots on primitive ARGB arrays, split into tiles compared in parallel
+ * This demonstrates:
+ * 1. Divide and Conquer - Tile ranges split recursively on the fork/join pool
+ * 2. Encapsulation - Decoding, hashing and tolerance rules hidden behind compare()
+ *
+ * Images are decoded once into int[] ARGB pixels. Each tile is first checked against the cached
+ * hash of the same baseline tile, which reads only the actual pixels; only tiles whose hash differs
+ * are compared pixel by pixel, skipping identical rows with a vectorized Arrays.mismatch. Pixels
+ * whose channels differ by at most the color tolerance count as equal, as do pixels on anti-aliased
+ * edges (between a darker and a brighter neighbor with at most two neighbors of equal brightness,
+ * a simplified pixelmatch rule). Tiles inside ignore regions are skipped, pixels of partly covered
+ * tiles are masked. Ignore regions are in screenshot pixels.
+ */
+public class ImageDiffEngine {
+
+    private static final int LEAF_TILES = 8;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /**
+     * Private constructor to prevent instantiation (Utility class pattern)
+     */
+    private ImageDiffEngine() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Decode a PNG (or any ImageIO format) into ARGB pixels
+     * @param bytes Encoded image
+     * @return Decoded image
+     */
+    public static Image decode(byte[] bytes) {
+        try {
+            BufferedImage image = bytes != null && bytes.length > 0 ? ImageIO.read(new ByteArrayInputStream(bytes)) : null;
+            if (image == null) {
+                throw new FrameworkException("Screenshot is empty or not a supported image format");
+            }
+            return new Image(image.getWidth(), image.getHeight(), toArgb(image));
+        } catch (IOException e) {
+            throw new FrameworkException("Failed to decode screenshot", e);
+        }
+    }
+
+    /**
+     * Compare an image against its baseline
+     * @param baseline Baseline image
+     * @param actual Current image
+     * @param options Tile size, tolerances and ignore regions
+     * @return Differing pixels and changed tiles
+     */
+    public static DiffResult compare(Image baseline, Image actual, Options options) {
+        long start = System.nanoTime();
+        if (baseline.width != actual.width || baseline.height != actual.height) {
+            return new DiffResult(actual, options.tileSize, 0, new int[0], new long[0][], true,
+                (long) actual.width * actual.height, System.nanoTime() - start);
+        }
+        int columns = (actual.width + options.tileSize - 1) / options.tileSize;
+        int rows = (actual.height + options.tileSize - 1) / options.tileSize;
+        int[] diffCounts = new int[columns * rows];
+        long[][] masks = new long[columns * rows][];
+        long[] baselineHashes = baseline.tileHashes(options.tileSize);
+
+        ForkJoinPool.commonPool().invoke(
+            new TileTask(baseline, actual, options, baselineHashes, columns, 0, diffCounts.length, diffCounts, masks));
+
+        long diffPixels = 0;
+        for (int count : diffCounts) {
+            diffPixels += count;
+        }
+        return new DiffResult(actual, options.tileSize, columns, diffCounts, masks, false, diffPixels, System.nanoTime() - start);
+    }
+
+    private static int[] toArgb(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        // Fast paths for the layouts PNG screenshots decode to, getRGB converts pixel by pixel
+        if (image.getType() == BufferedImage.TYPE_INT_ARGB || image.getType() == BufferedImage.TYPE_INT_RGB) {
+            int[] data = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+            if (data.length == width * height) {
+                int[] pixels = data.clone();
+                if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+                    for (int i = 0; i < pixels.length; i++) {
+                        pixels[i] |= 0xff000000;
+                    }
+                }
+                return pixels;
+            }
+        }
+        if (image.getType() == BufferedImage.TYPE_4BYTE_ABGR || image.getType() == BufferedImage.TYPE_3BYTE_BGR) {
+            byte[] data = ((DataBufferByte) image.getRaster().getDataBuffer()).getData();
+            int stride = image.getType() == BufferedImage.TYPE_4BYTE_ABGR ? 4 : 3;
+            if (data.length == width * height * stride) {
+                int[] pixels = new int[width * height];
+                // Bytes per pixel are A, B, G, R for 4BYTE_ABGR and B, G, R for 3BYTE_BGR
+                int colors = stride - 3;
+                for (int i = 0, j = 0; i < pixels.length; i++, j += stride) {
+                    int alpha = stride == 4 ? data[j] & 0xff : 0xff;
+                    pixels[i] = alpha << 24 | (data[j + colors + 2] & 0xff) << 16 | (data[j + colors + 1] & 0xff) << 8
+                        | (data[j + colors] & 0xff);
+                }
+                return pixels;
+            }
+        }
+        return image.getRGB(0, 0, width, height, null, 0, width);
+    }
+
+    private static long hashTile(int[] pixels, int width, int x, int y, int tileWidth, int tileHeight) {
+        // Four independent lanes keep the multiplications from waiting on each other
+        long lane0 = FNV_OFFSET;
+        long lane1 = FNV_OFFSET + 1;
+        long lane2 = FNV_OFFSET + 2;
+        long lane3 = FNV_OFFSET + 3;
+        for (int row = y; row < y + tileHeight; row++) {
+            int i = row * width + x;
+            int end = i + tileWidth;
+            for (; i + 3 < end; i += 4) {
+                lane0 = (lane0 ^ pixels[i]) * FNV_PRIME;
+                lane1 = (lane1 ^ pixels[i + 1]) * FNV_PRIME;
+                lane2 = (lane2 ^ pixels[i + 2]) * FNV_PRIME;
+                lane3 = (lane3 ^ pixels[i + 3]) * FNV_PRIME;
+            }
+            for (; i < end; i++) {
+                lane0 = (lane0 ^ pixels[i]) * FNV_PRIME;
+            }
+        }
+        return lane0 ^ Long.rotateLeft(lane1, 16) ^ Long.rotateLeft(lane2, 32) ^ Long.rotateLeft(lane3, 48);
+    }
+
+    private static int channelDelta(int first, int second) {
+        int delta = 0;
+        for (int shift = 0; shift <= 24; shift += 8) {
+            delta = Math.max(delta, Math.abs((first >>> shift & 0xff) - (second >>> shift & 0xff)));
+        }
+        return delta;
+    }
+
+    private static int brightness(int pixel) {
+        return ((pixel >> 16 & 0xff) * 299 + (pixel >> 8 & 0xff) * 587 + (pixel & 0xff) * 114) / 1000;
+    }
+
+    /**
+     * Check if a pixel sits on an anti-aliased edge
+     * @param image Image to check
+     * @param x Column
+     * @param y Row
+     * @return true if the pixel lies between a darker and a brighter neighbor in a non-flat area
+     */
+    private static boolean isAntiAliased(Image image, int x, int y) {
+        int center = brightness(image.pixels[y * image.width + x]);
+        int equal = 0;
+        boolean darker = false;
+        boolean brighter = false;
+        for (int ny = Math.max(0, y - 1); ny <= Math.min(image.height - 1, y + 1); ny++) {
+            for (int nx = Math.max(0, x - 1); nx <= Math.min(image.width - 1, x + 1); nx++) {
+                if (nx == x && ny == y) {
+                    continue;
+                }
+                int delta = brightness(image.pixels[ny * image.width + nx]) - center;
+                if (delta == 0 && ++equal > 2) {
+                    return false;
+                }
+                darker |= delta < 0;
+                brighter |= delta > 0;
+            }
+        }
+        return darker && brighter;
+    }
+
+    /**
+     * Decoded image with lazily computed tile hashes
+     */
+    public static class Image {
+
+        private final int width;
+        private final int height;
+        private final int[] pixels;
+        private long[] tileHashes;
+        private int hashedTileSize;
+
+        private Image(int width, int height, int[] pixels) {
+            this.width = width;
+            this.height = height;
+            this.pixels = pixels;
+        }
+
+        public int getWidth() {
+            return width;
+        }
+
+        public int getHeight() {
+            return height;
+        }
+
+        /**
+         * Get hashes of all tiles, computed once per tile size (baselines are compared many times)
+         * @param tileSize Tile edge length
+         * @return Hash per tile in row-major order
+         */
+        private synchronized long[] tileHashes(int tileSize) {
+            if (tileHashes == null || hashedTileSize != tileSize) {
+                int columns = (width + tileSize - 1) / tileSize;
+                int rows = (height + tileSize - 1) / tileSize;
+                long[] hashes = new long[columns * rows];
+                IntStream.range(0, hashes.length).parallel().forEach(tile -> {
+                    int x = tile % columns * tileSize;
+                    int y = tile / columns * tileSize;
+                    hashes[tile] = hashTile(pixels, width, x, y, Math.min(tileSize, width - x), Math.min(tileSize, height - y));
+                });
+                tileHashes = hashes;
+                hashedTileSize = tileSize;
+            }
+            return tileHashes;
+        }
+    }
+
+    /**
+     * Comparison settings
+     */
+    public static class Options {
+
+        private final int tileSize;
+        private final int colorTolerance;
+        private final boolean ignoreAntialiasing;
+        private final List<Rectangle> ignoreRegions;
+
+        /**
+         * Create comparison settings
+         * @param tileSize Tile edge length in pixels
+         * @param colorTolerance Maximum per-channel difference treated as equal (0-255)
+         * @param ignoreAntialiasing true to ignore differences on anti-aliased edges
+         * @param ignoreRegions Regions excluded from the comparison, in screenshot pixels
+         */
+        public Options(int tileSize, int colorTolerance, boolean ignoreAntialiasing, List<Rectangle> ignoreRegions) {
+            this.tileSize = Math.max(8, tileSize);
+            this.colorTolerance = colorTolerance;
+            this.ignoreAntialiasing = ignoreAntialiasing;
+            this.ignoreRegions = List.copyOf(ignoreRegions);
+        }
+
+        /**
+         * Create comparison settings from the visual.* configuration
+         * @param ignoreRegions Regions excluded from the comparison, in screenshot pixels
+         * @return Comparison settings
+         */
+        public static Options fromConfig(List<Rectangle> ignoreRegions) {
+            return new Options(ConfigReader.getVisualTileSize(), ConfigReader.getVisualColorTolerance(),
+                ConfigReader.isVisualIgnoreAntialiasing(), ignoreRegions);
+        }
+    }
+
+    /**
+     * Outcome of a comparison
+     */
+    public static class DiffResult {
+
+        private final Image actual;
+        private final int tileSize;
+        private final int columns;
+        private final int[] diffCounts;
+        private final long[][] masks;
+        private final boolean sizeMismatch;
+        private final long diffPixels;
+        private final long compareNanos;
+
+        private DiffResult(Image actual, int tileSize, int columns, int[] diffCounts, long[][] masks,
+                           boolean sizeMismatch, long diffPixels, long compareNanos) {
+            this.actual = actual;
+            this.tileSize = tileSize;
+            this.columns = columns;
+            this.diffCounts = diffCounts;
+            this.masks = masks;
+            this.sizeMismatch = sizeMismatch;
+            this.diffPixels = diffPixels;
+            this.compareNanos = compareNanos;
+        }
+
+        /**
+         * Check if the images have different dimensions (nothing was compared)
+         * @return true if width or height differ
+         */
+        public boolean isSizeMismatch() {
+            return sizeMismatch;
+        }
+
+        public long getDiffPixels() {
+            return diffPixels;
+        }
+
+        /**
+         * Get share of differing pixels
+         * @return Differing pixels divided by all pixels, 1 on size mismatch
+         */
+        public double getDiffRatio() {
+            long total = (long) actual.width * actual.height;
+            return sizeMismatch || total == 0 ? 1.0 : (double) diffPixels / total;
+        }
+
+        /**
+         * Get bounds of the tiles with differing pixels
+         * @return Changed tiles in row-major order
+         */
+        public List<Rectangle> getChangedTiles() {
+            List<Rectangle> tiles = new ArrayList<>();
+            for (int tile = 0; tile < diffCounts.length; tile++) {
+                if (diffCounts[tile] > 0) {
+                    int x = tile % columns * tileSize;
+                    int y = tile / columns * tileSize;
+                    tiles.add(new Rectangle(x, y, Math.min(tileSize, actual.width - x), Math.min(tileSize, actual.height - y)));
+                }
+            }
+            return tiles;
+        }
+
+        public long getCompareMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(compareNanos);
+        }
+
+        /**
+         * Render the current image faded with differing pixels in red
+         * @return PNG bytes
+         */
+        public byte[] toDiffPng() {
+            int[] pixels = new int[actual.pixels.length];
+            for (int i = 0; i < pixels.length; i++) {
+                int gray = 0xc0 + brightness(actual.pixels[i]) / 4;
+                pixels[i] = 0xff000000 | gray << 16 | gray << 8 | gray;
+            }
+            for (int tile = 0; tile < masks.length; tile++) {
+                if (masks[tile] == null) {
+                    continue;
+                }
+                int x = tile % columns * tileSize;
+                int y = tile / columns * tileSize;
+                for (int bit = 0; bit < tileSize * tileSize; bit++) {
+                    if ((masks[tile][bit >> 6] & 1L << (bit & 63)) != 0) {
+                        pixels[(y + bit / tileSize) * actual.width + x + bit % tileSize] = 0xffff0000;
+                    }
+                }
+            }
+            BufferedImage image = new BufferedImage(actual.width, actual.height, BufferedImage.TYPE_INT_ARGB);
+            image.setRGB(0, 0, actual.width, actual.height, pixels, 0, actual.width);
+            try {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                ImageIO.write(image, "png", out);
+                return out.toByteArray();
+            } catch (IOException e) {
+                throw new FrameworkException("Failed to encode diff image", e);
+            }
+        }
+    }
+
+    /**
+     * Fork/join task comparing a range of tiles
+     */
+    private static class TileTask extends RecursiveAction {
+
+        private final Image baseline;
+        private final Image actual;
+        private final Options options;
+        private final long[] baselineHashes;
+        private final int columns;
+        private final int from;
+        private final int to;
+        private final int[] diffCounts;
+        private final long[][] masks;
+
+        private TileTask(Image baseline, Image actual, Options options, long[] baselineHashes, int columns,
+                         int from, int to, int[] diffCounts, long[][] masks) {
+            this.baseline = baseline;
+            this.actual = actual;
+            this.options = options;
+            this.baselineHashes = baselineHashes;
+            this.columns = columns;
+            this.from = from;
+            this.to = to;
+            this.diffCounts = diffCounts;
+            this.masks = masks;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_TILES) {
+                for (int tile = from; tile < to; tile++) {
+                    compareTile(tile);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new TileTask(baseline, actual, options, baselineHashes, columns, from, middle, diffCounts, masks),
+                new TileTask(baseline, actual, options, baselineHashes, columns, middle, to, diffCounts, masks));
+        }
+
+        private void compareTile(int tile) {
+            int tileSize = options.tileSize;
+            int width = actual.width;
+            int x0 = tile % columns * tileSize;
+            int y0 = tile / columns * tileSize;
+            int tileWidth = Math.min(tileSize, width - x0);
+            int tileHeight = Math.min(tileSize, actual.height - y0);
+            Rectangle bounds = new Rectangle(x0, y0, tileWidth, tileHeight);
+
+            List<Rectangle> covering = new ArrayList<>();
+            for (Rectangle region : options.ignoreRegions) {
+                if (region.contains(bounds)) {
+                    return;
+                }
+                if (region.intersects(bounds)) {
+                    covering.add(region);
+                }
+            }
+            // Hashes include ignored pixels, so partly ignored tiles are always compared pixel by pixel
+            if (covering.isEmpty() && hashTile(actual.pixels, width, x0, y0, tileWidth, tileHeight) == baselineHashes[tile]) {
+                return;
+            }
+
+            int[] expected = baseline.pixels;
+            int[] current = actual.pixels;
+            int count = 0;
+            long[] mask = null;
+            for (int y = y0; y < y0 + tileHeight; y++) {
+                int rowStart = y * width + x0;
+                if (Arrays.mismatch(expected, rowStart, rowStart + tileWidth, current, rowStart, rowStart + tileWidth) < 0) {
+                    continue;
+                }
+                for (int x = x0; x < x0 + tileWidth; x++) {
+                    int index = y * width + x;
+                    if (expected[index] == current[index] || isIgnored(covering, x, y)
+                            || channelDelta(expected[index], current[index]) <= options.colorTolerance
+                            || options.ignoreAntialiasing && (isAntiAliased(baseline, x, y) || isAntiAliased(actual, x, y))) {
+                        continue;
+                    }
+                    count++;
+                    if (mask == null) {
+                        mask = new long[(tileSize * tileSize + 63) / 64];
+                    }
+                    int bit = (y - y0) * tileSize + (x - x0);
+                    mask[bit >> 6] |= 1L << (bit & 63);
+                }
+            }
+            diffCounts[tile] = count;
+            masks[tile] = mask;
+        }
+
+        private static boolean isIgnored(List<Rectangle> regions, int x, int y) {
+            for (Rectangle region : regions) {
+                if (region.contains(x, y)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
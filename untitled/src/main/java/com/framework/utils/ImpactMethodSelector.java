@@ -0,0 +1,208 @@
+package com.framework.utils;
+
+import com.framework.exceptions.FrameworkException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IMethodSelector;
+import org.testng.IMethodSelectorContext;
+import org.testng.ITestNGMethod;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TestNG method selector running only tests affected by changed source files
+ * This demonstrates:
+ * 1. Strategy Pattern - Additional selection step in front of TestNG's group/include selection
+ * 2. Separation of Concerns - Usage data recorded by ImpactRecorder, decisions made here
+ *
+ * Changed files come from impact.changed.files or from git diff against impact.base.ref.
+ * A test is selected when it used a changed page, component or wrapper class (or a changed
+ * locator), when its test class or one of its superclasses changed, or when it has no recorded
+ * usage yet. Changes to any other framework source (base classes, utilities, resources, build
+ * files) select every test.
+ * Selection is off while no changes are given, so regular runs are unaffected.
+ */
+public class ImpactMethodSelector implements IMethodSelector {
+
+    private static final Logger logger = LogManager.getLogger(ImpactMethodSelector.class);
+    private static final String MAIN_SOURCES = "src/main/java/";
+    private static final String TEST_SOURCES = "src/test/java/";
+    private static final List<String> INDEXED_PACKAGES = List.of(
+        "com/framework/pages/", "com/framework/components/", "com/framework/wrappers/");
+
+    private static Selection selection;
+
+    @Override
+    public boolean includeMethod(IMethodSelectorContext context, ITestNGMethod method, boolean isTestMethod) {
+        Selection current = getSelection();
+        if (!isTestMethod || current.runAll) {
+            return true;
+        }
+
+        String testKey = TestDurationStore.keyOf(method);
+        if (current.isAffected(testKey, method.getRealClass())) {
+            return true;
+        }
+
+        // Excluded here, later selectors must not include it again
+        logger.debug("Not affected by changes, skipping: {}", testKey);
+        context.setStopped(true);
+        return false;
+    }
+
+    @Override
+    public void setTestMethods(List<ITestNGMethod> testMethods) {
+        // Selection does not depend on the other test methods
+    }
+
+    /**
+     * Compute selection once per JVM
+     * @return Selection for the configured changes
+     */
+    private static synchronized Selection getSelection() {
+        if (selection == null) {
+            selection = buildSelection();
+        }
+        return selection;
+    }
+
+    /**
+     * Build selection from configured changed files and locators
+     * @return Selection
+     */
+    private static Selection buildSelection() {
+        Selection result = new Selection();
+        Set<String> changedFiles = new LinkedHashSet<>(ConfigReader.getImpactChangedFiles());
+        String baseRef = ConfigReader.getImpactBaseRef();
+        if (!baseRef.isEmpty()) {
+            changedFiles.addAll(gitChangedFiles(baseRef));
+        }
+        result.changedLocators.addAll(ConfigReader.getImpactChangedLocators());
+
+        if (changedFiles.isEmpty() && result.changedLocators.isEmpty() && baseRef.isEmpty()) {
+            logger.info("No changes given for impact selection, running all tests");
+            result.runAll = true;
+            return result;
+        }
+
+        for (String file : changedFiles) {
+            String path = file.replace('\\', '/');
+            int mainIndex = path.indexOf(MAIN_SOURCES);
+            int testIndex = path.indexOf(TEST_SOURCES);
+            if (mainIndex >= 0 && isIndexed(path.substring(mainIndex + MAIN_SOURCES.length()))) {
+                result.changedClasses.add(toClassName(path.substring(mainIndex + MAIN_SOURCES.length())));
+            } else if (testIndex >= 0 && path.endsWith(".java")) {
+                result.changedTestClasses.add(toClassName(path.substring(testIndex + TEST_SOURCES.length())));
+            } else if (affectsEverything(path)) {
+                logger.info("Change to {} may affect any test, running all tests", path);
+                result.runAll = true;
+                return result;
+            }
+        }
+
+        result.impactMap = ImpactRecorder.loadImpactMap();
+        if (result.impactMap.isEmpty()) {
+            logger.warn("No impact map at {}, running all tests", ConfigReader.getImpactMapPath());
+            result.runAll = true;
+            return result;
+        }
+        logger.info("Impact selection for changed classes {}, test classes {}, locators {}",
+            result.changedClasses, result.changedTestClasses, result.changedLocators);
+        return result;
+    }
+
+    /**
+     * Check if a source path belongs to a package indexed by ImpactRecorder
+     * @param sourcePath Path relative to the source root
+     * @return true for pages, components and wrappers sources
+     */
+    private static boolean isIndexed(String sourcePath) {
+        return sourcePath.endsWith(".java") && INDEXED_PACKAGES.stream().anyMatch(sourcePath::startsWith);
+    }
+
+    /**
+     * Check if a changed file outside the indexed packages can influence tests
+     * @param path Changed file path
+     * @return false for documentation and repository metadata, true otherwise
+     */
+    private static boolean affectsEverything(String path) {
+        String lower = path.toLowerCase();
+        return !(lower.endsWith(".md") || lower.endsWith(".txt") || lower.endsWith(".gitignore")
+            || lower.startsWith(".idea/") || lower.contains("/.idea/"));
+    }
+
+    private static String toClassName(String sourcePath) {
+        return sourcePath.substring(0, sourcePath.length() - ".java".length()).replace('/', '.');
+    }
+
+    /**
+     * Get files changed between a git ref and the working tree
+     * @param baseRef Git ref to diff against
+     * @return Repository-relative paths of changed files
+     */
+    private static List<String> gitChangedFiles(String baseRef) {
+        List<String> files = new ArrayList<>();
+        try {
+            // Changes since the branch point, including uncommitted ones, relative to the module directory
+            Process process = new ProcessBuilder("git", "diff", "--name-only", "--relative", "--merge-base", baseRef)
+                .redirectErrorStream(true)
+                .start();
+            try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isBlank()) {
+                        files.add(line.trim());
+                    }
+                }
+            }
+            if (!process.waitFor(30, TimeUnit.SECONDS) || process.exitValue() != 0) {
+                throw new FrameworkException("git diff against " + baseRef + " failed: " + files);
+            }
+        } catch (IOException e) {
+            throw new FrameworkException("Failed to run git diff against " + baseRef, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FrameworkException("Interrupted while running git diff", e);
+        }
+        logger.info("{} files changed against {}", files.size(), baseRef);
+        return files;
+    }
+
+    /**
+     * Changes given for selection and the usage data to match them against
+     */
+    private static class Selection {
+
+        private final Set<String> changedClasses = new LinkedHashSet<>();
+        private final Set<String> changedTestClasses = new LinkedHashSet<>();
+        private final Set<String> changedLocators = new LinkedHashSet<>();
+        private Map<String, ImpactRecorder.Usage> impactMap = Map.of();
+        private boolean runAll;
+
+        private boolean isAffected(String testKey, Class<?> testClass) {
+            // A changed test class affects its own tests and those of its subclasses
+            for (Class<?> type = testClass; type != null; type = type.getSuperclass()) {
+                if (changedTestClasses.contains(type.getName())) {
+                    return true;
+                }
+            }
+            ImpactRecorder.Usage usage = impactMap.get(testKey);
+            if (usage == null) {
+                // New or never recorded test
+                return true;
+            }
+            return usage.getClasses().stream().anyMatch(changedClasses::contains)
+                || usage.getLocators().stream().anyMatch(changedLocators::contains);
+        }
+    }
+}
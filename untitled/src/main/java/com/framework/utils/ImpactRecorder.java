@@ -0,0 +1,238 @@
+package com.framework.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.support.pagefactory.DefaultElementLocator;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.openqa.selenium.support.pagefactory.ElementLocatorFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Runtime dependency indexer recording which page objects and locators each test exercises
+ * This demonstrates:
+ * 1. Observer Pattern - Page objects, components and wrappers report their use
+ * 2. Decorator Pattern - PageFactory locators wrapped to record element lookups
+ *
+ * Page, component and wrapper classes are recorded when they are constructed, locators
+ * (as DeclaringClass.field) when PageFactory looks their element up. Usage is collected per
+ * test method across all invocations of a run and replaces the previous entry of that method
+ * in the impact map when the run is flushed.
+ * The locator of the last failed element lookup is kept per test for failure clustering.
+ */
+public class ImpactRecorder {
+
+    private static final Logger logger = LogManager.getLogger(ImpactRecorder.class);
+    private static final TestContext.Local<String> currentTest = new TestContext.Local<>();
+    private static final TestContext.Local<String> failedLocator = new TestContext.Local<>();
+    private static final Map<String, Usage> runUsage = new HashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation (Utility class pattern)
+     */
+    private ImpactRecorder() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Start recording usage for the current test method
+     * @param testKey Method key as built by TestDurationStore.keyOf
+     */
+    public static void startTest(String testKey) {
+        if (ConfigReader.isImpactRecordingEnabled()) {
+            currentTest.set(testKey);
+        }
+    }
+
+    /**
+     * Stop recording usage of the current test method
+     */
+    public static void finishTest() {
+        currentTest.remove();
+        failedLocator.remove();
+    }
+
+    /**
+     * Get the locator whose element lookup failed last in the current test
+     * @return Locator as DeclaringClass.field, or null if the last lookup found its element
+     */
+    public static String getFailedLocator() {
+        return failedLocator.get();
+    }
+
+    /**
+     * Record use of a page object, component or wrapper class
+     * @param usedClass Class that was constructed
+     */
+    public static void recordClass(Class<?> usedClass) {
+        String testKey = currentTest.get();
+        if (testKey != null) {
+            synchronized (ImpactRecorder.class) {
+                runUsage.computeIfAbsent(testKey, key -> new Usage()).classes.add(usedClass.getName());
+            }
+        }
+    }
+
+    /**
+     * Record lookup of a PageFactory locator
+     * @param field Annotated page object field
+     */
+    public static void recordLocator(Field field) {
+        String testKey = currentTest.get();
+        if (testKey != null) {
+            synchronized (ImpactRecorder.class) {
+                Usage usage = runUsage.computeIfAbsent(testKey, key -> new Usage());
+                usage.classes.add(field.getDeclaringClass().getName());
+                usage.locators.add(field.getDeclaringClass().getSimpleName() + "." + field.getName());
+            }
+        }
+    }
+
+    /**
+     * Create a PageFactory locator factory that records element lookups
+     * @param searchContext Driver or element to search in
+     * @return Locator factory for PageFactory.initElements
+     */
+    public static ElementLocatorFactory trackingLocatorFactory(SearchContext searchContext) {
+        return field -> new TrackingElementLocator(new DefaultElementLocator(searchContext, field), field);
+    }
+
+    /**
+     * Load the persisted impact map
+     * @return Map of test method key to used classes and locators, empty if nothing was recorded yet
+     */
+    public static Map<String, Usage> loadImpactMap() {
+        Map<String, Usage> impactMap = new TreeMap<>();
+        Path path = Paths.get(ConfigReader.getImpactMapPath());
+        if (!Files.exists(path)) {
+            return impactMap;
+        }
+        try {
+            Map<String, Object> stored = new Json().toType(Files.readString(path, StandardCharsets.UTF_8), Json.MAP_TYPE);
+            stored.forEach((testKey, value) -> {
+                if (value instanceof Map) {
+                    Usage usage = new Usage();
+                    usage.classes.addAll(asStrings(((Map<?, ?>) value).get("classes")));
+                    usage.locators.addAll(asStrings(((Map<?, ?>) value).get("locators")));
+                    impactMap.put(testKey, usage);
+                }
+            });
+        } catch (Exception e) {
+            logger.warn("Ignoring unreadable impact map {}: {}", path, e.getMessage());
+        }
+        return impactMap;
+    }
+
+    /**
+     * Merge usage recorded in this run into the impact map and write it to disk
+     */
+    public static synchronized void flush() {
+        if (runUsage.isEmpty()) {
+            return;
+        }
+        Map<String, Usage> impactMap = loadImpactMap();
+        impactMap.putAll(runUsage);
+        runUsage.clear();
+
+        Map<String, Object> json = new TreeMap<>();
+        impactMap.forEach((testKey, usage) -> json.put(testKey, Map.of(
+            "classes", new ArrayList<>(usage.classes),
+            "locators", new ArrayList<>(usage.locators))));
+
+        Path path = Paths.get(ConfigReader.getImpactMapPath());
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            Files.writeString(temp, new Json().toJson(json), StandardCharsets.UTF_8);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.info("Saved impact map of {} tests to: {}", impactMap.size(), path);
+        } catch (IOException e) {
+            logger.error("Failed to save impact map to: {}", path, e);
+        }
+    }
+
+    private static List<String> asStrings(Object value) {
+        List<String> strings = new ArrayList<>();
+        if (value instanceof List) {
+            ((List<?>) value).forEach(item -> strings.add(String.valueOf(item)));
+        }
+        return strings;
+    }
+
+    /**
+     * Classes and locators used by one test method
+     */
+    public static class Usage {
+
+        private final Set<String> classes = new TreeSet<>();
+        private final Set<String> locators = new TreeSet<>();
+
+        /**
+         * Get fully qualified names of used page object, component and wrapper classes
+         * @return Used classes
+         */
+        public Set<String> getClasses() {
+            return classes;
+        }
+
+        /**
+         * Get used locators as DeclaringClass.field
+         * @return Used locators
+         */
+        public Set<String> getLocators() {
+            return locators;
+        }
+    }
+
+    /**
+     * Element locator recording each lookup before delegating to PageFactory's default locator
+     */
+    private static class TrackingElementLocator implements ElementLocator {
+
+        private final ElementLocator delegate;
+        private final Field field;
+
+        private TrackingElementLocator(ElementLocator delegate, Field field) {
+            this.delegate = delegate;
+            this.field = field;
+        }
+
+        @Override
+        public WebElement findElement() {
+            recordLocator(field);
+            try {
+                WebElement element = delegate.findElement();
+                failedLocator.remove();
+                return element;
+            } catch (NoSuchElementException e) {
+                failedLocator.set(field.getDeclaringClass().getSimpleName() + "." + field.getName());
+                throw e;
+            }
+        }
+
+        @Override
+        public List<WebElement> findElements() {
+            recordLocator(field);
+            return delegate.findElements();
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.framework.utils;
+
+import com.framework.exceptions.FrameworkException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Harvester for long virtualized or infinite-scroll lists
+ * This demonstrates:
+ * 1. Producer-Consumer Pattern - The browser scrolls and extracts rows, the test drains them in chunks
+ * 2. Builder-like configuration - Row selector, key, fields and limits set fluently
+ *
+ * A script started in the page scrolls the list step by step, extracts every rendered row
+ * into a record (key, text and optional fields) and drops rows whose key was already seen,
+ * so rows recycled by virtualized lists are kept exactly once. Records are streamed back by
+ * async scripts in chunks; a list of thousands of rows costs a handful of round-trips instead
+ * of several WebDriver calls per row. Harvesting ends at maxRows, or when the list stays at its
+ * end without new rows or growth for list.harvest.settle.ms.
+ */
+public class ListHarvester {
+
+    private static final Logger logger = LogManager.getLogger(ListHarvester.class);
+
+    private static final String START_SCRIPT =
+        "var id = arguments[0], container = arguments[1], o = arguments[2];" +
+        "var registry = window.__fwHarvest = window.__fwHarvest || {};" +
+        "var h = registry[id] = { seen: Object.create(null), buffer: [], count: 0, done: false, stopped: false, error: null };" +
+        "var root = container || document;" +
+        "var scroller = container && container.scrollHeight > container.clientHeight + 1" +
+        "  ? container : (document.scrollingElement || document.documentElement);" +
+        "var textOf = function(el) { return (el.innerText || el.textContent || '').trim(); };" +
+        "var collect = function() {" +
+        "  var rows = root.querySelectorAll(o.rows);" +
+        "  for (var i = 0; i < rows.length; i++) {" +
+        "    var row = rows[i], text = textOf(row);" +
+        "    var key = o.key ? row.getAttribute(o.key) : text;" +
+        "    if (key === null) {" +
+        "      h.error = 'row ' + i + ' of ' + o.rows + ' has no ' + o.key + ' attribute to deduplicate by: ' + text.substring(0, 80);" +
+        "      h.done = true; return;" +
+        "    }" +
+        "    if (key in h.seen) { continue; }" +
+        "    h.seen[key] = true;" +
+        "    var record = { key: key, text: text };" +
+        "    Object.keys(o.fields).forEach(function(name) {" +
+        "      var field = row.querySelector(o.fields[name]);" +
+        "      record[name] = field ? textOf(field) : null;" +
+        "    });" +
+        "    h.buffer.push(record);" +
+        "    if (++h.count >= o.maxRows && o.maxRows > 0) { h.done = true; return; }" +
+        "  }" +
+        "};" +
+        "var lastCount = -1, lastHeight = -1, lastProgress = Date.now();" +
+        "var step = function() {" +
+        "  if (h.stopped) { return; }" +
+        "  try {" +
+        "    collect();" +
+        "    if (h.done) { return; }" +
+        "    var atEnd = scroller.scrollTop + scroller.clientHeight >= scroller.scrollHeight - 2;" +
+        "    if (h.count !== lastCount || scroller.scrollHeight !== lastHeight) {" +
+        "      lastCount = h.count; lastHeight = scroller.scrollHeight; lastProgress = Date.now();" +
+        "    } else if (atEnd && Date.now() - lastProgress >= o.settle) {" +
+        "      h.done = true; return;" +
+        "    }" +
+        "    if (!atEnd) { scroller.scrollTop += Math.max(1, Math.floor(scroller.clientHeight * 0.8)); }" +
+        // Pause scrolling while the test has not drained the buffer
+        "    setTimeout(step, h.buffer.length > o.chunk * 4 ? 200 : o.interval);" +
+        "  } catch (e) { h.error = String(e); h.done = true; }" +
+        "};" +
+        "scroller.scrollTop = 0;" +
+        "setTimeout(step, o.interval);" +
+        "return true;";
+
+    private static final String NEXT_CHUNK_SCRIPT =
+        "var h = (window.__fwHarvest || {})[arguments[0]], chunk = arguments[1], maxWait = arguments[2];" +
+        "var done = arguments[arguments.length - 1];" +
+        "if (!h) { done({ rows: [], done: true, error: 'harvest state lost, page was reloaded or left' }); return; }" +
+        "var started = Date.now();" +
+        "var poll = function() {" +
+        "  if (h.buffer.length >= chunk || h.done || Date.now() - started >= maxWait) {" +
+        "    done({ rows: h.buffer.splice(0, chunk), done: h.done && h.buffer.length === 0, error: h.error });" +
+        "  } else {" +
+        "    setTimeout(poll, 50);" +
+        "  }" +
+        "};" +
+        "poll();";
+
+    private static final String STOP_SCRIPT =
+        "var registry = window.__fwHarvest || {}, h = registry[arguments[0]];" +
+        "if (h) { h.stopped = true; delete registry[arguments[0]]; }";
+
+    private final WebDriver driver;
+    private final WebElement container;
+    private final String rowSelector;
+    private final Map<String, String> fields = new LinkedHashMap<>();
+    private String keyAttribute;
+    private int maxRows;
+    private int chunkSize = 500;
+
+    /**
+     * Constructor
+     * @param driver WebDriver instance
+     * @param container Element containing the rows (and usually scrolling them), or null for the whole page
+     * @param rowSelector CSS selector of one rendered row, relative to the container
+     */
+    public ListHarvester(WebDriver driver, WebElement container, String rowSelector) {
+        this.driver = driver;
+        this.container = container;
+        this.rowSelector = rowSelector;
+    }
+
+    /**
+     * Deduplicate rows by an attribute instead of their text
+     * Every row must carry the attribute; harvesting fails on the first row without it
+     * @param attribute Attribute holding a stable row key, e.g. data-id
+     * @return ListHarvester instance for method chaining
+     */
+    public ListHarvester keyAttribute(String attribute) {
+        this.keyAttribute = attribute;
+        return this;
+    }
+
+    /**
+     * Extract the text of a child element into each record
+     * @param name Record field name
+     * @param cssSelector CSS selector relative to the row
+     * @return ListHarvester instance for method chaining
+     */
+    public ListHarvester field(String name, String cssSelector) {
+        fields.put(name, cssSelector);
+        return this;
+    }
+
+    /**
+     * Stop after a number of unique rows
+     * @param maxRows Row limit (0 = until the end of the list)
+     * @return ListHarvester instance for method chaining
+     */
+    public ListHarvester maxRows(int maxRows) {
+        this.maxRows = maxRows;
+        return this;
+    }
+
+    /**
+     * Set the number of records transferred per round-trip
+     * @param chunkSize Records per chunk
+     * @return ListHarvester instance for method chaining
+     */
+    public ListHarvester chunkSize(int chunkSize) {
+        this.chunkSize = Math.max(1, chunkSize);
+        return this;
+    }
+
+    /**
+     * Harvest all rows into a list
+     * @return Records in discovery order, each with key, text and the configured fields
+     */
+    public List<Map<String, String>> harvest() {
+        List<Map<String, String>> records = new ArrayList<>();
+        stream(records::addAll);
+        return records;
+    }
+
+    /**
+     * Harvest rows and hand them to a consumer chunk by chunk
+     * @param chunkConsumer Receives each non-empty chunk of records
+     * @return Total number of harvested rows
+     */
+    @SuppressWarnings("unchecked")
+    public int stream(Consumer<List<Map<String, String>>> chunkConsumer) {
+        JavascriptExecutor executor = (JavascriptExecutor) driver;
+        String id = UUID.randomUUID().toString();
+        Map<String, Object> options = new LinkedHashMap<>();
+        options.put("rows", rowSelector);
+        options.put("key", keyAttribute);
+        options.put("fields", fields);
+        options.put("maxRows", maxRows);
+        options.put("chunk", chunkSize);
+        options.put("settle", ConfigReader.getHarvestSettleMillis());
+        options.put("interval", ConfigReader.getHarvestScrollInterval());
+
+        long timeoutMillis = ConfigReader.getHarvestTimeout() * 1000L;
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        long maxWait = Math.max(1000, driver.manage().timeouts().getScriptTimeout().toMillis() - 1000);
+        int total = 0;
+        int chunks = 0;
+        try {
+            executor.executeScript(START_SCRIPT, id, container, options);
+            while (true) {
+                Map<String, Object> chunk = (Map<String, Object>) executor.executeAsyncScript(NEXT_CHUNK_SCRIPT, id, chunkSize, maxWait);
+                List<Map<String, String>> records = toRecords(chunk.get("rows"));
+                if (!records.isEmpty()) {
+                    total += records.size();
+                    chunks++;
+                    chunkConsumer.accept(records);
+                }
+                if (chunk.get("error") != null) {
+                    throw new FrameworkException("List harvesting of '" + rowSelector + "' failed: " + chunk.get("error"));
+                }
+                if (Boolean.TRUE.equals(chunk.get("done"))) {
+                    break;
+                }
+                if (System.currentTimeMillis() > deadline) {
+                    throw new FrameworkException("List harvesting of '" + rowSelector + "' did not finish within "
+                        + ConfigReader.getHarvestTimeout() + " seconds (" + total + " rows so far)");
+                }
+            }
+        } finally {
+            try {
+                executor.executeScript(STOP_SCRIPT, id);
+            } catch (Exception e) {
+                logger.debug("Failed to stop list harvesting: {}", e.getMessage());
+            }
+        }
+        logger.info("Harvested {} unique rows of '{}' in {} chunks", total, rowSelector, chunks);
+        return total;
+    }
+
+    private static List<Map<String, String>> toRecords(Object rows) {
+        List<Map<String, String>> records = new ArrayList<>();
+        if (rows instanceof List) {
+            for (Object row : (List<?>) rows) {
+                Map<String, String> record = new LinkedHashMap<>();
+                ((Map<?, ?>) row).forEach((name, value) -> record.put(String.valueOf(name), value != null ? String.valueOf(value) : null));
+                records.add(record);
+            }
+        }
+        return records;
+    }
+}
@@ -0,0 +1,450 @@
+package com.framework.utils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.qameta.allure.listener.StepLifecycleListener;
+import io.qameta.allure.model.StepResult;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Embedded HTTP server streaming the progress of the running suite over Server-Sent Events
+ * This demonstrates:
+ * 1. Observer Pattern - TestNG and Allure step listener feeding one in-memory run state
+ * 2. Publish-Subscribe - Any number of dashboards or curl clients following the same event stream
+ *
+ * Test start and finish events are kept in a ring buffer of live.server.buffer.size entries, so
+ * clients connecting late (or reconnecting with Last-Event-ID) catch up without any disk writes.
+ * Once a second every client also gets a snapshot with the current test and Allure step of each
+ * worker thread, tests finished in the last minute, the slowest running tests and the time since
+ * the last test event, which makes a stalled shard stand out.
+ *
+ * Steps are matched to their test through TestNG's current test result, because the test method runs
+ * on a thread other than the listener callbacks when a time-out applies outside TestNG's worker threads.
+ *
+ * Endpoints: / (dashboard), /events (text/event-stream), /snapshot (JSON).
+ * Registered in testng.xml for test events and via META-INF/services for Allure step events;
+ * both instances share the static run state. Shard N of a sharded run listens on port + N.
+ */
+public class LiveRunServer implements ISuiteListener, ITestListener, StepLifecycleListener {
+
+    private static final Logger logger = LogManager.getLogger(LiveRunServer.class);
+    private static final long SNAPSHOT_INTERVAL_MS = 1000;
+    private static final long RATE_WINDOW_MS = 60_000;
+    private static final Object lock = new Object();
+    private static final String ACTIVE_TEST_ATTRIBUTE = LiveRunServer.class.getName();
+
+    private static final Map<Long, ActiveTest> activeTests = new ConcurrentHashMap<>();
+    private static final Deque<Long> completions = new ArrayDeque<>();
+    private static final AtomicInteger passed = new AtomicInteger();
+    private static final AtomicInteger failed = new AtomicInteger();
+    private static final AtomicInteger skipped = new AtomicInteger();
+
+    private static HttpServer server;
+    private static ExecutorService executor;
+    private static EventRing ring;
+    private static int openSuites;
+    private static volatile boolean running;
+    private static volatile long startMillis;
+    private static volatile long lastEventMillis;
+
+    /**
+     * Start the server with the first suite
+     * @param suite Suite about to run
+     */
+    @Override
+    public void onStart(ISuite suite) {
+        if (!ConfigReader.isLiveServerEnabled()) {
+            return;
+        }
+        synchronized (lock) {
+            openSuites++;
+            start();
+        }
+        publish("suite-start", Map.of("suite", suite.getName()));
+    }
+
+    /**
+     * Stop the server when the last suite finished
+     * @param suite Suite that finished
+     */
+    @Override
+    public void onFinish(ISuite suite) {
+        if (!running) {
+            return;
+        }
+        publish("suite-finish", Map.of("suite", suite.getName()));
+        synchronized (lock) {
+            if (--openSuites <= 0) {
+                stop();
+            }
+        }
+    }
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        if (!running) {
+            return;
+        }
+        ActiveTest test = new ActiveTest(testName(result), Thread.currentThread().getName());
+        activeTests.put(Thread.currentThread().threadId(), test);
+        result.setAttribute(ACTIVE_TEST_ATTRIBUTE, test);
+        publish("test-start", Map.of("test", test.name, "thread", test.thread));
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        finish(result, "passed", passed);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        finish(result, "failed", failed);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        finish(result, "skipped", skipped);
+    }
+
+    @Override
+    public void beforeStepStart(StepResult result) {
+        ActiveTest test = running ? currentTest() : null;
+        if (test != null) {
+            test.steps.push(result);
+        }
+    }
+
+    @Override
+    public void afterStepStop(StepResult result) {
+        ActiveTest test = running ? currentTest() : null;
+        if (test != null) {
+            test.steps.pollFirst();
+        }
+    }
+
+    /**
+     * Get the running test of the current thread
+     * TestNG passes its current test result on to the thread executing the test method
+     * @return Running test or null if the thread is not running a test
+     */
+    private static ActiveTest currentTest() {
+        ITestResult result = Reporter.getCurrentTestResult();
+        Object test = result != null ? result.getAttribute(ACTIVE_TEST_ATTRIBUTE) : null;
+        return test instanceof ActiveTest ? (ActiveTest) test : activeTests.get(Thread.currentThread().threadId());
+    }
+
+    private static void start() {
+        if (server != null) {
+            return;
+        }
+        int port = ConfigReader.getLiveServerPort();
+        if (port > 0 && System.getProperty("shard.index") != null) {
+            port += Integer.parseInt(System.getProperty("shard.index"));
+        }
+        try {
+            InetAddress loopback = InetAddress.getLoopbackAddress();
+            ring = new EventRing(ConfigReader.getLiveServerBufferSize());
+            server = HttpServer.create(new InetSocketAddress(loopback, port), 0);
+            server.createContext("/", LiveRunServer::handle);
+            executor = Executors.newVirtualThreadPerTaskExecutor();
+            server.setExecutor(executor);
+            startMillis = System.currentTimeMillis();
+            lastEventMillis = startMillis;
+            running = true;
+            server.start();
+            logger.info("Live run dashboard at http://{}:{}/", loopback.getHostAddress(), server.getAddress().getPort());
+        } catch (IOException e) {
+            // A dashboard must not fail the run
+            logger.error("Failed to start live run server on port {}, continuing without it", port, e);
+            running = false;
+            server = null;
+            if (executor != null) {
+                executor.shutdownNow();
+                executor = null;
+            }
+        }
+    }
+
+    private static void stop() {
+        if (server == null) {
+            return;
+        }
+        running = false;
+        ring.wakeUp();
+        // Give streaming clients a moment to receive the final events
+        server.stop(1);
+        executor.shutdownNow();
+        server = null;
+        executor = null;
+        logger.info("Live run server stopped ({} passed, {} failed, {} skipped)", passed.get(), failed.get(), skipped.get());
+    }
+
+    private static void finish(ITestResult result, String status, AtomicInteger counter) {
+        if (!running) {
+            return;
+        }
+        String name = testName(result);
+        // Skips of tests that never started (failed configuration) must not clear the running test
+        activeTests.computeIfPresent(Thread.currentThread().threadId(),
+            (thread, test) -> test.name.equals(name) ? null : test);
+        result.removeAttribute(ACTIVE_TEST_ATTRIBUTE);
+        counter.incrementAndGet();
+        long now = System.currentTimeMillis();
+        synchronized (completions) {
+            completions.addLast(now);
+        }
+
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("test", name);
+        data.put("thread", Thread.currentThread().getName());
+        data.put("status", status);
+        data.put("durationMs", result.getEndMillis() - result.getStartMillis());
+        if (result.getThrowable() != null) {
+            data.put("error", String.valueOf(result.getThrowable().getMessage()));
+        }
+        publish("test-finish", data);
+    }
+
+    private static void publish(String type, Map<String, Object> data) {
+        EventRing events = ring;
+        if (!running || events == null) {
+            return;
+        }
+        lastEventMillis = System.currentTimeMillis();
+        events.append(type, new Json().toJson(data));
+    }
+
+    private static String testName(ITestResult result) {
+        return result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+    }
+
+    /**
+     * Build the current state of the run
+     * @return Counters, throughput, per-thread progress and slowest running tests
+     */
+    private static Map<String, Object> snapshot() {
+        long now = System.currentTimeMillis();
+        int lastMinute;
+        synchronized (completions) {
+            while (!completions.isEmpty() && completions.peekFirst() < now - RATE_WINDOW_MS) {
+                completions.removeFirst();
+            }
+            lastMinute = completions.size();
+        }
+        long elapsed = now - startMillis;
+
+        List<Map<String, Object>> threads = new ArrayList<>();
+        List<ActiveTest> active = new ArrayList<>(activeTests.values());
+        active.sort(Comparator.comparing((ActiveTest test) -> test.thread));
+        for (ActiveTest test : active) {
+            Map<String, Object> thread = new LinkedHashMap<>();
+            thread.put("thread", test.thread);
+            thread.put("test", test.name);
+            StepResult step = test.steps.peekFirst();
+            thread.put("step", step != null && step.getName() != null ? step.getName() : "");
+            thread.put("runningMs", now - test.startMillis);
+            threads.add(thread);
+        }
+        List<Map<String, Object>> slowest = threads.stream()
+            .sorted(Comparator.comparingLong((Map<String, Object> thread) -> (Long) thread.get("runningMs")).reversed())
+            .limit(ConfigReader.getLiveServerSlowestCount())
+            .toList();
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("shard", System.getProperty("shard.index", ""));
+        snapshot.put("elapsedMs", elapsed);
+        snapshot.put("passed", passed.get());
+        snapshot.put("failed", failed.get());
+        snapshot.put("skipped", skipped.get());
+        snapshot.put("running", threads.size());
+        // Extrapolated during the first minute so early throughput is comparable
+        snapshot.put("testsPerMinute", elapsed >= RATE_WINDOW_MS || elapsed <= 0
+            ? lastMinute : Math.round(lastMinute * (double) RATE_WINDOW_MS / elapsed));
+        snapshot.put("lastEventAgoMs", now - lastEventMillis);
+        snapshot.put("sessionLimit", ParallelismController.getCurrentLimit());
+        snapshot.put("threads", threads);
+        snapshot.put("slowest", slowest);
+        return snapshot;
+    }
+
+    private static void handle(HttpExchange exchange) {
+        try {
+            switch (exchange.getRequestURI().getPath()) {
+                case "/events" -> stream(exchange);
+                case "/snapshot" -> send(exchange, "application/json", new Json().toJson(snapshot()).getBytes(StandardCharsets.UTF_8));
+                case "/" -> send(exchange, "text/html; charset=utf-8", dashboard());
+                default -> exchange.sendResponseHeaders(404, -1);
+            }
+        } catch (IOException e) {
+            // Client went away
+            logger.debug("Live client disconnected: {}", e.getMessage());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Stream buffered and new events plus a snapshot every second until the client or the run ends
+     * @param exchange SSE request
+     */
+    private static void stream(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        exchange.sendResponseHeaders(200, 0);
+        long lastId = parseLastEventId(exchange.getRequestHeaders().getFirst("Last-Event-ID"));
+        long lastSnapshot = 0;
+        OutputStream out = exchange.getResponseBody();
+        try {
+            while (running) {
+                for (Event event : ring.awaitAfter(lastId, SNAPSHOT_INTERVAL_MS)) {
+                    write(out, "id: " + event.id + "\nevent: " + event.type + "\ndata: " + event.data + "\n\n");
+                    lastId = event.id;
+                }
+                long now = System.currentTimeMillis();
+                if (now - lastSnapshot >= SNAPSHOT_INTERVAL_MS) {
+                    write(out, "event: snapshot\ndata: " + new Json().toJson(snapshot()) + "\n\n");
+                    lastSnapshot = now;
+                }
+                out.flush();
+            }
+            // Events published while stopping
+            for (Event event : ring.awaitAfter(lastId, 0)) {
+                write(out, "id: " + event.id + "\nevent: " + event.type + "\ndata: " + event.data + "\n\n");
+            }
+            write(out, "event: end\ndata: {}\n\n");
+            out.flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static long parseLastEventId(String header) {
+        try {
+            return header != null ? Long.parseLong(header.trim()) : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static void write(OutputStream out, String text) throws IOException {
+        out.write(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void send(HttpExchange exchange, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static byte[] dashboard() throws IOException {
+        try (InputStream in = LiveRunServer.class.getResourceAsStream("/live/dashboard.html")) {
+            if (in == null) {
+                throw new IOException("Dashboard page not found on classpath");
+            }
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * Test running on one worker thread
+     */
+    private static class ActiveTest {
+
+        private final String name;
+        private final String thread;
+        private final long startMillis = System.currentTimeMillis();
+        // Step names may be set after the step started (Allure.step), so they are read at snapshot time
+        private final Deque<StepResult> steps = new ConcurrentLinkedDeque<>();
+
+        private ActiveTest(String name, String thread) {
+            this.name = name;
+            this.thread = thread;
+        }
+    }
+
+    /**
+     * Serialized event with its stream id
+     */
+    private static class Event {
+
+        private final long id;
+        private final String type;
+        private final String data;
+
+        private Event(long id, String type, String data) {
+            this.id = id;
+            this.type = type;
+            this.data = data;
+        }
+    }
+
+    /**
+     * Fixed-size buffer of the latest events, overwriting the oldest
+     */
+    private static class EventRing {
+
+        private final Event[] events;
+        private long nextId = 1;
+
+        private EventRing(int size) {
+            this.events = new Event[Math.max(1, size)];
+        }
+
+        private synchronized void append(String type, String data) {
+            events[(int) (nextId % events.length)] = new Event(nextId, type, data);
+            nextId++;
+            notifyAll();
+        }
+
+        /**
+         * Get events after an id, waiting up to a timeout for new ones
+         * Events overwritten since are skipped, the client continues with the oldest buffered one
+         * @param lastId Id of the last event the client has
+         * @param timeoutMillis Maximum wait, 0 to return immediately
+         * @return Events in id order, empty if none arrived in time
+         */
+        private synchronized List<Event> awaitAfter(long lastId, long timeoutMillis) throws InterruptedException {
+            if (nextId - 1 <= lastId && timeoutMillis > 0 && running) {
+                wait(timeoutMillis);
+            }
+            long from = Math.max(lastId + 1, nextId - events.length);
+            List<Event> result = new ArrayList<>();
+            for (long id = from; id < nextId; id++) {
+                result.add(events[(int) (id % events.length)]);
+            }
+            return result;
+        }
+
+        private synchronized void wakeUp() {
+            notifyAll();
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.framework.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.json.JsonInput;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Network interception layer built on the DevTools network and fetch domains
+ * This demonstrates:
+ * 1. Encapsulation - Raw CDP commands and events hidden behind apply/report methods
+ * 2. Configuration Management - Block and stub rules resolved per environment
+ *
+ * Blocked patterns are handed to the browser (Network.setBlockedURLs) so they cost no round-trips.
+ * Stubbed hosts are paused through the Fetch domain and answered with an empty response.
+ * Blocked and stubbed requests never load, so bytes saved are reported from the per-request estimates
+ * configured for their pattern or host (network.saved.bytes.*); requests without one are counted as unknown.
+ */
+public class NetworkInterceptionManager {
+
+    private static final Logger logger = LogManager.getLogger(NetworkInterceptionManager.class);
+    private static final Function<JsonInput, Map<String, Object>> MAP_MAPPER = input -> input.read(Map.class);
+    private static final Map<WebDriver, InterceptionStats> statsByDriver = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation (Utility class pattern)
+     */
+    private NetworkInterceptionManager() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Apply configured blocking and stubbing rules to the driver
+     * @param driver WebDriver instance
+     */
+    public static void apply(WebDriver driver) {
+        if (!ConfigReader.isNetworkInterceptionEnabled()) {
+            return;
+        }
+        if (!(driver instanceof ChromiumDriver)) {
+            logger.warn("Network interception is only supported for Chromium browsers, skipping for: {}",
+                driver.getClass().getSimpleName());
+            return;
+        }
+
+        List<String> blockPatterns = ConfigReader.getNetworkBlockPatterns();
+        List<String> stubHosts = ConfigReader.getNetworkStubHosts();
+
+        try {
+            InterceptionStats stats = new InterceptionStats(estimatedSizes(blockPatterns, stubHosts));
+            DevTools devTools = ((ChromiumDriver) driver).getDevTools();
+            // Attach to this session's own tab, in driver.mode=context other tests share the browser
+            devTools.createSessionIfThereIsNotOne(driver.getWindowHandle());
+            registerTrafficListeners(devTools, stats);
+
+            devTools.send(new Command<>("Network.enable", Map.of()));
+            if (!blockPatterns.isEmpty()) {
+                devTools.send(new Command<>("Network.setBlockedURLs", Map.of("urls", blockPatterns)));
+            }
+            if (!stubHosts.isEmpty() && TrafficArchive.isActive()) {
+                // Both answer paused requests of the fetch domain, the archive takes precedence
+                logger.warn("Traffic archive is active, stubbed hosts are not applied: {}", stubHosts);
+            } else if (!stubHosts.isEmpty()) {
+                registerStubs(devTools, stubHosts, stats);
+            }
+
+            statsByDriver.put(driver, stats);
+            logger.info("Network interception applied for environment '{}': {} block patterns, {} stubbed hosts",
+                ConfigReader.getEnvironment(), blockPatterns.size(), stubHosts.size());
+
+        } catch (Exception e) {
+            logger.error("Failed to apply network interception, continuing without it", e);
+        }
+    }
+
+    /**
+     * Get interception report for the driver
+     * @param driver WebDriver instance
+     * @return Report text or null if interception is not active for the driver
+     */
+    public static String getReport(WebDriver driver) {
+        InterceptionStats stats = driver != null ? statsByDriver.get(driver) : null;
+        return stats != null ? stats.toReport() : null;
+    }
+
+    /**
+     * Release interception state kept for the driver
+     * @param driver WebDriver instance
+     */
+    public static void release(WebDriver driver) {
+        if (driver != null) {
+            statsByDriver.remove(driver);
+        }
+    }
+
+    /**
+     * Resolve configured size estimates of block patterns and stubbed hosts
+     * @param blockPatterns Block patterns
+     * @param stubHosts Stubbed hosts
+     * @return Estimated bytes per request by URL pattern, in configuration order
+     */
+    private static Map<Pattern, Long> estimatedSizes(List<String> blockPatterns, List<String> stubHosts) {
+        Map<Pattern, Long> sizes = new LinkedHashMap<>();
+        for (String pattern : blockPatterns) {
+            long size = ConfigReader.getNetworkSavedBytes(pattern);
+            if (size >= 0) {
+                sizes.put(wildcardPattern(pattern), size);
+            }
+        }
+        for (String host : stubHosts) {
+            long size = ConfigReader.getNetworkSavedBytes(host);
+            if (size >= 0) {
+                sizes.put(wildcardPattern("*://" + host + "/*"), size);
+            }
+        }
+        return sizes;
+    }
+
+    /**
+     * Convert a '*' wildcard URL pattern, as understood by Network.setBlockedURLs, to a regular expression
+     * @param wildcard URL pattern
+     * @return Compiled pattern matching whole URLs
+     */
+    private static Pattern wildcardPattern(String wildcard) {
+        return Pattern.compile(Arrays.stream(wildcard.split("\\*", -1)).map(Pattern::quote).collect(Collectors.joining(".*")));
+    }
+
+    /**
+     * Track request urls and blocked requests
+     * @param devTools DevTools session
+     * @param stats Stats for the driver
+     */
+    private static void registerTrafficListeners(DevTools devTools, InterceptionStats stats) {
+        devTools.addListener(new Event<>("Network.requestWillBeSent", MAP_MAPPER), params -> {
+            Object request = params.get("request");
+            if (request instanceof Map) {
+                stats.requestUrls.put(String.valueOf(params.get("requestId")), String.valueOf(((Map<?, ?>) request).get("url")));
+            }
+        });
+
+        devTools.addListener(new Event<>("Network.loadingFinished", MAP_MAPPER),
+            params -> stats.requestUrls.remove(String.valueOf(params.get("requestId"))));
+
+        devTools.addListener(new Event<>("Network.loadingFailed", MAP_MAPPER), params -> {
+            String url = stats.requestUrls.remove(String.valueOf(params.get("requestId")));
+            if (params.get("blockedReason") != null && url != null) {
+                stats.recordBlocked(url);
+            }
+        });
+    }
+
+    /**
+     * Pause requests to stubbed hosts and answer them with an empty response
+     * @param devTools DevTools session
+     * @param stubHosts Hosts to stub
+     * @param stats Stats for the driver
+     */
+    private static void registerStubs(DevTools devTools, List<String> stubHosts, InterceptionStats stats) {
+        List<Map<String, Object>> patterns = new ArrayList<>();
+        for (String host : stubHosts) {
+            patterns.add(Map.of("urlPattern", "*://" + host + "/*"));
+        }
+
+        devTools.addListener(new Event<>("Fetch.requestPaused", MAP_MAPPER), params -> {
+            String requestId = String.valueOf(params.get("requestId"));
+            Object request = params.get("request");
+            String url = request instanceof Map ? String.valueOf(((Map<?, ?>) request).get("url")) : "";
+            try {
+                devTools.send(new Command<>("Fetch.fulfillRequest", Map.of(
+                    "requestId", requestId,
+                    "responseCode", 200,
+                    "responseHeaders", List.of(Map.of("name", "Content-Type", "value", contentTypeFor(params.get("resourceType")))),
+                    "body", "")));
+                stats.recordStubbed(url);
+            } catch (Exception e) {
+                logger.debug("Failed to stub request {}: {}", url, e.getMessage());
+            }
+        });
+
+        devTools.send(new Command<>("Fetch.enable", Map.of("patterns", patterns)));
+    }
+
+    /**
+     * Pick a harmless content type for a stubbed resource
+     * @param resourceType CDP resource type
+     * @return Content type
+     */
+    private static String contentTypeFor(Object resourceType) {
+        if ("Script".equals(resourceType)) {
+            return "application/javascript";
+        }
+        if ("Stylesheet".equals(resourceType)) {
+            return "text/css";
+        }
+        return "text/plain";
+    }
+
+    /**
+     * Per-driver interception statistics
+     */
+    private static class InterceptionStats {
+
+        private final Map<Pattern, Long> estimatedSizes;
+        private final Map<String, String> requestUrls = new ConcurrentHashMap<>();
+        private final Map<String, AtomicLong> savedRequestsByHost = new ConcurrentHashMap<>();
+        private final AtomicLong blockedRequests = new AtomicLong();
+        private final AtomicLong stubbedRequests = new AtomicLong();
+        private final AtomicLong bytesSaved = new AtomicLong();
+        private final AtomicLong requestsWithUnknownSize = new AtomicLong();
+
+        private InterceptionStats(Map<Pattern, Long> estimatedSizes) {
+            this.estimatedSizes = estimatedSizes;
+        }
+
+        private void recordBlocked(String url) {
+            blockedRequests.incrementAndGet();
+            recordSaving(url);
+        }
+
+        private void recordStubbed(String url) {
+            stubbedRequests.incrementAndGet();
+            recordSaving(url);
+        }
+
+        private void recordSaving(String url) {
+            savedRequestsByHost.computeIfAbsent(hostOf(url), host -> new AtomicLong()).incrementAndGet();
+            for (Map.Entry<Pattern, Long> estimate : estimatedSizes.entrySet()) {
+                if (estimate.getKey().matcher(url).matches()) {
+                    bytesSaved.addAndGet(estimate.getValue());
+                    return;
+                }
+            }
+            requestsWithUnknownSize.incrementAndGet();
+        }
+
+        private String hostOf(String url) {
+            try {
+                String host = URI.create(url).getHost();
+                return host != null ? host : url;
+            } catch (Exception e) {
+                return url;
+            }
+        }
+
+        private String toReport() {
+            StringBuilder report = new StringBuilder()
+                .append("Environment: ").append(ConfigReader.getEnvironment()).append('\n')
+                .append("Requests blocked: ").append(blockedRequests.get()).append('\n')
+                .append("Requests stubbed: ").append(stubbedRequests.get()).append('\n')
+                .append("Bytes saved (configured estimates): ").append(bytesSaved.get()).append('\n')
+                .append("Saved requests with unknown size: ").append(requestsWithUnknownSize.get()).append('\n')
+                .append("Saved requests by host:").append('\n');
+            savedRequestsByHost.forEach((host, count) ->
+                report.append("  ").append(host).append(": ").append(count.get()).append('\n'));
+            return report.toString();
+        }
+    }
+}
@@ -190,6 +190,15 @@ public class PageObjectUtils {
         }
     }
     
+    /**
+     * Compare a screenshot of an element with its visual baseline
+     * @param element WebElement to compare
+     * @param checkpoint Checkpoint name (e.g. HeaderComponent/logo)
+     */
+    public static void verifyElementVisual(WebElement element, String checkpoint) {
+        VisualBaselineStore.verify(checkpoint, takeElementScreenshot(element), List.of());
+    }
+    
     /**
      * Check if element is in viewport
      * @param driver WebDriver instance
@@ -0,0 +1,262 @@
+package com.framework.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IAlterSuiteListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adaptive limit on concurrent browser sessions driven by host resource headroom
+ * This demonstrates:
+ * 1. Feedback Control - Additive increase, multiplicative decrease (AIMD) of the session limit
+ * 2. Observer Pattern - Plugged into TestNG as a suite listener
+ *
+ * When parallelism.adaptive.enabled=true the suite thread pools are raised to parallelism.max and
+ * every browser session needs a permit from DriverFactory, so worker threads beyond the current
+ * limit wait before starting a browser. A sampler reads host CPU, MemAvailable and the resident
+ * memory of all browser and driver processes started by this JVM from /proc, then:
+ * - halves the limit when MemAvailable drops below parallelism.memory.reserve.mb
+ * - lowers it by one while CPU is above parallelism.target.cpu plus a 10% band
+ * - raises it by one while CPU is below the band, tests are waiting for a permit and memory
+ *   has room for one more session of the measured average size
+ * The limit starts at the suite thread-count and stays between parallelism.min and parallelism.max.
+ * Without /proc (macOS, Windows) the limit stays at the suite thread-count.
+ */
+public class ParallelismController implements IAlterSuiteListener, ISuiteListener {
+
+    private static final Logger logger = LogManager.getLogger(ParallelismController.class);
+    private static final double CPU_BAND = 0.10;
+    private static final int HISTORY_SIZE = 3;
+
+    private static final ResizableSemaphore permits = new ResizableSemaphore();
+    private static final Object lock = new Object();
+    private static final Deque<Double> cpuHistory = new ArrayDeque<>();
+    private static volatile boolean enabled;
+    private static int limit;
+    private static int minLimit;
+    private static int maxLimit;
+    private static int peakLimit;
+    private static long[] lastCpuTicks;
+    private static ScheduledExecutorService sampler;
+
+    /**
+     * Raise the thread pools of adaptive suites to the maximum number of sessions
+     * @param suites Suites about to run
+     */
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (!ConfigReader.isAdaptiveParallelismEnabled()) {
+            return;
+        }
+        int max = ConfigReader.getParallelismMax() > 0
+            ? ConfigReader.getParallelismMax()
+            : Runtime.getRuntime().availableProcessors();
+        int min = Math.max(1, Math.min(ConfigReader.getParallelismMin(), max));
+        int initial = min;
+        for (XmlSuite suite : suites) {
+            if (suite.getParallel() == null || !suite.getParallel().isParallel()) {
+                continue;
+            }
+            initial = Math.max(initial, Math.min(suite.getThreadCount(), max));
+            suite.setThreadCount(max);
+            suite.setDataProviderThreadCount(Math.max(suite.getDataProviderThreadCount(), max));
+            logger.info("Adaptive parallelism: thread pools of suite '{}' raised to {}", suite.getName(), max);
+        }
+        configure(min, max, initial);
+    }
+
+    /**
+     * Start sampling host resources
+     * @param suite Suite about to run
+     */
+    @Override
+    public void onStart(ISuite suite) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (lock) {
+            if (sampler != null) {
+                return;
+            }
+            if (!ProcFs.isAvailable()) {
+                logger.warn("Adaptive parallelism needs /proc, keeping {} concurrent sessions", limit);
+                return;
+            }
+            lastCpuTicks = ProcFs.cpuTicks();
+            sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "parallelism-controller");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long interval = ConfigReader.getParallelismSampleInterval();
+            sampler.scheduleAtFixedRate(ParallelismController::sample, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stop sampling and report the limits used
+     * @param suite Suite that finished
+     */
+    @Override
+    public void onFinish(ISuite suite) {
+        synchronized (lock) {
+            if (sampler == null) {
+                return;
+            }
+            sampler.shutdownNow();
+            sampler = null;
+            logger.info("Adaptive parallelism finished at {} concurrent sessions (peak {}, range {}-{})",
+                limit, peakLimit, minLimit, maxLimit);
+        }
+    }
+
+    /**
+     * Wait for a browser session permit
+     * Called by DriverFactory before starting a browser
+     */
+    public static void acquireSession() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (!permits.tryAcquire()) {
+                logger.info("Waiting for a browser session permit ({} sessions allowed)", limit);
+                permits.acquire();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a browser session permit", e);
+        }
+    }
+
+    /**
+     * Return a browser session permit
+     * Called by DriverFactory after a browser was quit or failed to start
+     */
+    public static void releaseSession() {
+        if (enabled) {
+            permits.release();
+        }
+    }
+
+    /**
+     * Get the current limit of concurrent browser sessions
+     * @return Session limit, or 0 if adaptive parallelism is disabled
+     */
+    public static int getCurrentLimit() {
+        synchronized (lock) {
+            return enabled ? limit : 0;
+        }
+    }
+
+    private static void configure(int min, int max, int initial) {
+        synchronized (lock) {
+            if (enabled) {
+                return;
+            }
+            minLimit = min;
+            maxLimit = max;
+            limit = initial;
+            peakLimit = initial;
+            permits.release(initial);
+            enabled = true;
+            logger.info("Adaptive parallelism enabled: {} concurrent sessions to start, range {}-{}, target CPU {}%",
+                initial, min, max, Math.round(ConfigReader.getParallelismTargetCpu() * 100));
+        }
+    }
+
+    /**
+     * Take one resource sample and adjust the limit
+     */
+    private static void sample() {
+        try {
+            long[] cpuTicks = ProcFs.cpuTicks();
+            double cpu = ProcFs.cpuUtilization(lastCpuTicks, cpuTicks);
+            lastCpuTicks = cpuTicks;
+            cpuHistory.addLast(cpu);
+            if (cpuHistory.size() > HISTORY_SIZE) {
+                cpuHistory.removeFirst();
+            }
+            double smoothedCpu = cpuHistory.stream().mapToDouble(Double::doubleValue).average().orElse(cpu);
+
+            long availableKb = ProcFs.memAvailableKb();
+            long reserveKb = ConfigReader.getParallelismMemoryReserveMb() * 1024L;
+            int sessions = limit - permits.availablePermits();
+            long browserRssKb = browserRssKb();
+            long sessionRssKb = sessions > 0 ? browserRssKb / sessions : 0;
+            double target = ConfigReader.getParallelismTargetCpu();
+
+            synchronized (lock) {
+                int previous = limit;
+                if (availableKb < reserveKb) {
+                    setLimit(Math.max(minLimit, limit / 2));
+                } else if (smoothedCpu > target + CPU_BAND) {
+                    setLimit(Math.max(minLimit, limit - 1));
+                } else if (smoothedCpu < target - CPU_BAND && permits.hasQueuedThreads()
+                        && availableKb - reserveKb > sessionRssKb) {
+                    setLimit(Math.min(maxLimit, limit + 1));
+                }
+                if (limit != previous) {
+                    logger.info("Adaptive parallelism: {} -> {} sessions (CPU {}%, available {} MB, {} sessions using {} MB)",
+                        previous, limit, Math.round(smoothedCpu * 100), availableKb / 1024, sessions, browserRssKb / 1024);
+                } else {
+                    logger.debug("Adaptive parallelism: {} sessions (CPU {}%, available {} MB, {} sessions using {} MB)",
+                        limit, Math.round(smoothedCpu * 100), availableKb / 1024, sessions, browserRssKb / 1024);
+                }
+            }
+        } catch (Exception e) {
+            logger.debug("Parallelism sample failed: {}", e.getMessage());
+        }
+    }
+
+    private static void setLimit(int newLimit) {
+        if (newLimit > limit) {
+            permits.release(newLimit - limit);
+        } else if (newLimit < limit) {
+            // Running sessions keep their permits, the next releases are absorbed
+            permits.reducePermits(limit - newLimit);
+        }
+        limit = newLimit;
+        peakLimit = Math.max(peakLimit, limit);
+    }
+
+    /**
+     * Sum resident memory of all processes started by this JVM (drivers and their browsers)
+     * @return Resident memory in kilobytes
+     */
+    private static long browserRssKb() {
+        long self = ProcessHandle.current().pid();
+        long total = 0;
+        for (ProcFs.ProcessInfo process : ProcFs.processTree(ProcFs.processes(), self)) {
+            if (process.getPid() != self) {
+                total += process.getRssKb();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Semaphore whose number of permits can be lowered below the permits in use
+     */
+    private static class ResizableSemaphore extends Semaphore {
+
+        private ResizableSemaphore() {
+            super(0, true);
+        }
+
+        @Override
+        protected void reducePermits(int reduction) {
+            super.reducePermits(reduction);
+        }
+    }
+}
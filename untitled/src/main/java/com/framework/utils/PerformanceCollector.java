@@ -0,0 +1,239 @@
+package com.framework.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Performance timeline collector for page navigations
+ * This demonstrates:
+ * 1. Encapsulation - Browser performance APIs hidden behind navigation hooks
+ * 2. Configuration Management - Budgets resolved per page class
+ *
+ * After each navigation the collector records Navigation Timing and a Resource Timing summary,
+ * and installs buffered PerformanceObservers for LCP, CLS, INP and Long Tasks. Lifetime metrics
+ * (CLS, INP, Long Tasks) are read when the page is left or when the test method returns, so their
+ * budget violations fail the test like those of navigation metrics.
+ * Records are kept per test and drained into one compact JSON document per test.
+ */
+public class PerformanceCollector {
+
+    private static final Logger logger = LogManager.getLogger(PerformanceCollector.class);
+    private static final TestContext.Local<List<Map<String, Object>>> records = new TestContext.Local<>(ArrayList::new);
+    private static final TestContext.Local<Map<String, Object>> currentRecord = new TestContext.Local<>();
+
+    private static final String NAVIGATION_SCRIPT =
+        "var done = arguments[arguments.length - 1];" +
+        "var perf = window.__fwPerf = window.__fwPerf || { lcp: 0, cls: 0, inp: 0, longTaskCount: 0, longTaskTotal: 0 };" +
+        "var observe = function(type, options, callback) {" +
+        "  try {" +
+        "    new PerformanceObserver(function(list) { list.getEntries().forEach(callback); })" +
+        "      .observe(Object.assign({ type: type, buffered: true }, options));" +
+        "  } catch (e) { }" +
+        "};" +
+        "if (!perf.installed) {" +
+        "  perf.installed = true;" +
+        "  observe('largest-contentful-paint', {}, function(e) { perf.lcp = e.startTime; });" +
+        "  observe('layout-shift', {}, function(e) { if (!e.hadRecentInput) { perf.cls += e.value; } });" +
+        "  observe('event', { durationThreshold: 16 }, function(e) { if (e.interactionId) { perf.inp = Math.max(perf.inp, e.duration); } });" +
+        "  observe('longtask', {}, function(e) { perf.longTaskCount++; perf.longTaskTotal += e.duration; });" +
+        "}" +
+        "setTimeout(function() {" +
+        "  var nav = performance.getEntriesByType('navigation')[0] || {};" +
+        "  var resources = performance.getEntriesByType('resource');" +
+        "  var slowest = resources.slice().sort(function(a, b) { return b.duration - a.duration; }).slice(0, 5)" +
+        "    .map(function(r) { return { name: r.name, initiatorType: r.initiatorType, duration: Math.round(r.duration), transferSize: r.transferSize || 0 }; });" +
+        "  done({" +
+        "    href: location.href," +
+        "    navigation: {" +
+        "      ttfb: Math.round(nav.responseStart || 0)," +
+        "      domInteractive: Math.round(nav.domInteractive || 0)," +
+        "      domContentLoaded: Math.round(nav.domContentLoadedEventEnd || 0)," +
+        "      load: Math.round(nav.loadEventEnd || 0)," +
+        "      transferSize: nav.transferSize || 0" +
+        "    }," +
+        "    resources: {" +
+        "      count: resources.length," +
+        "      transferSize: resources.reduce(function(sum, r) { return sum + (r.transferSize || 0); }, 0)," +
+        "      slowest: slowest" +
+        "    }," +
+        "    lcp: Math.round(perf.lcp)" +
+        "  });" +
+        "}, 50);";
+
+    private static final String LIFETIME_SCRIPT =
+        "var perf = window.__fwPerf;" +
+        "return perf ? { href: location.href, lcp: Math.round(perf.lcp), cls: perf.cls, inp: Math.round(perf.inp)," +
+        "  longTaskCount: perf.longTaskCount, longTaskTotal: Math.round(perf.longTaskTotal) } : null;";
+
+    /**
+     * Private constructor to prevent instantiation (Utility class pattern)
+     */
+    private PerformanceCollector() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Finalize the page being left before a new navigation
+     * @param driver WebDriver instance
+     */
+    public static void beforeNavigation(WebDriver driver) {
+        if (ConfigReader.isPerformanceCaptureEnabled()) {
+            List<String> violations = finalizeCurrentRecord(driver);
+            enforce(violations);
+        }
+    }
+
+    /**
+     * Record timings of a completed navigation and start observing the new page
+     * @param driver WebDriver instance
+     * @param pageClass Page object class that performed the navigation
+     * @param url Requested URL
+     */
+    @SuppressWarnings("unchecked")
+    public static void afterNavigation(WebDriver driver, Class<?> pageClass, String url) {
+        if (!ConfigReader.isPerformanceCaptureEnabled()) {
+            return;
+        }
+
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("page", pageClass.getSimpleName());
+        record.put("url", url);
+        try {
+            record.putAll((Map<String, Object>) ((JavascriptExecutor) driver).executeAsyncScript(NAVIGATION_SCRIPT));
+        } catch (Exception e) {
+            logger.warn("Failed to capture performance timings for {}: {}", url, e.getMessage());
+            return;
+        }
+
+        List<String> violations = new ArrayList<>();
+        Map<String, Object> navigation = (Map<String, Object>) record.get("navigation");
+        checkBudget(record, "ttfb", navigation.get("ttfb"), violations);
+        checkBudget(record, "domContentLoaded", navigation.get("domContentLoaded"), violations);
+        checkBudget(record, "load", navigation.get("load"), violations);
+        checkBudget(record, "lcp", record.get("lcp"), violations);
+        checkBudget(record, "transferSize", ((Map<String, Object>) record.get("resources")).get("transferSize"), violations);
+        record.put("budgetViolations", violations);
+
+        records.get().add(record);
+        currentRecord.set(record);
+        logger.info("Captured performance timings for {}: {}", record.get("page"), navigation);
+        enforce(violations);
+    }
+
+    /**
+     * Finalize the page the test method ended on
+     * Called when the test method returns, while budget violations can still fail the test
+     * @param driver WebDriver instance
+     * @param enforceBudgets Whether violations fail the test (false if the test already failed)
+     */
+    public static void afterTestMethod(WebDriver driver, boolean enforceBudgets) {
+        if (ConfigReader.isPerformanceCaptureEnabled()) {
+            List<String> violations = finalizeCurrentRecord(driver);
+            if (enforceBudgets) {
+                enforce(violations);
+            }
+        }
+    }
+
+    /**
+     * Finalize the current page and drain all records of the current test
+     * The test result is already decided here, so violations of a page not finalized by
+     * afterTestMethod are only recorded and logged
+     * @param driver WebDriver instance (may be null if driver is gone)
+     * @return Compact JSON performance record or null if nothing was captured
+     */
+    public static String finishTest(WebDriver driver) {
+        try {
+            if (driver != null) {
+                List<String> violations = finalizeCurrentRecord(driver);
+                if (!violations.isEmpty()) {
+                    logger.warn("Performance budget exceeded after the test result was decided: {}",
+                        String.join("; ", violations));
+                }
+            }
+            List<Map<String, Object>> testRecords = records.get();
+            return testRecords.isEmpty() ? null : new Json().toJson(testRecords);
+        } finally {
+            records.remove();
+            currentRecord.remove();
+        }
+    }
+
+    /**
+     * Read lifetime metrics (LCP, CLS, INP, Long Tasks) of the current page into its record
+     * @param driver WebDriver instance
+     * @return Budget violations found for lifetime metrics
+     */
+    @SuppressWarnings("unchecked")
+    private static List<String> finalizeCurrentRecord(WebDriver driver) {
+        Map<String, Object> record = currentRecord.get();
+        currentRecord.remove();
+        List<String> violations = new ArrayList<>();
+        if (record == null) {
+            return violations;
+        }
+
+        try {
+            Map<String, Object> result = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(LIFETIME_SCRIPT);
+            // Metrics belong to the recorded page only if the browser is still on the same document
+            if (result == null || !String.valueOf(result.get("href")).equals(record.get("href"))) {
+                record.put("lifetimeMetrics", "unavailable (page changed without navigateToUrl)");
+                return violations;
+            }
+            Map<String, Object> lifetime = new LinkedHashMap<>(result);
+            lifetime.remove("href");
+            Object navigationLcp = record.get("lcp");
+            record.putAll(lifetime);
+            if (!lifetime.get("lcp").equals(navigationLcp)) {
+                // LCP grew after the navigation snapshot, re-check it
+                checkBudget(record, "lcp", lifetime.get("lcp"), violations);
+            }
+            checkBudget(record, "cls", lifetime.get("cls"), violations);
+            checkBudget(record, "inp", lifetime.get("inp"), violations);
+            checkBudget(record, "longTaskTotal", lifetime.get("longTaskTotal"), violations);
+            ((List<String>) record.get("budgetViolations")).addAll(violations);
+        } catch (Exception e) {
+            logger.debug("Failed to read lifetime performance metrics: {}", e.getMessage());
+        }
+        return violations;
+    }
+
+    /**
+     * Compare a metric against the budget of the record's page class
+     * @param record Page record
+     * @param metric Metric name
+     * @param value Measured value
+     * @param violations List to add violation descriptions to
+     */
+    private static void checkBudget(Map<String, Object> record, String metric, Object value, List<String> violations) {
+        if (!(value instanceof Number)) {
+            return;
+        }
+        String page = String.valueOf(record.get("page"));
+        double budget = ConfigReader.getPerformanceBudget(page, metric);
+        double measured = ((Number) value).doubleValue();
+        if (budget >= 0 && measured > budget) {
+            String violation = String.format("%s %s=%s exceeds budget %s", page, metric, value, budget);
+            violations.add(violation);
+            logger.warn("Performance budget exceeded: {}", violation);
+        }
+    }
+
+    /**
+     * Fail the test for budget violations when enforcement is enabled
+     * @param violations Budget violations
+     */
+    private static void enforce(List<String> violations) {
+        if (!violations.isEmpty() && ConfigReader.isPerformanceBudgetEnforced()) {
+            throw new AssertionError("Performance budget exceeded: " + String.join("; ", violations));
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.framework.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reader for host and process statistics of the Linux /proc file system
+ * This demonstrates:
+ * 1. Utility Class Pattern - Static accessors without instance state
+ * 2. Encapsulation - /proc file formats hidden behind typed methods
+ *
+ * All methods degrade to empty or zero values when /proc is not available (macOS, Windows)
+ * or a process exits while it is read; callers check isAvailable() first.
+ */
+public class ProcFs {
+
+    private static final Logger logger = LogManager.getLogger(ProcFs.class);
+    private static final Path DEFAULT_ROOT = Paths.get("/proc");
+    private static volatile Path proc = DEFAULT_ROOT;
+
+    /**
+     * Private constructor to prevent instantiation (Utility class pattern)
+     */
+    private ProcFs() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Read statistics from another directory laid out like /proc, e.g. captured files in unit tests
+     * @param root Directory to read, or null for /proc
+     */
+    static void useRoot(Path root) {
+        proc = root != null ? root : DEFAULT_ROOT;
+    }
+
+    /**
+     * Check if /proc statistics can be read on this host
+     * @return true on Linux with a readable /proc
+     */
+    public static boolean isAvailable() {
+        return Files.isReadable(proc.resolve("stat")) && Files.isReadable(proc.resolve("meminfo"));
+    }
+
+    /**
+     * Read aggregated CPU time of the host
+     * @return Busy and total jiffies since boot as {busy, total}, or {0, 0} if unavailable
+     */
+    public static long[] cpuTicks() {
+        try {
+            String line = Files.readAllLines(proc.resolve("stat"), StandardCharsets.UTF_8).get(0);
+            String[] fields = line.trim().split("\\s+");
+            long total = 0;
+            // user nice system idle iowait irq softirq steal
+            for (int i = 1; i <= 8 && i < fields.length; i++) {
+                total += Long.parseLong(fields[i]);
+            }
+            long idle = Long.parseLong(fields[4]) + (fields.length > 5 ? Long.parseLong(fields[5]) : 0);
+            return new long[] {total - idle, total};
+        } catch (Exception e) {
+            logger.debug("Failed to read /proc/stat: {}", e.getMessage());
+            return new long[] {0, 0};
+        }
+    }
+
+    /**
+     * Get CPU utilization between two cpuTicks() samples
+     * @param previous Earlier sample
+     * @param current Later sample
+     * @return Busy fraction of all cores between 0 and 1
+     */
+    public static double cpuUtilization(long[] previous, long[] current) {
+        long total = current[1] - previous[1];
+        return total > 0 ? Math.min(1.0, Math.max(0.0, (double) (current[0] - previous[0]) / total)) : 0.0;
+    }
+
+    /**
+     * Read memory available for new processes without swapping
+     * @return MemAvailable in kilobytes, or 0 if unavailable
+     */
+    public static long memAvailableKb() {
+        return memInfo("MemAvailable:");
+    }
+
+    /**
+     * Read total memory of the host
+     * @return MemTotal in kilobytes, or 0 if unavailable
+     */
+    public static long memTotalKb() {
+        return memInfo("MemTotal:");
+    }
+
+    /**
+     * List all processes of the host
+     * @return Process id, parent id, name and resident memory of every readable process
+     */
+    public static List<ProcessInfo> processes() {
+        List<ProcessInfo> processes = new ArrayList<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(proc, "[0-9]*")) {
+            for (Path entry : entries) {
+                ProcessInfo process = readStatus(entry);
+                if (process != null) {
+                    processes.add(process);
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("Failed to list /proc: {}", e.getMessage());
+        }
+        return processes;
+    }
+
+    /**
+     * Read the command line of a process
+     * @param pid Process id
+     * @return Arguments joined by spaces, or an empty string if the process is gone
+     */
+    public static String commandLine(long pid) {
+        try {
+            byte[] raw = Files.readAllBytes(proc.resolve(String.valueOf(pid)).resolve("cmdline"));
+            return new String(raw, StandardCharsets.UTF_8).replace('\0', ' ').trim();
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    /**
+     * Read CPU time consumed by a process (user and system)
+     * @param pid Process id
+     * @return CPU time in clock ticks (USER_HZ, 100 per second), or -1 if the process is gone
+     */
+    public static long processCpuTicks(long pid) {
+        try {
+            String stat = Files.readString(proc.resolve(String.valueOf(pid)).resolve("stat"), StandardCharsets.UTF_8);
+            // Fields after the command name, which may itself contain spaces and parentheses
+            String[] fields = stat.substring(stat.lastIndexOf(')') + 2).split("\\s+");
+            return Long.parseLong(fields[11]) + Long.parseLong(fields[12]);
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Find a process and all of its descendants
+     * @param processes Snapshot from processes()
+     * @param rootPid Id of the root process
+     * @return Root (if still running) and descendants
+     */
+    public static List<ProcessInfo> processTree(List<ProcessInfo> processes, long rootPid) {
+        Map<Long, List<ProcessInfo>> children = new HashMap<>();
+        List<ProcessInfo> tree = new ArrayList<>();
+        for (ProcessInfo process : processes) {
+            children.computeIfAbsent(process.getParentPid(), pid -> new ArrayList<>()).add(process);
+            if (process.getPid() == rootPid) {
+                tree.add(process);
+            }
+        }
+        Deque<Long> pending = new ArrayDeque<>();
+        pending.add(rootPid);
+        while (!pending.isEmpty()) {
+            for (ProcessInfo child : children.getOrDefault(pending.removeFirst(), List.of())) {
+                tree.add(child);
+                pending.add(child.getPid());
+            }
+        }
+        return tree;
+    }
+
+    private static long memInfo(String key) {
+        try {
+            for (String line : Files.readAllLines(proc.resolve("meminfo"), StandardCharsets.UTF_8)) {
+                if (line.startsWith(key)) {
+                    return Long.parseLong(line.substring(key.length()).trim().split("\\s+")[0]);
+                }
+            }
+        } catch (Exception e) {
+            logger.debug("Failed to read /proc/meminfo: {}", e.getMessage());
+        }
+        return 0;
+    }
+
+    private static ProcessInfo readStatus(Path processDir) {
+        try {
+            String name = "";
+            long ppid = 0;
+            long rssKb = 0;
+            int threads = 0;
+            for (String line : Files.readAllLines(processDir.resolve("status"), StandardCharsets.UTF_8)) {
+                if (line.startsWith("Name:")) {
+                    name = line.substring(5).trim();
+                } else if (line.startsWith("PPid:")) {
+                    ppid = Long.parseLong(line.substring(5).trim());
+                } else if (line.startsWith("VmRSS:")) {
+                    rssKb = Long.parseLong(line.substring(6).trim().split("\\s+")[0]);
+                } else if (line.startsWith("Threads:")) {
+                    threads = Integer.parseInt(line.substring(8).trim());
+                }
+            }
+            return new ProcessInfo(Long.parseLong(processDir.getFileName().toString()), ppid, name, rssKb, threads);
+        } catch (Exception e) {
+            // Process exited while being read
+            return null;
+        }
+    }
+
+    /**
+     * Snapshot of one process
+     */
+    public static class ProcessInfo {
+
+        private final long pid;
+        private final long parentPid;
+        private final String name;
+        private final long rssKb;
+        private final int threads;
+
+        private ProcessInfo(long pid, long parentPid, String name, long rssKb, int threads) {
+            this.pid = pid;
+            this.parentPid = parentPid;
+            this.name = name;
+            this.rssKb = rssKb;
+            this.threads = threads;
+        }
+
+        public long getPid() {
+            return pid;
+        }
+
+        public long getParentPid() {
+            return parentPid;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getRssKb() {
+            return rssKb;
+        }
+
+        public int getThreads() {
+            return threads;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.framework.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestResult;
+
+/**
+ * TestNG retry analyzer that re-runs only transient failures
+ * This demonstrates:
+ * 1. Strategy Pattern - Pluggable retry decision for TestNG
+ * 2. Configuration Management - Retry budget taken from retry.count
+ *
+ * TestNG creates one analyzer per test method and parameter set, so the attempt counter
+ * is never shared between data provider rows or parallel methods.
+ */
+public class RetryAnalyzer implements IRetryAnalyzer {
+
+    private static final Logger logger = LogManager.getLogger(RetryAnalyzer.class);
+
+    private int retryCount;
+
+    /**
+     * Decide if a failed test should be retried
+     * @param result Failed test result
+     * @return true if the failure is transient and retries are left, false otherwise
+     */
+    @Override
+    public boolean retry(ITestResult result) {
+        String testName = result.getMethod().getQualifiedName();
+        FailureClassifier.FailureType failureType = FailureClassifier.classify(result.getThrowable());
+
+        if (!failureType.isTransient()) {
+            logger.debug("Not retrying {} - failure is not transient", testName);
+            return false;
+        }
+        if (retryCount >= ConfigReader.getRetryCount()) {
+            logger.warn("Not retrying {} - retry budget of {} exhausted", testName, ConfigReader.getRetryCount());
+            return false;
+        }
+
+        retryCount++;
+        logger.warn("Retrying {} after {} failure (retry {} of {})",
+            testName, failureType, retryCount, ConfigReader.getRetryCount());
+        return true;
+    }
+
+    /**
+     * Get number of retries performed so far
+     * @return Retry count
+     */
+    public int getRetryCount() {
+        return retryCount;
+    }
+}
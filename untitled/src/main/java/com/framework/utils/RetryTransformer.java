@@ -0,0 +1,40 @@
+package com.framework.utils;
+
+import com.framework.exceptions.FrameworkException;
+import org.testng.IAnnotationTransformer;
+import org.testng.annotations.ITestAnnotation;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+/**
+ * Annotation transformer attaching RetryAnalyzer to every test method
+ * This demonstrates:
+ * 1. Decorator Pattern - Adding retry behaviour without touching @Test annotations
+ * 2. Observer Pattern - Plugged into TestNG as a listener
+ *
+ * Methods that declare their own retryAnalyzer keep it.
+ */
+public class RetryTransformer implements IAnnotationTransformer {
+
+    // Analyzer TestNG uses when @Test declares none, read from the annotation default instead of TestNG internals
+    private static final Object DEFAULT_RETRY_ANALYZER = defaultRetryAnalyzer();
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
+        Class<?> current = annotation.getRetryAnalyzerClass();
+        if (current == null || current == DEFAULT_RETRY_ANALYZER) {
+            annotation.setRetryAnalyzer(RetryAnalyzer.class);
+        }
+    }
+
+    private static Object defaultRetryAnalyzer() {
+        try {
+            return Test.class.getMethod("retryAnalyzer").getDefaultValue();
+        } catch (NoSuchMethodException e) {
+            throw new FrameworkException("TestNG @Test has no retryAnalyzer attribute", e);
+        }
+    }
+}
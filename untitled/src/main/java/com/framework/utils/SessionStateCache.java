@@ -0,0 +1,211 @@
+package com.framework.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Authenticated session state cache keyed by user credentials
+ * This demonstrates:
+ * 1. Encapsulation - Cookie and web storage handling hidden behind capture/restore
+ * 2. Caching - One real UI login per user, state injected into later sessions
+ *
+ * Captured state (cookies, localStorage, sessionStorage) expires after session.cache.ttl.seconds.
+ * Callers are expected to probe the restored session and call invalidate() when it is rejected.
+ */
+public class SessionStateCache {
+
+    private static final Logger logger = LogManager.getLogger(SessionStateCache.class);
+    private static final Map<String, SessionState> cache = new ConcurrentHashMap<>();
+
+    private static final String READ_STORAGE_SCRIPT =
+        "var read = function(storage) {" +
+        "  var result = {};" +
+        "  for (var i = 0; i < storage.length; i++) { var key = storage.key(i); result[key] = storage.getItem(key); }" +
+        "  return result;" +
+        "};" +
+        "return { local: read(window.localStorage), session: read(window.sessionStorage) };";
+
+    private static final String WRITE_STORAGE_SCRIPT =
+        "var write = function(storage, values) {" +
+        "  Object.keys(values).forEach(function(key) { storage.setItem(key, values[key]); });" +
+        "};" +
+        "write(window.localStorage, arguments[0]);" +
+        "write(window.sessionStorage, arguments[1]);";
+
+    /**
+     * Private constructor to prevent instantiation (Utility class pattern)
+     */
+    private SessionStateCache() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Capture authenticated state of the current session
+     * @param driver WebDriver instance with a logged in session
+     * @param username Username the session belongs to
+     * @param password Password the session belongs to
+     */
+    @SuppressWarnings("unchecked")
+    public static void capture(WebDriver driver, String username, String password) {
+        if (!ConfigReader.isSessionCacheEnabled()) {
+            return;
+        }
+        try {
+            Set<Cookie> cookies = driver.manage().getCookies();
+            Map<String, Object> storage = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(READ_STORAGE_SCRIPT);
+
+            SessionState state = new SessionState(
+                originOf(driver.getCurrentUrl()),
+                cookies,
+                toStringMap(storage.get("local")),
+                toStringMap(storage.get("session")),
+                Instant.now());
+            cache.put(keyFor(username, password), state);
+
+            logger.info("Captured session state for user '{}': {} cookies, {} local and {} session storage entries",
+                username, cookies.size(), state.localStorage.size(), state.sessionStorage.size());
+        } catch (Exception e) {
+            logger.warn("Failed to capture session state for user '{}': {}", username, e.getMessage());
+        }
+    }
+
+    /**
+     * Inject cached authenticated state into the current session
+     * @param driver WebDriver instance
+     * @param username Username to restore session for
+     * @param password Password to restore session for
+     * @return true if cached state was injected, false if there was nothing valid to restore
+     */
+    public static boolean restore(WebDriver driver, String username, String password) {
+        if (!ConfigReader.isSessionCacheEnabled()) {
+            return false;
+        }
+
+        String key = keyFor(username, password);
+        SessionState state = cache.get(key);
+        if (state == null) {
+            logger.debug("No cached session state for user '{}'", username);
+            return false;
+        }
+        if (state.isExpired()) {
+            cache.remove(key, state);
+            logger.info("Cached session state for user '{}' expired, UI login required", username);
+            return false;
+        }
+
+        try {
+            // Cookies and storage can only be set for the document's own origin
+            if (!state.origin.equals(originOf(driver.getCurrentUrl()))) {
+                driver.get(state.origin);
+            }
+            for (Cookie cookie : state.cookies) {
+                driver.manage().addCookie(cookie);
+            }
+            ((JavascriptExecutor) driver).executeScript(WRITE_STORAGE_SCRIPT, state.localStorage, state.sessionStorage);
+
+            logger.info("Restored cached session state for user '{}'", username);
+            return true;
+        } catch (Exception e) {
+            logger.warn("Failed to restore session state for user '{}': {}", username, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Remove cached state for the user, forcing the next login through the UI
+     * @param username Username
+     * @param password Password
+     */
+    public static void invalidate(String username, String password) {
+        if (cache.remove(keyFor(username, password)) != null) {
+            logger.info("Invalidated cached session state for user '{}'", username);
+        }
+    }
+
+    /**
+     * Remove all cached session states
+     */
+    public static void clear() {
+        cache.clear();
+        logger.info("Cleared all cached session states");
+    }
+
+    /**
+     * Build cache key from credentials without keeping the raw password
+     * @param username Username
+     * @param password Password
+     * @return Cache key
+     */
+    private static String keyFor(String username, String password) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((username + '\u0000' + password).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Get scheme://host[:port] origin of a URL
+     * @param url URL
+     * @return Origin with trailing slash
+     */
+    private static String originOf(String url) {
+        URI uri = URI.create(url);
+        return uri.getScheme() + "://" + uri.getAuthority() + "/";
+    }
+
+    /**
+     * Convert script result object to string map
+     * @param value Script result
+     * @return Map of string keys and values
+     */
+    private static Map<String, String> toStringMap(Object value) {
+        Map<String, String> result = new LinkedHashMap<>();
+        if (value instanceof Map) {
+            ((Map<?, ?>) value).forEach((k, v) -> result.put(String.valueOf(k), String.valueOf(v)));
+        }
+        return result;
+    }
+
+    /**
+     * Immutable snapshot of an authenticated session
+     */
+    private static class SessionState {
+
+        private final String origin;
+        private final Set<Cookie> cookies;
+        private final Map<String, String> localStorage;
+        private final Map<String, String> sessionStorage;
+        private final Instant capturedAt;
+
+        private SessionState(String origin, Set<Cookie> cookies, Map<String, String> localStorage,
+                             Map<String, String> sessionStorage, Instant capturedAt) {
+            this.origin = origin;
+            this.cookies = Set.copyOf(cookies);
+            this.localStorage = Map.copyOf(localStorage);
+            this.sessionStorage = Map.copyOf(sessionStorage);
+            this.capturedAt = capturedAt;
+        }
+
+        private boolean isExpired() {
+            return Instant.now().isAfter(capturedAt.plus(Duration.ofSeconds(ConfigReader.getSessionCacheTtl())));
+        }
+    }
+}
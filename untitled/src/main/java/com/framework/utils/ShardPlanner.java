@@ -0,0 +1,271 @@
+package com.framework.utils;
+
+import com.framework.exceptions.FrameworkException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import org.testng.xml.internal.Parser;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Planner splitting a TestNG suite into duration-balanced shards
+ * This demonstrates:
+ * 1. Strategy Pattern - Longest processing time first bin packing over historical durations
+ * 2. Builder-like assembly - Shard suites derived from a fresh parse of the original suite
+ *
+ * Every method of a &lt;test&gt; tag is a separately placeable unit, except for tests with
+ * preserve-order="true", which are kept together in one shard. Each shard suite keeps the
+ * original suite attributes, parameters, listeners and groups, and only narrows the
+ * &lt;classes&gt; of its tests to the assigned methods.
+ *
+ * Methods reading rows from a @DataSource are placed in every shard instead, and each shard
+ * receives data.shard.index / data.shard.count test parameters so it runs only its share of rows.
+ */
+public class ShardPlanner {
+
+    private static final Logger logger = LogManager.getLogger(ShardPlanner.class);
+
+    /**
+     * Private constructor to prevent instantiation (Utility class pattern)
+     */
+    private ShardPlanner() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Split a suite into balanced shards
+     * @param suitePath Path of the TestNG suite XML
+     * @param shardCount Requested number of shards
+     * @return Shard suites, fewer than requested if the suite has fewer units
+     */
+    public static List<XmlSuite> plan(String suitePath, int shardCount) {
+        List<Unit> units = collectUnits(parse(suitePath));
+        if (units.isEmpty()) {
+            throw new FrameworkException("No test methods found in suite: " + suitePath);
+        }
+
+        double median = TestDurationStore.getMedianDuration();
+        for (Unit unit : units) {
+            unit.weight = estimate(unit, median);
+        }
+        List<Unit> replicated = new ArrayList<>();
+        units.removeIf(unit -> unit.replicated && replicated.add(unit));
+        units.sort(Comparator.comparingDouble((Unit unit) -> unit.weight).reversed());
+
+        int shards = replicated.isEmpty() ? Math.min(shardCount, units.size()) : shardCount;
+        List<Shard> plan = new ArrayList<>();
+        PriorityQueue<Shard> byLoad = new PriorityQueue<>(Comparator.comparingDouble((Shard shard) -> shard.load)
+            .thenComparingInt(shard -> shard.index));
+        for (int i = 0; i < shards; i++) {
+            Shard shard = new Shard(i);
+            // Every shard runs its share of the data source rows
+            for (Unit unit : replicated) {
+                shard.units.add(unit);
+                shard.load += unit.weight / shards;
+            }
+            plan.add(shard);
+            byLoad.add(shard);
+        }
+
+        // Longest unit goes to the least loaded shard
+        for (Unit unit : units) {
+            Shard shard = byLoad.poll();
+            shard.units.add(unit);
+            shard.load += unit.weight;
+            byLoad.add(shard);
+        }
+
+        List<XmlSuite> suites = new ArrayList<>();
+        for (Shard shard : plan) {
+            logger.info("Shard {}: {} units, expected {} ms", shard.index, shard.units.size(), Math.round(shard.load));
+            suites.add(buildShardSuite(suitePath, shard, shards));
+        }
+        return suites;
+    }
+
+    /**
+     * Parse a suite file
+     * @param suitePath Path of the TestNG suite XML
+     * @return Root suite
+     */
+    private static XmlSuite parse(String suitePath) {
+        try {
+            return new Parser(suitePath).parseToList().get(0);
+        } catch (IOException e) {
+            throw new FrameworkException("Failed to parse suite: " + suitePath, e);
+        }
+    }
+
+    /**
+     * Collect placeable units of all enabled tests of a suite
+     * @param suite Parsed suite (disabled tests are already dropped by the parser)
+     * @return Units in declaration order
+     */
+    private static List<Unit> collectUnits(XmlSuite suite) {
+        List<Unit> units = new ArrayList<>();
+        for (XmlTest test : suite.getTests()) {
+            boolean preserveOrder = Boolean.TRUE.equals(test.getPreserveOrder());
+            Unit whole = new Unit(test.getName());
+            for (XmlClass xmlClass : test.getXmlClasses()) {
+                for (String method : testMethods(xmlClass)) {
+                    if (preserveOrder) {
+                        whole.add(xmlClass.getName(), method);
+                    } else {
+                        Unit unit = new Unit(test.getName()).add(xmlClass.getName(), method);
+                        unit.replicated = isDataSourceMethod(xmlClass.getSupportClass(), method);
+                        units.add(unit);
+                    }
+                }
+            }
+            if (!whole.methods.isEmpty()) {
+                units.add(whole);
+            }
+        }
+        return units;
+    }
+
+    /**
+     * Resolve test method names of a suite class
+     * @param xmlClass Suite class entry
+     * @return Explicitly included methods, or all @Test methods minus excluded ones
+     */
+    private static Set<String> testMethods(XmlClass xmlClass) {
+        Set<String> methods = new LinkedHashSet<>();
+        if (!xmlClass.getIncludedMethods().isEmpty()) {
+            for (XmlInclude include : xmlClass.getIncludedMethods()) {
+                methods.add(include.getName());
+            }
+            return methods;
+        }
+
+        Class<?> testClass = xmlClass.getSupportClass();
+        boolean classLevelTest = testClass.isAnnotationPresent(Test.class);
+        for (Method method : testClass.getMethods()) {
+            if (method.isAnnotationPresent(Test.class)
+                || (classLevelTest && method.getDeclaringClass() != Object.class)) {
+                methods.add(method.getName());
+            }
+        }
+        methods.removeAll(new HashSet<>(xmlClass.getExcludedMethods()));
+        return methods;
+    }
+
+    /**
+     * Check if a test method reads its rows from a @DataSource
+     * @param testClass Test class
+     * @param methodName Method name
+     * @return true if a public method of that name carries @DataSource
+     */
+    private static boolean isDataSourceMethod(Class<?> testClass, String methodName) {
+        for (Method method : testClass.getMethods()) {
+            if (method.getName().equals(methodName) && method.isAnnotationPresent(DataSource.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Estimate duration of a unit from history
+     * @param unit Unit to estimate
+     * @param median Median known duration or -1 without any history
+     * @return Expected duration in milliseconds (1 per method without any history)
+     */
+    private static double estimate(Unit unit, double median) {
+        double total = 0;
+        for (String[] method : unit.methods) {
+            double expected = TestDurationStore.getExpectedDuration(TestDurationStore.keyOf(method[0], method[1]));
+            total += expected >= 0 ? expected : (median >= 0 ? median : 1);
+        }
+        return total;
+    }
+
+    /**
+     * Build the suite of one shard from a fresh parse of the original suite
+     * @param suitePath Path of the TestNG suite XML
+     * @param shard Planned shard
+     * @param shards Total number of shards
+     * @return Shard suite
+     */
+    private static XmlSuite buildShardSuite(String suitePath, Shard shard, int shards) {
+        XmlSuite suite = parse(suitePath);
+        List<XmlTest> tests = new ArrayList<>();
+        for (XmlTest test : suite.getTests()) {
+            List<XmlClass> classes = new ArrayList<>();
+            for (XmlClass xmlClass : test.getXmlClasses()) {
+                List<XmlInclude> includes = new ArrayList<>();
+                for (Unit unit : shard.units) {
+                    if (unit.testName.equals(test.getName())) {
+                        if (unit.replicated) {
+                            test.addParameter("data.shard.index", String.valueOf(shard.index));
+                            test.addParameter("data.shard.count", String.valueOf(shards));
+                        }
+                        for (String[] method : unit.methods) {
+                            if (method[0].equals(xmlClass.getName())) {
+                                includes.add(new XmlInclude(method[1]));
+                            }
+                        }
+                    }
+                }
+                if (!includes.isEmpty()) {
+                    xmlClass.setIncludedMethods(includes);
+                    xmlClass.setExcludedMethods(new ArrayList<>());
+                    classes.add(xmlClass);
+                }
+            }
+            if (!classes.isEmpty()) {
+                test.setXmlClasses(classes);
+                tests.add(test);
+            }
+        }
+        suite.setTests(tests);
+        return suite;
+    }
+
+    /**
+     * Methods that must run in the same shard
+     */
+    private static class Unit {
+
+        private final String testName;
+        private final List<String[]> methods = new ArrayList<>();
+        private double weight;
+        private boolean replicated;
+
+        private Unit(String testName) {
+            this.testName = testName;
+        }
+
+        private Unit add(String className, String methodName) {
+            methods.add(new String[]{className, methodName});
+            return this;
+        }
+    }
+
+    /**
+     * One forked JVM worth of units
+     */
+    private static class Shard {
+
+        private final int index;
+        private final List<Unit> units = new ArrayList<>();
+        private double load;
+
+        private Shard(int index) {
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,419 @@
+package com.framework.utils;
+
+import com.framework.exceptions.FrameworkException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.internal.Parser;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Runs a TestNG suite as several forked JVMs and merges their reports
+ * This demonstrates:
+ * 1. Facade Pattern - One entry point for planning, forking and merging
+ * 2. Separation of Concerns - Planning delegated to ShardPlanner
+ *
+ * Each shard runs in its own JVM with the AspectJ agent, its own driver pool, its own
+ * allure-results directory and its own TestNG output directory. After all shards finish,
+ * Allure results are copied into the regular allure-results directory, TestNG result files
+ * are merged into one testng-results.xml, durations learned by the shards are merged
+ * back into the history store, their startup timings and failure clusters are collected
+ * into one report each, and traffic indexes recorded by the shards are merged into the archive.
+ * With startup.cds.dir set (mvn -Pcds) every shard JVM creates and reuses its own
+ * class-data-sharing archive there.
+ *
+ * Usage: mvn -Psharded test [-Dshards=4] [-Dsharded.suite=src/test/resources/testng.xml]
+ */
+public class ShardedSuiteRunner {
+
+    private static final Logger logger = LogManager.getLogger(ShardedSuiteRunner.class);
+    private static final String[] RESULT_COUNTERS = {"total", "passed", "failed", "skipped", "ignored"};
+
+    /**
+     * Private constructor to prevent instantiation (Utility class pattern)
+     */
+    private ShardedSuiteRunner() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Entry point
+     * @param args Optional suite path (default src/test/resources/testng.xml) and shard count (0 uses shard.count)
+     */
+    public static void main(String[] args) {
+        String suitePath = args.length > 0 ? args[0] : "src/test/resources/testng.xml";
+        int shardCount = args.length > 1 ? Integer.parseInt(args[1]) : 0;
+        int exitCode = run(suitePath, shardCount);
+        System.exit(exitCode);
+    }
+
+    /**
+     * Plan, run and merge a sharded suite
+     * @param suitePath Path of the TestNG suite XML
+     * @param requestedShards Shard count, 0 to use shard.count
+     * @return 0 if all shards passed, otherwise the highest shard exit code
+     */
+    public static int run(String suitePath, int requestedShards) {
+        Path workDir = Paths.get(ConfigReader.getShardWorkDir());
+        Path historyPath = Paths.get(ConfigReader.getTestHistoryPath());
+        int shardCount = requestedShards > 0 ? requestedShards : resolveShardCount(suitePath);
+
+        List<XmlSuite> suites = ShardPlanner.plan(suitePath, shardCount);
+        logger.info("Running {} in {} shards", suitePath, suites.size());
+
+        try {
+            deleteRecursively(workDir);
+            List<Process> processes = new ArrayList<>();
+            for (int i = 0; i < suites.size(); i++) {
+                processes.add(launchShard(workDir.resolve("shard-" + i), suites.get(i), historyPath, i));
+            }
+
+            int exitCode = 0;
+            for (int i = 0; i < processes.size(); i++) {
+                int shardExit = processes.get(i).waitFor();
+                logger.info("Shard {} finished with exit code {}", i, shardExit);
+                exitCode = Math.max(exitCode, shardExit);
+            }
+
+            mergeAllureResults(workDir, suites.size(), Paths.get(System.getProperty("allure.results.directory", "allure-results")));
+            mergeTestNgResults(workDir, suites.size(), workDir.resolve("testng-results.xml"));
+            mergeDurations(workDir, suites.size(), historyPath);
+            mergeStartupTimings(workDir, suites.size(), Paths.get(ConfigReader.getStartupTimingPath()));
+            List<Path> clusterReports = new ArrayList<>();
+            for (int i = 0; i < suites.size(); i++) {
+                clusterReports.add(workDir.resolve("shard-" + i).resolve("failure-clusters.json"));
+            }
+            FailureClusterAnalyzer.mergeReports(clusterReports, Paths.get(ConfigReader.getFailureClustersPath()));
+            if (isRecordingTraffic()) {
+                List<Path> trafficIndexes = new ArrayList<>();
+                for (int i = 0; i < suites.size(); i++) {
+                    trafficIndexes.add(workDir.resolve("shard-" + i).resolve("traffic-index.jsonl.gz"));
+                }
+                TrafficArchive.mergeIndexes(trafficIndexes);
+            }
+            return exitCode;
+        } catch (IOException e) {
+            throw new FrameworkException("Sharded run failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FrameworkException("Interrupted while waiting for shards", e);
+        }
+    }
+
+    /**
+     * Resolve configured shard count, deriving it from cores and suite thread-count when set to 0
+     * @param suitePath Path of the TestNG suite XML
+     * @return Shard count (at least 1)
+     */
+    private static int resolveShardCount(String suitePath) {
+        int configured = ConfigReader.getShardCount();
+        if (configured > 0) {
+            return configured;
+        }
+        int threadsPerShard;
+        try {
+            threadsPerShard = new Parser(suitePath).parseToList().get(0).getThreadCount();
+        } catch (IOException e) {
+            threadsPerShard = ConfigReader.getThreadCount();
+        }
+        return Math.max(1, Runtime.getRuntime().availableProcessors() / Math.max(1, threadsPerShard));
+    }
+
+    /**
+     * Write the shard suite and start its JVM
+     * @param shardDir Working directory of the shard
+     * @param suite Shard suite
+     * @param historyPath Duration history file
+     * @param index Shard index
+     * @return Started process
+     */
+    private static Process launchShard(Path shardDir, XmlSuite suite, Path historyPath, int index) throws IOException {
+        Files.createDirectories(shardDir);
+        Path suiteFile = shardDir.resolve("testng.xml");
+        Files.writeString(suiteFile, suite.toXml(), StandardCharsets.UTF_8);
+
+        // Shards write their own copy of the history, merged back after the run
+        Path shardHistory = shardDir.resolve("durations.json");
+        if (Files.exists(historyPath)) {
+            Files.copy(historyPath, shardHistory, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        String agent = findAspectjAgent();
+        if (agent != null) {
+            command.add("-javaagent:" + agent);
+        } else if (!isWovenAtBuildTime()) {
+            logger.warn("AspectJ weaver not found on classpath, Allure steps will not be recorded in shard {}", index);
+        }
+        command.add("-Dallure.results.directory=" + shardDir.resolve("allure-results").toAbsolutePath());
+        command.add("-Dtest.history.path=" + shardHistory.toAbsolutePath());
+        command.add("-Dshard.index=" + index);
+        command.add("-Dstartup.timing.path=" + shardDir.resolve("startup-timing.json").toAbsolutePath());
+        command.add("-Dfailure.clusters.path=" + shardDir.resolve("failure-clusters.json").toAbsolutePath());
+        if (isRecordingTraffic()) {
+            // Shards finishing at the same time would overwrite a shared index, bodies are shared safely
+            command.add("-Dtraffic.archive.path=" + Paths.get(ConfigReader.getTrafficArchivePath()).toAbsolutePath());
+            command.add("-Dtraffic.archive.index.path=" + shardDir.resolve("traffic-index.jsonl.gz").toAbsolutePath());
+        }
+        String classpath = System.getProperty("java.class.path");
+        String cdsDir = ConfigReader.getCdsArchiveDir();
+        if (!cdsDir.isEmpty()) {
+            // One archive per shard, shards exiting at the same time would overwrite a shared one
+            Files.createDirectories(Paths.get(cdsDir));
+            command.add("-XX:+AutoCreateSharedArchive");
+            command.add("-XX:SharedArchiveFile=" + Paths.get(cdsDir, "shard-" + index + ".jsa").toAbsolutePath());
+            classpath = jarsFirst(classpath);
+        }
+        command.add("-cp");
+        command.add(classpath);
+        command.add("org.testng.TestNG");
+        command.add("-d");
+        command.add(shardDir.resolve("testng-output").toString());
+        command.add(suiteFile.toString());
+
+        File console = shardDir.resolve("console.log").toFile();
+        logger.info("Starting shard {} (output: {})", index, console);
+        return new ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .redirectOutput(console)
+            .start();
+    }
+
+    /**
+     * Find AspectJ weaver jar on the runner classpath
+     * @return Agent jar path or null if not found
+     */
+    private static String findAspectjAgent() {
+        if (isWovenAtBuildTime()) {
+            // The agent would weave the woven classes again and record every step twice
+            return null;
+        }
+        String configured = System.getProperty("aspectj.agent");
+        if (configured != null && !configured.isEmpty()) {
+            return configured;
+        }
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            if (new File(entry).getName().startsWith("aspectjweaver")) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Move class directories behind the jars of a classpath
+     * Class-data sharing only archives classes from jars and refuses to dump when a non-empty
+     * directory precedes an archived jar; project classes do not overlap with dependency jars.
+     * @param classpath Runner classpath
+     * @return Classpath with the same entries, jars first
+     */
+    private static String jarsFirst(String classpath) {
+        List<String> jars = new ArrayList<>();
+        List<String> directories = new ArrayList<>();
+        for (String entry : classpath.split(File.pathSeparator)) {
+            (entry.endsWith(".jar") ? jars : directories).add(entry);
+        }
+        jars.addAll(directories);
+        return String.join(File.pathSeparator, jars);
+    }
+
+    /**
+     * Check if the shards record browser traffic into the traffic archive
+     * @return true in traffic archive record mode
+     */
+    private static boolean isRecordingTraffic() {
+        return "record".equals(ConfigReader.getTrafficArchiveMode());
+    }
+
+    /**
+     * Check if the Allure aspects were woven into the classes at build time (-Pctw)
+     * @return true if shards must run without the weaver agent
+     */
+    private static boolean isWovenAtBuildTime() {
+        return "ctw".equals(System.getProperty("aspectj.weaving"));
+    }
+
+    /**
+     * Copy Allure result files of all shards into one results directory
+     * @param workDir Runner working directory
+     * @param shards Number of shards
+     * @param target Merged results directory
+     */
+    private static void mergeAllureResults(Path workDir, int shards, Path target) throws IOException {
+        Files.createDirectories(target);
+        int copied = 0;
+        for (int i = 0; i < shards; i++) {
+            Path source = workDir.resolve("shard-" + i).resolve("allure-results");
+            if (!Files.isDirectory(source)) {
+                logger.warn("Shard {} produced no Allure results", i);
+                continue;
+            }
+            // Result, container and attachment files are named by UUID, so they never collide
+            try (Stream<Path> files = Files.list(source)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.copy(file, target.resolve(file.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+                    copied++;
+                }
+            }
+        }
+        logger.info("Merged {} Allure result files into: {}", copied, target);
+    }
+
+    /**
+     * Merge testng-results.xml of all shards into one document
+     * @param workDir Runner working directory
+     * @param shards Number of shards
+     * @param target Merged testng-results.xml
+     */
+    private static void mergeTestNgResults(Path workDir, int shards, Path target) {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            Document merged = null;
+            Map<String, Long> counters = new HashMap<>();
+            for (int i = 0; i < shards; i++) {
+                Path results = workDir.resolve("shard-" + i).resolve("testng-output").resolve("testng-results.xml");
+                if (!Files.exists(results)) {
+                    logger.warn("Shard {} produced no testng-results.xml", i);
+                    continue;
+                }
+                Document document = factory.newDocumentBuilder().parse(results.toFile());
+                Element root = document.getDocumentElement();
+                for (String counter : RESULT_COUNTERS) {
+                    counters.merge(counter, parseCounter(root.getAttribute(counter)), Long::sum);
+                }
+                if (merged == null) {
+                    merged = document;
+                    continue;
+                }
+                NodeList suites = root.getElementsByTagName("suite");
+                for (int s = 0; s < suites.getLength(); s++) {
+                    Node imported = merged.importNode(suites.item(s), true);
+                    merged.getDocumentElement().appendChild(imported);
+                }
+            }
+            if (merged == null) {
+                return;
+            }
+            for (String counter : RESULT_COUNTERS) {
+                merged.getDocumentElement().setAttribute(counter, String.valueOf(counters.getOrDefault(counter, 0L)));
+            }
+
+            Transformer transformer = TransformerFactory.newInstance().newTransformer();
+            transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+            transformer.transform(new DOMSource(merged), new StreamResult(target.toFile()));
+            logger.info("Merged TestNG results written to: {} ({})", target, counters);
+        } catch (Exception e) {
+            logger.error("Failed to merge TestNG results", e);
+        }
+    }
+
+    /**
+     * Merge durations learned by the shards into the history store
+     * Each shard started from a copy of the history, so only values a shard changed are taken over
+     * @param workDir Runner working directory
+     * @param shards Number of shards
+     * @param historyPath Duration history file
+     */
+    private static void mergeDurations(Path workDir, int shards, Path historyPath) throws IOException {
+        Json json = new Json();
+        Map<String, Object> base = Files.exists(historyPath)
+            ? json.toType(Files.readString(historyPath, StandardCharsets.UTF_8), Json.MAP_TYPE)
+            : Map.of();
+        Map<String, Object> merged = new TreeMap<>(base);
+        for (int i = 0; i < shards; i++) {
+            Path shardHistory = workDir.resolve("shard-" + i).resolve("durations.json");
+            if (!Files.exists(shardHistory)) {
+                continue;
+            }
+            Map<String, Object> learned = json.toType(Files.readString(shardHistory, StandardCharsets.UTF_8), Json.MAP_TYPE);
+            learned.forEach((key, value) -> {
+                if (!value.equals(base.get(key))) {
+                    merged.put(key, value);
+                }
+            });
+        }
+
+        if (historyPath.getParent() != null) {
+            Files.createDirectories(historyPath.getParent());
+        }
+        Path temp = historyPath.resolveSibling(historyPath.getFileName() + ".tmp");
+        Files.writeString(temp, json.toJson(merged), StandardCharsets.UTF_8);
+        Files.move(temp, historyPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        logger.info("Merged shard durations into: {}", historyPath);
+    }
+
+    /**
+     * Collect the startup timing reports of all shards into one report
+     * @param workDir Runner working directory
+     * @param shards Number of shards
+     * @param reportPath Merged report file
+     */
+    private static void mergeStartupTimings(Path workDir, int shards, Path reportPath) throws IOException {
+        Json json = new Json();
+        List<Map<String, Object>> reports = new ArrayList<>();
+        for (int i = 0; i < shards; i++) {
+            Path shardReport = workDir.resolve("shard-" + i).resolve("startup-timing.json");
+            if (Files.exists(shardReport)) {
+                reports.add(json.toType(Files.readString(shardReport, StandardCharsets.UTF_8), Json.MAP_TYPE));
+            }
+        }
+        if (reports.isEmpty()) {
+            return;
+        }
+        if (reportPath.getParent() != null) {
+            Files.createDirectories(reportPath.getParent());
+        }
+        Files.writeString(reportPath, json.toJson(reports), StandardCharsets.UTF_8);
+        LongSummaryStatistics startup = reports.stream()
+            .mapToLong(report -> ((Number) report.get("suiteStartMs")).longValue())
+            .summaryStatistics();
+        logger.info("Shard JVMs reached their suite after {}-{} ms (average {} ms), report: {}",
+            startup.getMin(), startup.getMax(), Math.round(startup.getAverage()), reportPath);
+    }
+
+    private static long parseCounter(String value) {
+        return value == null || value.isEmpty() ? 0 : Long.parseLong(value);
+    }
+
+    /**
+     * Delete a directory tree if it exists
+     * @param directory Directory to delete
+     */
+    private static void deleteRecursively(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+}
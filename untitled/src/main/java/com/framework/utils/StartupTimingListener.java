@@ -0,0 +1,125 @@
+package com.framework.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Suite listener reporting how long the test JVM took to get from launch to the first suite
+ * This demonstrates:
+ * 1. Observer Pattern - Plugged into TestNG as a suite listener
+ * 2. Single Responsibility - Startup measurement kept out of the test lifecycle classes
+ *
+ * When the first suite starts, the listener records the JVM uptime, loaded classes, JIT time,
+ * whether the application class-data-sharing archive (-XX:SharedArchiveFile) was mapped or is
+ * being recorded and whether the AspectJ weaver agent is attached, logs them and writes them to
+ * startup.timing.path. Comparing reports of runs with and without -Pcds / -Pctw shows what the
+ * archive and build-time weaving save per JVM.
+ */
+public class StartupTimingListener implements ISuiteListener {
+
+    private static final Logger logger = LogManager.getLogger(StartupTimingListener.class);
+    private static final String SHARED_ARCHIVE_OPTION = "-XX:SharedArchiveFile=";
+    private static final AtomicBoolean reported = new AtomicBoolean();
+
+    /**
+     * Record startup timings once per JVM
+     * @param suite Suite about to run
+     */
+    @Override
+    public void onStart(ISuite suite) {
+        if (!reported.compareAndSet(false, true)) {
+            return;
+        }
+        RuntimeMXBean runtime = ManagementFactory.getRuntimeMXBean();
+        CompilationMXBean compilation = ManagementFactory.getCompilationMXBean();
+        String archive = sharedArchiveFile(runtime);
+        String sharing = archiveStatus(archive, runtime.getClassPath());
+        boolean agent = runtime.getInputArguments().stream()
+            .anyMatch(argument -> argument.startsWith("-javaagent:") && argument.contains("aspectjweaver"));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("jvm", System.getProperty("shard.index") != null ? "shard-" + System.getProperty("shard.index") : "main");
+        report.put("pid", ProcessHandle.current().pid());
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("suiteStartMs", runtime.getUptime());
+        report.put("loadedClasses", ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount());
+        report.put("jitMs", compilation != null && compilation.isCompilationTimeMonitoringSupported()
+            ? compilation.getTotalCompilationTime() : -1);
+        report.put("classDataSharing", sharing);
+        report.put("cdsArchive", archive);
+        report.put("aspectjAgent", agent);
+
+        logger.info("JVM reached suite '{}' after {} ms ({} classes loaded, class-data sharing {}, AspectJ agent {})",
+            suite.getName(), report.get("suiteStartMs"), report.get("loadedClasses"),
+            sharing, agent ? "attached" : "not attached");
+        write(report);
+    }
+
+    /**
+     * Get the application class-data-sharing archive the JVM was started with
+     * Read from the command line, the SharedArchiveFile VM option is still empty while an archive is recorded
+     * @param runtime Runtime MXBean
+     * @return Archive path, or an empty string without -XX:SharedArchiveFile
+     */
+    private static String sharedArchiveFile(RuntimeMXBean runtime) {
+        return runtime.getInputArguments().stream()
+            .filter(argument -> argument.startsWith(SHARED_ARCHIVE_OPTION))
+            .map(argument -> argument.substring(SHARED_ARCHIVE_OPTION.length()))
+            .reduce((first, last) -> last)
+            .orElse("");
+    }
+
+    /**
+     * Decide if the archive could be used by this JVM
+     * The JVM rejects an archive once a classpath jar changed after it was recorded, and records it again
+     * at exit (-XX:+AutoCreateSharedArchive), so file times at startup tell which of both happened
+     * @param archive Archive path, may be empty
+     * @param classPath Class path of the JVM
+     * @return "mapped", "recording" (archive missing or older than a classpath jar) or "off"
+     */
+    static String archiveStatus(String archive, String classPath) {
+        if (archive.isEmpty()) {
+            return "off";
+        }
+        File archiveFile = new File(archive);
+        if (!archiveFile.isFile()) {
+            return "recording";
+        }
+        long recorded = archiveFile.lastModified();
+        for (String entry : classPath.split(File.pathSeparator)) {
+            File jar = new File(entry);
+            if (entry.endsWith(".jar") && jar.isFile() && jar.lastModified() > recorded) {
+                return "recording";
+            }
+        }
+        return "mapped";
+    }
+
+    private static void write(Map<String, Object> report) {
+        Path path = Paths.get(ConfigReader.getStartupTimingPath());
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.writeString(path, new Json().toJson(report), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warn("Failed to write startup timing report {}: {}", path, e.getMessage());
+        }
+    }
+}
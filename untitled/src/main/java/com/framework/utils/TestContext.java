@@ -0,0 +1,292 @@
+package com.framework.utils;
+
+import com.framework.exceptions.FrameworkException;
+import org.openqa.selenium.WebDriver;
+import org.testng.ITestResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Per-invocation test context holding the driver, page objects and test data of one test method
+ * This demonstrates:
+ * 1. Encapsulation - Test state kept out of shared test class instance fields
+ * 2. Thread confinement - One context per invocation, so parallel="methods" invocations never share state
+ *
+ * The context is attached to the ITestResult of its invocation and bound to the thread working on it.
+ * Usually @BeforeMethod, the test method, listeners and @AfterMethod share one thread, but with a
+ * time-out outside TestNG's own worker threads (sequential runs under the suite time-out) each of them
+ * runs on a thread of its own. BaseTest and TestListener therefore bind the context from the result at
+ * every entry point (setup, IHookable test body, listener callbacks, teardown). Utilities keep their
+ * per-test state in a Local slot, which follows the bound context instead of the thread.
+ */
+public class TestContext {
+
+    private static final ThreadLocal<TestContext> current = new ThreadLocal<>();
+    private static final String RESULT_ATTRIBUTE = TestContext.class.getName();
+    private static final Map<List<Object>, WebDriver> retryDrivers = new ConcurrentHashMap<>();
+
+    private final Map<Local<?>, Object> locals = Collections.synchronizedMap(new HashMap<>());
+    private final Map<Class<?>, Object> pages = new HashMap<>();
+    private final Map<String, Object> data = new HashMap<>();
+    private WebDriver driver;
+    private Class<?> currentPageClass;
+
+    /**
+     * Private constructor - contexts are created through start()
+     */
+    private TestContext() {
+    }
+
+    /**
+     * Start a fresh context for a test invocation, attach it to the result and bind it to the current thread
+     * A browser session kept by teardown for the retry of this invocation is adopted by the new context
+     * @param result Result of the test method about to run
+     * @return New test context
+     */
+    public static TestContext start(ITestResult result) {
+        TestContext context = new TestContext();
+        result.setAttribute(RESULT_ATTRIBUTE, context);
+        current.set(context);
+        WebDriver kept = retryDrivers.remove(retryKey(result));
+        if (kept != null) {
+            context.setDriver(kept);
+            DriverFactory.attachDriver(kept);
+        }
+        return context;
+    }
+
+    /**
+     * Bind the context of a test invocation to the current thread
+     * @param result Result of the invocation
+     * @return Context bound to the current thread before, to be passed to restore()
+     */
+    public static TestContext bind(ITestResult result) {
+        TestContext previous = current.get();
+        Object context = result != null ? result.getAttribute(RESULT_ATTRIBUTE) : null;
+        if (context instanceof TestContext) {
+            current.set((TestContext) context);
+        }
+        return previous;
+    }
+
+    /**
+     * Restore the binding of the current thread after bind()
+     * @param previous Context returned by bind(), null if the thread had none
+     */
+    public static void restore(TestContext previous) {
+        if (previous == null) {
+            current.remove();
+        } else {
+            current.set(previous);
+        }
+    }
+
+    /**
+     * Get context of the current thread
+     * @return Current test context
+     */
+    public static TestContext current() {
+        TestContext context = current.get();
+        if (context == null) {
+            throw new FrameworkException("No test context for current thread. Test setup may have failed.");
+        }
+        return context;
+    }
+
+    /**
+     * Check if current thread has a test context
+     * @return true if a context is bound, false otherwise
+     */
+    public static boolean isActive() {
+        return current.get() != null;
+    }
+
+    /**
+     * End context of a test invocation: detach it from the result and unbind it from the current thread
+     * @param result Result of the invocation
+     */
+    public static void end(ITestResult result) {
+        result.removeAttribute(RESULT_ATTRIBUTE);
+        current.remove();
+    }
+
+    /**
+     * Keep the browser session of this context for the retry of its invocation
+     * The retry may run on another thread, so the session is handed over through start()
+     * @param result Result of the failed attempt
+     */
+    public void keepDriverForRetry(ITestResult result) {
+        if (driver != null) {
+            retryDrivers.put(retryKey(result), driver);
+        }
+    }
+
+    /**
+     * Remove browser sessions kept for retries that never ran
+     * @return Kept sessions, to be quit by the caller
+     */
+    public static List<WebDriver> drainRetryDrivers() {
+        List<WebDriver> drivers = new ArrayList<>(retryDrivers.values());
+        retryDrivers.clear();
+        return drivers;
+    }
+
+    private static List<Object> retryKey(ITestResult result) {
+        return Arrays.asList(result.getInstance(), result.getMethod().getQualifiedName(), Arrays.asList(result.getParameters()));
+    }
+
+    /**
+     * Get WebDriver of this context
+     * @return WebDriver instance or null if none was set
+     */
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    /**
+     * Set WebDriver of this context
+     * @param driver WebDriver instance
+     */
+    public void setDriver(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Get class of the page object created last, the page the test is most likely on
+     * @return Page object class or null if no page was created yet
+     */
+    public Class<?> getCurrentPageClass() {
+        return currentPageClass;
+    }
+
+    /**
+     * Set class of the page object created last
+     * @param pageClass Page object class
+     */
+    public void setCurrentPageClass(Class<?> pageClass) {
+        this.currentPageClass = pageClass;
+    }
+
+    /**
+     * Get page object stored for its class
+     * @param pageClass Page object class
+     * @param <T> Page object type
+     * @return Page object
+     */
+    public <T> T getPage(Class<T> pageClass) {
+        Object page = pages.get(pageClass);
+        if (page == null) {
+            throw new FrameworkException(pageClass.getSimpleName() + " has not been set in the test context");
+        }
+        return pageClass.cast(page);
+    }
+
+    /**
+     * Store page object under its class
+     * @param page Page object
+     * @param <T> Page object type
+     * @return The stored page object for method chaining
+     */
+    public <T> T setPage(T page) {
+        pages.put(page.getClass(), page);
+        return page;
+    }
+
+    /**
+     * Get test data value
+     * @param key Data key
+     * @param <T> Value type
+     * @return Value or null if not set
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getData(String key) {
+        return (T) data.get(key);
+    }
+
+    /**
+     * Store test data value
+     * @param key Data key
+     * @param value Value
+     */
+    public void putData(String key, Object value) {
+        data.put(key, value);
+    }
+
+    /**
+     * Per-invocation value of a utility, the counterpart of a ThreadLocal for test state
+     * Stored in the context bound to the current thread, so it follows the invocation across the threads
+     * of setup, test body, listeners and teardown; without a bound context it is kept per thread.
+     * @param <T> Value type
+     */
+    public static class Local<T> {
+
+        private final Supplier<? extends T> initial;
+        private final ThreadLocal<T> threadValue;
+
+        /**
+         * Create a slot without initial value
+         */
+        public Local() {
+            this(() -> null);
+        }
+
+        /**
+         * Create a slot with an initial value per invocation
+         * @param initial Supplier of the initial value
+         */
+        public Local(Supplier<? extends T> initial) {
+            this.initial = initial;
+            this.threadValue = ThreadLocal.withInitial(initial);
+        }
+
+        /**
+         * Get value of the current invocation
+         * @return Value, the initial value if none was set
+         */
+        @SuppressWarnings("unchecked")
+        public T get() {
+            TestContext context = current.get();
+            if (context == null) {
+                return threadValue.get();
+            }
+            synchronized (context.locals) {
+                if (!context.locals.containsKey(this)) {
+                    context.locals.put(this, initial.get());
+                }
+                return (T) context.locals.get(this);
+            }
+        }
+
+        /**
+         * Set value of the current invocation
+         * @param value Value
+         */
+        public void set(T value) {
+            TestContext context = current.get();
+            if (context == null) {
+                threadValue.set(value);
+            } else {
+                context.locals.put(this, value);
+            }
+        }
+
+        /**
+         * Remove value of the current invocation
+         */
+        public void remove() {
+            TestContext context = current.get();
+            if (context == null) {
+                threadValue.remove();
+            } else {
+                context.locals.remove(this);
+            }
+        }
+    }
+}
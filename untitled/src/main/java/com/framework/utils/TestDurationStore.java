@@ -0,0 +1,156 @@
+package com.framework.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+import org.testng.ITestNGMethod;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Historical test duration store backed by a local JSON file
+ * This demonstrates:
+ * 1. Encapsulation - Persistence format hidden behind record/expected-duration methods
+ * 2. Singleton state - One store per JVM shared by listener, interceptor and shard planner
+ *
+ * Durations are accumulated per test method during a run (all data provider invocations together)
+ * and merged into an exponentially weighted moving average when the run is flushed.
+ */
+public class TestDurationStore {
+
+    private static final Logger logger = LogManager.getLogger(TestDurationStore.class);
+    private static final double SMOOTHING = 0.3;
+    private static final Map<String, Long> runTotals = new HashMap<>();
+    private static Map<String, Double> averages;
+
+    /**
+     * Private constructor to prevent instantiation (Utility class pattern)
+     */
+    private TestDurationStore() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Build store key for a test method
+     * @param method TestNG method
+     * @return Fully qualified method key
+     */
+    public static String keyOf(ITestNGMethod method) {
+        return keyOf(method.getRealClass().getName(), method.getMethodName());
+    }
+
+    /**
+     * Build store key for a test method by name
+     * @param className Fully qualified class name
+     * @param methodName Method name
+     * @return Fully qualified method key
+     */
+    public static String keyOf(String className, String methodName) {
+        return className + "." + methodName;
+    }
+
+    /**
+     * Record one invocation of a test method
+     * @param method TestNG method
+     * @param durationMillis Invocation duration in milliseconds
+     */
+    public static synchronized void record(ITestNGMethod method, long durationMillis) {
+        if (durationMillis >= 0) {
+            runTotals.merge(keyOf(method), durationMillis, Long::sum);
+        }
+    }
+
+    /**
+     * Get expected duration of a test method
+     * @param key Method key
+     * @return Expected duration in milliseconds or -1 if the method has no history
+     */
+    public static synchronized double getExpectedDuration(String key) {
+        Double average = load().get(key);
+        return average != null ? average : -1;
+    }
+
+    /**
+     * Get median of all known durations, used as estimate for methods without history
+     * @return Median duration in milliseconds or -1 if the store is empty
+     */
+    public static synchronized double getMedianDuration() {
+        List<Double> values = new ArrayList<>(load().values());
+        if (values.isEmpty()) {
+            return -1;
+        }
+        Collections.sort(values);
+        return values.get(values.size() / 2);
+    }
+
+    /**
+     * Merge durations recorded in this run into the store and write it to disk
+     */
+    public static synchronized void flush() {
+        if (runTotals.isEmpty()) {
+            return;
+        }
+        Map<String, Double> merged = load();
+        runTotals.forEach((key, total) -> merged.merge(key, total.doubleValue(),
+            (previous, current) -> previous + SMOOTHING * (current - previous)));
+        runTotals.clear();
+
+        Path path = Paths.get(ConfigReader.getTestHistoryPath());
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            Files.writeString(temp, new Json().toJson(new TreeMap<>(merged)), StandardCharsets.UTF_8);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.info("Saved {} test durations to: {}", merged.size(), path);
+        } catch (IOException e) {
+            logger.error("Failed to save test durations to: {}", path, e);
+        }
+    }
+
+    /**
+     * Drop loaded averages and unflushed durations, so the store is read again from test.history.path
+     */
+    static synchronized void reload() {
+        averages = null;
+        runTotals.clear();
+    }
+
+    /**
+     * Load averages from disk once per JVM
+     * @return Mutable map of method key to average duration
+     */
+    private static Map<String, Double> load() {
+        if (averages != null) {
+            return averages;
+        }
+        averages = new HashMap<>();
+        Path path = Paths.get(ConfigReader.getTestHistoryPath());
+        if (Files.exists(path)) {
+            try {
+                Map<String, Object> stored = new Json().toType(Files.readString(path, StandardCharsets.UTF_8), Json.MAP_TYPE);
+                stored.forEach((key, value) -> {
+                    if (value instanceof Number) {
+                        averages.put(key, ((Number) value).doubleValue());
+                    }
+                });
+                logger.info("Loaded {} historical test durations from: {}", averages.size(), path);
+            } catch (Exception e) {
+                logger.warn("Ignoring unreadable test duration store {}: {}", path, e.getMessage());
+            }
+        }
+        return averages;
+    }
+}
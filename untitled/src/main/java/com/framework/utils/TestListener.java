@@ -1,8 +1,13 @@
 package com.framework.utils;
 
+import io.qameta.allure.Allure;
 import io.qameta.allure.Attachment;
+import io.qameta.allure.model.Parameter;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
 
@@ -15,6 +20,7 @@ import org.testng.ITestResult;
 public class TestListener implements ITestListener {
     
     private static final Logger logger = LogManager.getLogger(TestListener.class);
+    private static final String ATTEMPT_ATTRIBUTE = "retry.attempt";
     
     /**
      * Called when a test starts
@@ -25,6 +31,12 @@ public class TestListener implements ITestListener {
         String testName = result.getMethod().getMethodName();
         String className = result.getTestClass().getName();
         logger.info("Starting test: {}.{}", className, testName);
+        
+        // Remember which attempt this is before a failure increments the retry count
+        IRetryAnalyzer retryAnalyzer = result.getMethod().getRetryAnalyzer(result);
+        if (retryAnalyzer instanceof RetryAnalyzer) {
+            result.setAttribute(ATTEMPT_ATTRIBUTE, ((RetryAnalyzer) retryAnalyzer).getRetryCount() + 1);
+        }
     }
     
     /**
@@ -33,9 +45,20 @@ public class TestListener implements ITestListener {
      */
     @Override
     public void onTestSuccess(ITestResult result) {
-        String testName = result.getMethod().getMethodName();
-        String className = result.getTestClass().getName();
-        logger.info("Test passed: {}.{}", className, testName);
+        // Listeners run on the invoking thread, which differs from the test thread under a time-out
+        TestContext previous = TestContext.bind(result);
+        try {
+            String testName = result.getMethod().getMethodName();
+            String className = result.getTestClass().getName();
+            logger.info("Test passed: {}.{}", className, testName);
+            TestDurationStore.record(result.getMethod(), getExecutionTime(result));
+            DomSnapshot.recordPass(DriverFactory.hasDriver() ? DriverFactory.getDriver() : null);
+            recordRetryAttempt(result);
+            attachNetworkReport();
+            attachPerformanceRecord();
+        } finally {
+            TestContext.restore(previous);
+        }
     }
     
     /**
@@ -44,31 +67,43 @@ public class TestListener implements ITestListener {
      */
     @Override
     public void onTestFailure(ITestResult result) {
-        String testName = result.getMethod().getMethodName();
-        String className = result.getTestClass().getName();
-        Throwable throwable = result.getThrowable();
-        
-        logger.error("Test failed: {}.{}", className, testName);
-        if (throwable != null) {
-            logger.error("Failure reason: {}", throwable.getMessage(), throwable);
-        }
-        
-        // Take screenshot on failure if configured
-        if (ConfigReader.isScreenshotOnFailure()) {
-            try {
-                byte[] screenshot = DriverFactory.getDriver() != null ? 
-                    ((org.openqa.selenium.TakesScreenshot) DriverFactory.getDriver())
-                        .getScreenshotAs(org.openqa.selenium.OutputType.BYTES) : null;
+        TestContext previous = TestContext.bind(result);
+        try {
+            String testName = result.getMethod().getMethodName();
+            String className = result.getTestClass().getName();
+            Throwable throwable = result.getThrowable();
+            
+            logger.error("Test failed: {}.{}", className, testName);
+            TestDurationStore.record(result.getMethod(), getExecutionTime(result));
+            if (throwable != null) {
+                logger.error("Failure reason: {}", throwable.getMessage(), throwable);
+            }
+            FailureClusterAnalyzer.record(result);
+            
+            // Take screenshot on failure if configured
+            if (ConfigReader.isScreenshotOnFailure()) {
+                try {
+                    byte[] screenshot = DriverFactory.getDriver() != null ? 
+                        ((org.openqa.selenium.TakesScreenshot) DriverFactory.getDriver())
+                            .getScreenshotAs(org.openqa.selenium.OutputType.BYTES) : null;
                 
-                if (screenshot != null) {
-                    attachScreenshot(screenshot);
-                    logger.info("Screenshot attached to Allure report for failed test: {}", testName);
-                } else {
-                    logger.warn("Could not capture screenshot - WebDriver instance is null");
+                    if (screenshot != null) {
+                        attachScreenshot(screenshot);
+                        logger.info("Screenshot attached to Allure report for failed test: {}", testName);
+                    } else {
+                        logger.warn("Could not capture screenshot - WebDriver instance is null");
+                    }
+                } catch (Exception e) {
+                    logger.error("Failed to capture screenshot for test: {}", testName, e);
                 }
-            } catch (Exception e) {
-                logger.error("Failed to capture screenshot for test: {}", testName, e);
             }
+            DomSnapshot.captureFailure(DriverFactory.hasDriver() ? DriverFactory.getDriver() : null);
+            
+            recordRetryAttempt(result);
+            attachNetworkReport();
+            attachPerformanceRecord();
+        } finally {
+            TestContext.restore(previous);
         }
     }
     
@@ -78,13 +113,24 @@ public class TestListener implements ITestListener {
      */
     @Override
     public void onTestSkipped(ITestResult result) {
-        String testName = result.getMethod().getMethodName();
-        String className = result.getTestClass().getName();
-        Throwable throwable = result.getThrowable();
-        
-        logger.warn("Test skipped: {}.{}", className, testName);
-        if (throwable != null) {
-            logger.warn("Skip reason: {}", throwable.getMessage());
+        TestContext previous = TestContext.bind(result);
+        try {
+            String testName = result.getMethod().getMethodName();
+            String className = result.getTestClass().getName();
+            Throwable throwable = result.getThrowable();
+            
+            if (result.wasRetried()) {
+                logger.warn("Test failed and will be retried: {}.{}", className, testName);
+            } else {
+                logger.warn("Test skipped: {}.{}", className, testName);
+            }
+            if (throwable != null) {
+                logger.warn("Skip reason: {}", throwable.getMessage());
+            }
+            recordRetryAttempt(result);
+            attachPerformanceRecord();
+        } finally {
+            TestContext.restore(previous);
         }
     }
     
@@ -99,6 +145,19 @@ public class TestListener implements ITestListener {
         logger.info("Test failed but within success percentage: {}.{}", className, testName);
     }
     
+    /**
+     * Called after all tests of a test tag have run
+     * Persists durations recorded for duration-aware scheduling and usage recorded for impact analysis,
+     * and waits for DOM snapshots still being written
+     * @param context Test context
+     */
+    @Override
+    public void onFinish(ITestContext context) {
+        TestDurationStore.flush();
+        ImpactRecorder.flush();
+        DomSnapshot.awaitPending();
+    }
+    
     /**
      * Attach screenshot to Allure report
      * @param screenshot Screenshot as byte array
@@ -119,6 +178,74 @@ public class TestListener implements ITestListener {
         return text;
     }
     
+    /**
+     * Record retry attempt of the test as Allure parameter
+     * The parameter is excluded from the history id so retries stay grouped under one test
+     * @param result Test result object
+     */
+    private void recordRetryAttempt(ITestResult result) {
+        Object attempt = result.getAttribute(ATTEMPT_ATTRIBUTE);
+        if (attempt instanceof Integer && (Integer) attempt > 1) {
+            Allure.parameter("Retry attempt", attempt, true, Parameter.Mode.DEFAULT);
+        }
+    }
+    
+    /**
+     * Attach network interception savings for current driver, if interception is active
+     */
+    private void attachNetworkReport() {
+        if (!DriverFactory.hasDriver()) {
+            return;
+        }
+        String report = NetworkInterceptionManager.getReport(DriverFactory.getDriver());
+        if (report != null) {
+            attachNetworkSavings(report);
+            logger.info("Network interception summary:\n{}", report);
+        }
+    }
+    
+    /**
+     * Attach performance timeline record, HAR and browser process profile of current test, if captured
+     */
+    private void attachPerformanceRecord() {
+        WebDriver driver = DriverFactory.hasDriver() ? DriverFactory.getDriver() : null;
+        try {
+            String record = PerformanceCollector.finishTest(driver);
+            if (record != null) {
+                attachJson("Performance Record", record);
+            }
+            String har = HarRecorder.drain(driver);
+            if (har != null) {
+                attachJson("Network HAR", har);
+            }
+            String processProfile = BrowserProcessProfiler.drain(driver);
+            if (processProfile != null) {
+                attachJson("Browser Processes", processProfile);
+            }
+        } catch (Exception e) {
+            logger.error("Failed to attach performance record", e);
+        }
+    }
+    
+    /**
+     * Attach network interception savings to Allure report
+     * @param report Savings report text
+     * @return Savings report attachment
+     */
+    @Attachment(value = "Network Savings", type = "text/plain")
+    public String attachNetworkSavings(String report) {
+        return report;
+    }
+    
+    /**
+     * Attach JSON document to Allure report
+     * @param name Attachment name
+     * @param json JSON content
+     */
+    private void attachJson(String name, String json) {
+        Allure.addAttachment(name, "application/json", json, ".json");
+    }
+    
     /**
      * Get test execution time in milliseconds
      * @param result Test result object
@@ -0,0 +1,448 @@
+package com.framework.utils;
+
+import com.framework.exceptions.FrameworkException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Record/replay archive of browser traffic built on the DevTools fetch domain
+ * This demonstrates:
+ * 1. Proxy Pattern - Requests of the browser are answered from a local archive instead of the network
+ * 2. Repository Pattern - Responses persisted in an index plus a content-addressed body store
+ *
+ * In record mode (traffic.archive.mode=record) every response is paused after the server answered,
+ * its body stored once under bodies/ab/abcdef....gz (SHA-256 of the body, gzip-compressed) and
+ * the response metadata written to index.jsonl.gz on suite end, replacing the previous index. Shards of a
+ * sharded recording each write their own index (traffic.archive.index.path), which ShardedSuiteRunner merges
+ * into the archive index after the run; the body store is shared. In replay mode every request is
+ * answered from the archive without touching the network. Requests are matched by method, url and
+ * request body; repeated requests get the recorded responses in recorded order, the last one repeating.
+ * traffic.replay.latency.factor delays replayed responses relative to the recorded server latency
+ * (0 = serve at disk speed, 1 = recorded timing).
+ *
+ * Chrome/Edge only. Replaces stubbed hosts of NetworkInterceptionManager while active.
+ */
+public class TrafficArchive {
+
+    private static final Logger logger = LogManager.getLogger(TrafficArchive.class);
+    private static final Function<JsonInput, Map<String, Object>> MAP_MAPPER = input -> input.read(Map.class);
+    private static final Set<String> DROPPED_HEADERS = Set.of("content-encoding", "content-length", "transfer-encoding");
+
+    private static final Map<String, List<Map<String, Object>>> entriesByKey = new ConcurrentHashMap<>();
+    private static final Map<WebDriver, Map<String, AtomicInteger>> replayCursors = new ConcurrentHashMap<>();
+    private static final AtomicLong served = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong recorded = new AtomicLong();
+    private static final Object loadLock = new Object();
+    private static volatile boolean loaded;
+    private static ScheduledExecutorService delayExecutor;
+
+    /**
+     * Private constructor to prevent instantiation (Utility class pattern)
+     */
+    private TrafficArchive() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Check if traffic is recorded to or replayed from the archive
+     * @return true in record or replay mode
+     */
+    public static boolean isActive() {
+        String mode = ConfigReader.getTrafficArchiveMode();
+        return "record".equals(mode) || "replay".equals(mode);
+    }
+
+    /**
+     * Start recording or replaying traffic of the driver according to traffic.archive.mode
+     * @param driver WebDriver instance
+     */
+    public static void attach(WebDriver driver) {
+        if (!isActive()) {
+            return;
+        }
+        if (!(driver instanceof ChromiumDriver)) {
+            logger.warn("Traffic archive is only supported for Chromium browsers, skipping for: {}",
+                driver.getClass().getSimpleName());
+            return;
+        }
+
+        boolean replay = "replay".equals(ConfigReader.getTrafficArchiveMode());
+        try {
+            DevTools devTools = ((ChromiumDriver) driver).getDevTools();
+            // Target this session's tab, so context mode tests never record or replay each other's traffic
+            devTools.createSessionIfThereIsNotOne(driver.getWindowHandle());
+            if (replay) {
+                load();
+                Map<String, AtomicInteger> cursors = new ConcurrentHashMap<>();
+                replayCursors.put(driver, cursors);
+                devTools.addListener(new Event<>("Fetch.requestPaused", MAP_MAPPER),
+                    params -> replay(devTools, cursors, params));
+                devTools.send(new Command<>("Fetch.enable",
+                    Map.of("patterns", List.of(Map.of("urlPattern", "*", "requestStage", "Request")))));
+            } else {
+                Map<String, Long> requestStarts = new ConcurrentHashMap<>();
+                devTools.addListener(new Event<>("Network.requestWillBeSent", MAP_MAPPER),
+                    params -> requestStarts.put(String.valueOf(params.get("requestId")), System.nanoTime()));
+                devTools.addListener(new Event<>("Fetch.requestPaused", MAP_MAPPER),
+                    params -> record(devTools, requestStarts, params));
+                devTools.send(new Command<>("Network.enable", Map.of()));
+                devTools.send(new Command<>("Fetch.enable",
+                    Map.of("patterns", List.of(Map.of("urlPattern", "*", "requestStage", "Response")))));
+            }
+            logger.info("Traffic archive attached in {} mode: {}", replay ? "replay" : "record", archivePath());
+        } catch (Exception e) {
+            logger.error("Failed to attach traffic archive, continuing with live traffic", e);
+        }
+    }
+
+    /**
+     * Release replay state kept for the driver
+     * @param driver WebDriver instance
+     */
+    public static void release(WebDriver driver) {
+        if (driver != null) {
+            replayCursors.remove(driver);
+        }
+    }
+
+    /**
+     * Write the index of a recording and report archive usage
+     * Called once on suite end
+     */
+    public static void save() {
+        if (!isActive()) {
+            return;
+        }
+        synchronized (TrafficArchive.class) {
+            if (delayExecutor != null) {
+                delayExecutor.shutdownNow();
+                delayExecutor = null;
+            }
+        }
+        if ("replay".equals(ConfigReader.getTrafficArchiveMode())) {
+            logger.info("Traffic archive replay: {} responses served, {} requests not in archive", served.get(), misses.get());
+            return;
+        }
+        if (recorded.get() == 0) {
+            return;
+        }
+
+        Json json = new Json();
+        List<String> lines = new ArrayList<>();
+        for (List<Map<String, Object>> responses : entriesByKey.values()) {
+            for (Map<String, Object> entry : responses) {
+                lines.add(json.toJson(entry).replace('\n', ' '));
+            }
+        }
+        Path index = indexPath();
+        writeIndex(index, lines);
+        logger.info("Traffic archive recorded {} responses for {} distinct requests into {}", lines.size(), entriesByKey.size(), index);
+    }
+
+    /**
+     * Merge the indexes recorded by the shards of a sharded run into the archive index
+     * Replaces the previous archive index if any shard recorded responses
+     * @param shardIndexes Index files of the shards, missing files are skipped
+     */
+    public static void mergeIndexes(List<Path> shardIndexes) {
+        List<String> lines = new ArrayList<>();
+        for (Path shardIndex : shardIndexes) {
+            if (Files.exists(shardIndex)) {
+                lines.addAll(readIndex(shardIndex));
+            }
+        }
+        if (lines.isEmpty()) {
+            return;
+        }
+        Path index = indexPath();
+        writeIndex(index, lines);
+        logger.info("Merged traffic archive indexes of {} shards ({} responses) into {}", shardIndexes.size(), lines.size(), index);
+    }
+
+    /**
+     * Store a paused response and let it continue to the page
+     */
+    private static void record(DevTools devTools, Map<String, Long> requestStarts, Map<String, Object> params) {
+        String requestId = String.valueOf(params.get("requestId"));
+        Map<?, ?> request = (Map<?, ?>) params.get("request");
+        try {
+            Long started = requestStarts.remove(String.valueOf(params.get("networkId")));
+            long latencyMillis = started != null ? TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) : 0;
+            int status = params.get("responseStatusCode") instanceof Number
+                ? ((Number) params.get("responseStatusCode")).intValue() : 0;
+
+            byte[] body = new byte[0];
+            if (status < 300 || status >= 400) {
+                Map<String, Object> response = devTools.send(new Command<>("Fetch.getResponseBody",
+                    Map.of("requestId", requestId), MAP_MAPPER));
+                String encoded = String.valueOf(response.get("body"));
+                body = Boolean.TRUE.equals(response.get("base64Encoded"))
+                    ? Base64.getDecoder().decode(encoded)
+                    : encoded.getBytes(StandardCharsets.UTF_8);
+            }
+
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("key", keyOf(request));
+            entry.put("url", request.get("url"));
+            entry.put("status", status);
+            entry.put("headers", filterHeaders(params.get("responseHeaders")));
+            entry.put("body", storeBody(body));
+            entry.put("latencyMs", latencyMillis);
+            entriesByKey.computeIfAbsent(String.valueOf(entry.get("key")), key -> new CopyOnWriteArrayList<>()).add(entry);
+            recorded.incrementAndGet();
+        } catch (Exception e) {
+            logger.debug("Failed to record response of {}: {}", request.get("url"), e.getMessage());
+        } finally {
+            try {
+                devTools.send(new Command<>("Fetch.continueResponse", Map.of("requestId", requestId)));
+            } catch (Exception e) {
+                logger.debug("Failed to continue recorded response {}: {}", request.get("url"), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Answer a paused request from the archive, delayed by the scaled recorded latency
+     */
+    private static void replay(DevTools devTools, Map<String, AtomicInteger> cursors, Map<String, Object> params) {
+        String requestId = String.valueOf(params.get("requestId"));
+        Map<?, ?> request = (Map<?, ?>) params.get("request");
+        String key = keyOf(request);
+        List<Map<String, Object>> responses = entriesByKey.get(key);
+
+        if (responses == null || responses.isEmpty()) {
+            misses.incrementAndGet();
+            logger.debug("Not in traffic archive: {}", key);
+            try {
+                if (ConfigReader.isTrafficReplayPassthrough()) {
+                    devTools.send(new Command<>("Fetch.continueRequest", Map.of("requestId", requestId)));
+                } else {
+                    devTools.send(new Command<>("Fetch.fulfillRequest", Map.of(
+                        "requestId", requestId,
+                        "responseCode", 404,
+                        "responseHeaders", List.of(Map.of("name", "Content-Type", "value", "text/plain")),
+                        "body", Base64.getEncoder().encodeToString("Not in traffic archive".getBytes(StandardCharsets.UTF_8)))));
+                }
+            } catch (Exception e) {
+                logger.debug("Failed to answer archive miss {}: {}", key, e.getMessage());
+            }
+            return;
+        }
+
+        int position = cursors.computeIfAbsent(key, k -> new AtomicInteger()).getAndIncrement();
+        Map<String, Object> entry = responses.get(Math.min(position, responses.size() - 1));
+        Runnable fulfill = () -> {
+            try {
+                devTools.send(new Command<>("Fetch.fulfillRequest", Map.of(
+                    "requestId", requestId,
+                    "responseCode", ((Number) entry.get("status")).intValue(),
+                    "responseHeaders", entry.get("headers"),
+                    "body", Base64.getEncoder().encodeToString(readBody(String.valueOf(entry.get("body")))))));
+                served.incrementAndGet();
+            } catch (Exception e) {
+                logger.debug("Failed to replay {}: {}", key, e.getMessage());
+            }
+        };
+
+        long delayMillis = Math.round(((Number) entry.get("latencyMs")).longValue() * ConfigReader.getTrafficReplayLatencyFactor());
+        if (delayMillis > 0) {
+            // Delay off the DevTools event thread so other requests are not held back
+            delayExecutor().schedule(fulfill, delayMillis, TimeUnit.MILLISECONDS);
+        } else {
+            fulfill.run();
+        }
+    }
+
+    /**
+     * Build the lookup key of a request: method, url and a digest of the request body
+     */
+    private static String keyOf(Map<?, ?> request) {
+        String key = request.get("method") + " " + request.get("url");
+        Object postData = request.get("postData");
+        return postData != null ? key + " " + sha256(String.valueOf(postData).getBytes(StandardCharsets.UTF_8)).substring(0, 16) : key;
+    }
+
+    /**
+     * Drop headers describing the wire encoding, bodies are stored decoded
+     */
+    private static List<Map<String, String>> filterHeaders(Object headers) {
+        List<Map<String, String>> filtered = new ArrayList<>();
+        if (headers instanceof List) {
+            for (Object header : (List<?>) headers) {
+                Map<?, ?> pair = (Map<?, ?>) header;
+                String name = String.valueOf(pair.get("name"));
+                if (!DROPPED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                    filtered.add(Map.of("name", name, "value", String.valueOf(pair.get("value"))));
+                }
+            }
+        }
+        return filtered;
+    }
+
+    /**
+     * Store a body once under its SHA-256
+     * @return Content hash of the body
+     */
+    private static String storeBody(byte[] body) throws IOException {
+        String hash = sha256(body);
+        Path file = bodyPath(hash);
+        if (Files.exists(file)) {
+            return hash;
+        }
+        Files.createDirectories(file.getParent());
+        Path temp = Files.createTempFile(file.getParent(), hash, ".tmp");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+            out.write(body);
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // Stored concurrently by another session, content is identical
+            Files.deleteIfExists(temp);
+        }
+        return hash;
+    }
+
+    private static byte[] readBody(String hash) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(Files.newInputStream(bodyPath(hash)))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static Path bodyPath(String hash) {
+        return archivePath().resolve("bodies").resolve(hash.substring(0, 2)).resolve(hash + ".gz");
+    }
+
+    private static Path archivePath() {
+        return Paths.get(ConfigReader.getTrafficArchivePath());
+    }
+
+    private static Path indexPath() {
+        return Paths.get(ConfigReader.getTrafficArchiveIndexPath());
+    }
+
+    /**
+     * Write index lines through a temporary file, replacing the index atomically
+     */
+    private static void writeIndex(Path index, List<String> lines) {
+        Path temp = index.resolveSibling(index.getFileName() + ".tmp");
+        try {
+            if (index.getParent() != null) {
+                Files.createDirectories(index.getParent());
+            }
+            try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8)) {
+                for (String line : lines) {
+                    writer.write(line);
+                    writer.write('\n');
+                }
+            }
+            Files.move(temp, index, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new FrameworkException("Failed to write traffic archive index: " + index, e);
+        }
+    }
+
+    /**
+     * Read the non-blank lines of an index
+     */
+    private static List<String> readIndex(Path index) {
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(index)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    lines.add(line);
+                }
+            }
+        } catch (IOException e) {
+            throw new FrameworkException("Failed to read traffic archive index: " + index, e);
+        }
+        return lines;
+    }
+
+    /**
+     * Load the archive index once per JVM
+     */
+    private static void load() {
+        if (loaded) {
+            return;
+        }
+        synchronized (loadLock) {
+            if (loaded) {
+                return;
+            }
+            Path index = indexPath();
+            if (!Files.exists(index)) {
+                throw new FrameworkException("No traffic archive at " + index + ", record one with -Dtraffic.archive.mode=record");
+            }
+            Json json = new Json();
+            List<String> lines = readIndex(index);
+            for (String line : lines) {
+                Map<String, Object> entry = json.toType(line, Json.MAP_TYPE);
+                entriesByKey.computeIfAbsent(String.valueOf(entry.get("key")), key -> new CopyOnWriteArrayList<>()).add(entry);
+            }
+            loaded = true;
+            logger.info("Loaded traffic archive with {} responses for {} distinct requests", lines.size(), entriesByKey.size());
+        }
+    }
+
+    private static synchronized ScheduledExecutorService delayExecutor() {
+        if (delayExecutor == null) {
+            delayExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "traffic-replay-latency");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return delayExecutor;
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new FrameworkException("SHA-256 not available", e);
+        }
+    }
+}
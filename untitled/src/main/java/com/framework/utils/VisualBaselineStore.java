@@ -0,0 +1,133 @@
+package com.framework.utils;
+
+import com.framework.exceptions.FrameworkException;
+import io.qameta.allure.Allure;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.awt.Rectangle;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Baseline screenshots of visual checkpoints and their comparison with current screenshots
+ * This demonstrates:
+ * 1. Encapsulation - Baseline paths, caching and reporting hidden behind verify()
+ * 2. Caching - Baselines are decoded and tile-hashed once per run
+ *
+ * Baselines are PNG files in visual.baseline.dir/&lt;browser&gt;/&lt;checkpoint&gt;.png and belong in
+ * version control. A missing baseline is recorded from the current screenshot and the checkpoint
+ * passes; with visual.baseline.update=true every checkpoint overwrites its baseline. A checkpoint
+ * fails with an AssertionError (not retried) when the screenshot size differs or more than
+ * visual.max.diff.ratio of its pixels differ; baseline, actual and diff images are attached to Allure.
+ */
+public class VisualBaselineStore {
+
+    private static final Logger logger = LogManager.getLogger(VisualBaselineStore.class);
+    private static final Map<Path, ImageDiffEngine.Image> baselines = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation (Utility class pattern)
+     */
+    private VisualBaselineStore() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Compare a screenshot with the baseline of a checkpoint
+     * @param checkpoint Checkpoint name, may contain '/' to group checkpoints (e.g. LoginPage/empty-form)
+     * @param screenshot Current screenshot as PNG bytes
+     * @param ignoreRegions Regions excluded from the comparison, in screenshot pixels
+     * @return Comparison result, null if nothing was compared (disabled, new or updated baseline)
+     */
+    public static ImageDiffEngine.DiffResult verify(String checkpoint, byte[] screenshot, List<Rectangle> ignoreRegions) {
+        if (!ConfigReader.isVisualEnabled()) {
+            return null;
+        }
+        Path path = baselinePath(checkpoint);
+        if (ConfigReader.isVisualBaselineUpdate() || !Files.exists(path)) {
+            ImageDiffEngine.Image image = ImageDiffEngine.decode(screenshot);
+            save(path, screenshot);
+            baselines.put(path, image);
+            logger.warn("Recorded visual baseline for '{}' ({}x{}): {}", checkpoint, image.getWidth(), image.getHeight(), path);
+            Allure.addAttachment("Visual baseline recorded: " + checkpoint, "image/png", new ByteArrayInputStream(screenshot), ".png");
+            return null;
+        }
+
+        ImageDiffEngine.Image baseline = baselines.computeIfAbsent(path, VisualBaselineStore::load);
+        ImageDiffEngine.Image actual = ImageDiffEngine.decode(screenshot);
+        ImageDiffEngine.DiffResult result = ImageDiffEngine.compare(baseline, actual, ImageDiffEngine.Options.fromConfig(ignoreRegions));
+        logger.info("Visual checkpoint '{}': {} differing pixels ({}%) in {} tiles, compared in {} ms",
+            checkpoint, result.getDiffPixels(), String.format("%.3f", result.getDiffRatio() * 100),
+            result.getChangedTiles().size(), result.getCompareMillis());
+
+        if (result.isSizeMismatch() || result.getDiffRatio() > ConfigReader.getVisualMaxDiffRatio()) {
+            attach(checkpoint, path, screenshot, result);
+            String reason = result.isSizeMismatch()
+                ? String.format("size %dx%d differs from baseline %dx%d", actual.getWidth(), actual.getHeight(),
+                    baseline.getWidth(), baseline.getHeight())
+                : String.format("%.3f%% of pixels differ (max %.3f%%) in tiles %s", result.getDiffRatio() * 100,
+                    ConfigReader.getVisualMaxDiffRatio() * 100, describe(result.getChangedTiles()));
+            throw new AssertionError("Visual checkpoint '" + checkpoint + "' does not match baseline: " + reason);
+        }
+        return result;
+    }
+
+    /**
+     * Get path of the baseline of a checkpoint for the configured browser
+     * @param checkpoint Checkpoint name
+     * @return Baseline PNG path
+     */
+    public static Path baselinePath(String checkpoint) {
+        String name = checkpoint.replaceAll("[^A-Za-z0-9._/-]", "_").replaceAll("\\.\\.+", "_");
+        return Paths.get(ConfigReader.getVisualBaselineDir(), ConfigReader.getBrowser(), name + ".png");
+    }
+
+    private static ImageDiffEngine.Image load(Path path) {
+        try {
+            return ImageDiffEngine.decode(Files.readAllBytes(path));
+        } catch (IOException e) {
+            throw new FrameworkException("Failed to read visual baseline: " + path, e);
+        }
+    }
+
+    private static void save(Path path, byte[] screenshot) {
+        try {
+            Files.createDirectories(path.getParent());
+            Path temp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+            Files.write(temp, screenshot);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new FrameworkException("Failed to write visual baseline: " + path, e);
+        }
+    }
+
+    private static void attach(String checkpoint, Path path, byte[] screenshot, ImageDiffEngine.DiffResult result) {
+        try {
+            Allure.addAttachment("Visual baseline: " + checkpoint, "image/png",
+                new ByteArrayInputStream(Files.readAllBytes(path)), ".png");
+        } catch (IOException e) {
+            logger.warn("Could not attach visual baseline: {}", path, e);
+        }
+        Allure.addAttachment("Visual actual: " + checkpoint, "image/png", new ByteArrayInputStream(screenshot), ".png");
+        if (!result.isSizeMismatch()) {
+            Allure.addAttachment("Visual diff: " + checkpoint, "image/png", new ByteArrayInputStream(result.toDiffPng()), ".png");
+        }
+    }
+
+    private static String describe(List<Rectangle> tiles) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < Math.min(tiles.size(), 5); i++) {
+            Rectangle tile = tiles.get(i);
+            text.append(i > 0 ? ", " : "").append(String.format("[%d,%d %dx%d]", tile.x, tile.y, tile.width, tile.height));
+        }
+        return tiles.size() > 5 ? text + " and " + (tiles.size() - 5) + " more" : text.toString();
+    }
+}
@@ -1,6 +1,7 @@
 package com.framework.wrappers;
 
 import com.framework.utils.ConfigReader;
+import com.framework.utils.ImpactRecorder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.WebDriver;
@@ -39,6 +40,7 @@ public class Button {
         this.driver = driver;
         this.elementName = elementName != null ? elementName : "Button";
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(ConfigReader.getExplicitWait()));
+        ImpactRecorder.recordClass(getClass());
         logger.debug("Initialized {} wrapper", this.elementName);
     }
     
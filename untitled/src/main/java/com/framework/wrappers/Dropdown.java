@@ -1,8 +1,12 @@
 package com.framework.wrappers;
 
 import com.framework.utils.ConfigReader;
+import com.framework.utils.ImpactRecorder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.Select;
@@ -10,7 +14,9 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Dropdown wrapper class demonstrating Element Wrapper pattern in POM
@@ -21,6 +27,11 @@ import java.util.List;
  * 2. Encapsulation - Dropdown specific operations encapsulated
  * 3. Single Responsibility - Only handles dropdown operations
  * 4. Reusability - Can be used across different page objects
+ *
+ * Option lookups use an index (text to position, value to position) kept on the &lt;select&gt;
+ * in the browser. It is built in one script call and marked dirty by a MutationObserver when
+ * options change, so selection by text or value, option checks and waiting for an option each
+ * cost a single script execution instead of one round-trip per option.
  */
 public class Dropdown {
     
@@ -30,6 +41,67 @@ public class Dropdown {
     private final WebDriverWait wait;
     private final String elementName;
     private final Select select;
+    private String optionsGeneration = "";
+    private List<String> optionTexts = List.of();
+    private List<String> optionValues = List.of();
+    
+    private static final String OPTION_INDEX_FUNCTION =
+        "var optionIndex = function(el) {" +
+        "  var index = el.__fwOptionIndex;" +
+        "  if (index && !index.dirty) { return index; }" +
+        "  if (!el.__fwOptionObserver) {" +
+        "    el.__fwOptionObserver = new MutationObserver(function() {" +
+        "      if (el.__fwOptionIndex) { el.__fwOptionIndex.dirty = true; }" +
+        "    });" +
+        "    el.__fwOptionObserver.observe(el, { childList: true, subtree: true, characterData: true," +
+        "      attributes: true, attributeFilter: ['value', 'label'] });" +
+        "  }" +
+        "  var texts = [], values = [], byText = Object.create(null), byValue = Object.create(null);" +
+        "  for (var i = 0; i < el.options.length; i++) {" +
+        "    var option = el.options[i];" +
+        "    texts.push(option.text);" +
+        "    values.push(option.value);" +
+        "    if (!(option.text in byText)) { byText[option.text] = i; }" +
+        "    if (!(option.value in byValue)) { byValue[option.value] = i; }" +
+        "  }" +
+        "  window.__fwOptionGeneration = (window.__fwOptionGeneration || 0) + 1;" +
+        "  index = el.__fwOptionIndex = { dirty: false, generation: performance.timeOrigin + '/' + window.__fwOptionGeneration," +
+        "    texts: texts, values: values, byText: byText, byValue: byValue };" +
+        "  return index;" +
+        "};";
+    
+    private static final String OPTIONS_SCRIPT = OPTION_INDEX_FUNCTION +
+        "var index = optionIndex(arguments[0]);" +
+        "return index.generation === arguments[1] ? { generation: index.generation }" +
+        "  : { generation: index.generation, texts: index.texts, values: index.values };";
+    
+    private static final String HAS_OPTION_SCRIPT = OPTION_INDEX_FUNCTION +
+        "var index = optionIndex(arguments[0]);" +
+        "return (arguments[1] === 'text' ? index.byText : index.byValue)[arguments[2]] !== undefined;";
+    
+    private static final String SELECT_SCRIPT = OPTION_INDEX_FUNCTION +
+        "var el = arguments[0];" +
+        "if (el.disabled || el.getClientRects().length === 0) { return 'not interactable'; }" +
+        "var position = (arguments[1] === 'text' ? optionIndex(el).byText : optionIndex(el).byValue)[arguments[2]];" +
+        "if (position === undefined) { return 'missing'; }" +
+        "var option = el.options[position];" +
+        "if (option.disabled) { return 'disabled'; }" +
+        "if (!option.selected) {" +
+        "  option.selected = true;" +
+        "  el.dispatchEvent(new Event('input', { bubbles: true }));" +
+        "  el.dispatchEvent(new Event('change', { bubbles: true }));" +
+        "}" +
+        "return 'selected';";
+    
+    private static final String WAIT_FOR_OPTION_SCRIPT = OPTION_INDEX_FUNCTION +
+        "var el = arguments[0], text = arguments[1], done = arguments[arguments.length - 1];" +
+        "if (optionIndex(el).byText[text] !== undefined) { done(true); return; }" +
+        "var timer;" +
+        "var observer = new MutationObserver(function() {" +
+        "  if (optionIndex(el).byText[text] !== undefined) { observer.disconnect(); clearTimeout(timer); done(true); }" +
+        "});" +
+        "observer.observe(el, { childList: true, subtree: true, characterData: true });" +
+        "timer = setTimeout(function() { observer.disconnect(); done(false); }, arguments[2]);";
     
     /**
      * Constructor
@@ -43,6 +115,7 @@ public class Dropdown {
         this.elementName = elementName != null ? elementName : "Dropdown";
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(ConfigReader.getExplicitWait()));
         this.select = new Select(element);
+        ImpactRecorder.recordClass(getClass());
         logger.debug("Initialized {} wrapper", this.elementName);
     }
     
@@ -61,8 +134,12 @@ public class Dropdown {
      */
     public void selectByText(String text) {
         try {
-            waitForClickable();
-            select.selectByVisibleText(text);
+            if (isMultiSelect()) {
+                waitForClickable();
+                select.selectByVisibleText(text);
+            } else {
+                selectIndexed("text", text);
+            }
             logger.info("{}: Selected option by text: '{}'", elementName, text);
         } catch (Exception e) {
             logger.error("{}: Failed to select option by text: '{}'", elementName, text, e);
@@ -76,8 +153,12 @@ public class Dropdown {
      */
     public void selectByValue(String value) {
         try {
-            waitForClickable();
-            select.selectByValue(value);
+            if (isMultiSelect()) {
+                waitForClickable();
+                select.selectByValue(value);
+            } else {
+                selectIndexed("value", value);
+            }
             logger.info("{}: Selected option by value: '{}'", elementName, value);
         } catch (Exception e) {
             logger.error("{}: Failed to select option by value: '{}'", elementName, value, e);
@@ -260,11 +341,10 @@ public class Dropdown {
      */
     public List<String> getAllOptionTexts() {
         try {
-            List<String> optionTexts = getAllOptions().stream()
-                .map(WebElement::getText)
-                .toList();
+            waitForVisible();
+            refreshOptions();
             logger.debug("{}: Retrieved {} option texts", elementName, optionTexts.size());
-            return optionTexts;
+            return new ArrayList<>(optionTexts);
         } catch (Exception e) {
             logger.error("{}: Failed to get all option texts", elementName, e);
             throw new RuntimeException("Failed to get all option texts from " + elementName, e);
@@ -277,11 +357,10 @@ public class Dropdown {
      */
     public List<String> getAllOptionValues() {
         try {
-            List<String> optionValues = getAllOptions().stream()
-                .map(option -> option.getAttribute("value"))
-                .toList();
+            waitForVisible();
+            refreshOptions();
             logger.debug("{}: Retrieved {} option values", elementName, optionValues.size());
-            return optionValues;
+            return new ArrayList<>(optionValues);
         } catch (Exception e) {
             logger.error("{}: Failed to get all option values", elementName, e);
             throw new RuntimeException("Failed to get all option values from " + elementName, e);
@@ -340,7 +419,7 @@ public class Dropdown {
      */
     public boolean hasOptionWithText(String optionText) {
         try {
-            return getAllOptionTexts().contains(optionText);
+            return hasIndexedOption("text", optionText);
         } catch (Exception e) {
             logger.debug("{}: Could not check for option with text '{}'", elementName, optionText);
             return false;
@@ -354,7 +433,7 @@ public class Dropdown {
      */
     public boolean hasOptionWithValue(String optionValue) {
         try {
-            return getAllOptionValues().contains(optionValue);
+            return hasIndexedOption("value", optionValue);
         } catch (Exception e) {
             logger.debug("{}: Could not check for option with value '{}'", elementName, optionValue);
             return false;
@@ -367,7 +446,9 @@ public class Dropdown {
      */
     public int getOptionsCount() {
         try {
-            int count = getAllOptions().size();
+            waitForVisible();
+            refreshOptions();
+            int count = optionTexts.size();
             logger.debug("{}: Options count: {}", elementName, count);
             return count;
         } catch (Exception e) {
@@ -408,7 +489,9 @@ public class Dropdown {
      */
     public void waitForOptionToBeAvailable(String optionText) {
         try {
-            wait.until(driver -> hasOptionWithText(optionText));
+            if (!awaitIndexedOption(optionText)) {
+                throw new NoSuchElementException("No option with text '" + optionText + "' appeared");
+            }
             logger.debug("{}: Option '{}' is available", elementName, optionText);
         } catch (Exception e) {
             logger.error("{}: Option '{}' is not available within timeout", elementName, optionText, e);
@@ -416,6 +499,89 @@ public class Dropdown {
         }
     }
     
+    /**
+     * Select the option found through the browser-side option index
+     * @param by text or value
+     * @param key Option text or value
+     */
+    private void selectIndexed(String by, String key) {
+        String outcome = (String) executeScript(SELECT_SCRIPT, element, by, key);
+        if ("not interactable".equals(outcome)) {
+            // Not yet enabled or rendered, wait like the Select based methods and try once more
+            waitForClickable();
+            outcome = (String) executeScript(SELECT_SCRIPT, element, by, key);
+        }
+        if ("missing".equals(outcome)) {
+            throw new NoSuchElementException("Cannot locate option with " + by + ": " + key);
+        }
+        if ("not interactable".equals(outcome)) {
+            throw new ElementNotInteractableException(elementName + " is not interactable, cannot select option with "
+                + by + " '" + key + "'");
+        }
+        if (!"selected".equals(outcome)) {
+            // A disabled option, rejected like Select does
+            throw new UnsupportedOperationException("Cannot select option with " + by + " '" + key + "': " + outcome);
+        }
+    }
+    
+    /**
+     * Check an option through the browser-side option index
+     * @param by text or value
+     * @param key Option text or value
+     * @return true if the option exists
+     */
+    private boolean hasIndexedOption(String by, String key) {
+        return Boolean.TRUE.equals(executeScript(HAS_OPTION_SCRIPT, element, by, key));
+    }
+    
+    /**
+     * Refresh cached option texts and values, transferring them only if the options changed
+     * The generation identifies one build of the browser-side index (unique per document)
+     */
+    @SuppressWarnings("unchecked")
+    private void refreshOptions() {
+        Map<String, Object> result = (Map<String, Object>) executeScript(OPTIONS_SCRIPT, element, optionsGeneration);
+        if (result.containsKey("texts")) {
+            optionTexts = List.copyOf(toStrings(result.get("texts")));
+            optionValues = List.copyOf(toStrings(result.get("values")));
+            optionsGeneration = String.valueOf(result.get("generation"));
+            logger.debug("{}: Option index rebuilt with {} options", elementName, optionTexts.size());
+        }
+    }
+    
+    /**
+     * Wait for an option in the browser, in slices that fit into the script timeout
+     * @param optionText Text of the option to wait for
+     * @return true if the option appeared within the explicit wait
+     */
+    private boolean awaitIndexedOption(String optionText) {
+        long deadline = System.currentTimeMillis() + Duration.ofSeconds(ConfigReader.getExplicitWait()).toMillis();
+        long slice = Math.max(1000, driver.manage().timeouts().getScriptTimeout().toMillis() - 1000);
+        while (true) {
+            long remaining = deadline - System.currentTimeMillis();
+            long timeout = Math.max(0, Math.min(remaining, slice));
+            Object found = ((JavascriptExecutor) driver).executeAsyncScript(WAIT_FOR_OPTION_SCRIPT, element, optionText, timeout);
+            if (Boolean.TRUE.equals(found)) {
+                return true;
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                return false;
+            }
+        }
+    }
+    
+    private Object executeScript(String script, Object... args) {
+        return ((JavascriptExecutor) driver).executeScript(script, args);
+    }
+    
+    private static List<String> toStrings(Object value) {
+        List<String> strings = new ArrayList<>();
+        if (value instanceof List) {
+            ((List<?>) value).forEach(item -> strings.add(item != null ? String.valueOf(item) : ""));
+        }
+        return strings;
+    }
+    
     /**
      * Get the underlying WebElement
      * @return WebElement
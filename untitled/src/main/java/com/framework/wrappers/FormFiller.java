@@ -0,0 +1,294 @@
+package com.framework.wrappers;
+
+import com.framework.utils.ConfigReader;
+import com.framework.utils.ImpactRecorder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Form filler setting many text fields in a single script execution
+ * This demonstrates:
+ * 1. Builder Pattern - Fields collected fluently, applied once by fill()
+ * 2. Wrapper Pattern - Works with TextBox wrappers, WebElements and locators alike
+ *
+ * Fields are set through the native value setter of the element followed by bubbling
+ * input and change events, so framework bound forms (React, Vue, Angular) see the new value.
+ * All script fields of a form cost one round-trip instead of wait, clear and sendKeys per field.
+ * Fields registered with typed(...) use real keystrokes instead; script fields that are not
+ * found, not interactable or whose value is rejected by the page fall back to keystrokes too.
+ * Set form.fill.keystrokes=true to type every field.
+ *
+ * <pre>
+ * FormFiller.on(driver)
+ *     .set(usernameTextBox, username)
+ *     .set(By.id("email"), email)
+ *     .typed(passwordTextBox, password)
+ *     .fill();
+ * </pre>
+ */
+public class FormFiller {
+
+    private static final Logger logger = LogManager.getLogger(FormFiller.class);
+
+    private static final String FILL_SCRIPT =
+        "var fields = arguments[0];" +
+        "var find = function(f) {" +
+        "  if (f.element) { return f.element; }" +
+        "  if (f.css) { return document.querySelector(f.css); }" +
+        "  return document.evaluate(f.xpath, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;" +
+        "};" +
+        "var setterOf = function(el) {" +
+        "  var proto = el instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype" +
+        "    : el instanceof HTMLSelectElement ? HTMLSelectElement.prototype : HTMLInputElement.prototype;" +
+        "  var descriptor = Object.getOwnPropertyDescriptor(proto, 'value');" +
+        "  return descriptor && descriptor.set;" +
+        "};" +
+        "return fields.map(function(f) {" +
+        "  var el = find(f);" +
+        "  if (!el) { return 'missing'; }" +
+        "  var rect = el.getBoundingClientRect();" +
+        "  if (el.disabled || el.readOnly || (rect.width === 0 && rect.height === 0)" +
+        "      || getComputedStyle(el).visibility === 'hidden') { return 'not-interactable'; }" +
+        "  var setter = setterOf(el);" +
+        "  if (!setter) { return 'not-interactable'; }" +
+        "  el.focus();" +
+        "  setter.call(el, f.value);" +
+        "  el.dispatchEvent(new Event('input', { bubbles: true }));" +
+        "  el.dispatchEvent(new Event('change', { bubbles: true }));" +
+        "  el.blur();" +
+        "  return el.value === f.value ? 'ok' : 'rejected';" +
+        "});";
+
+    private final WebDriver driver;
+    private final WebDriverWait wait;
+    private final List<Field> fields = new ArrayList<>();
+
+    /**
+     * Constructor
+     * @param driver WebDriver instance
+     */
+    public FormFiller(WebDriver driver) {
+        this.driver = driver;
+        this.wait = new WebDriverWait(driver, Duration.ofSeconds(ConfigReader.getExplicitWait()));
+        ImpactRecorder.recordClass(getClass());
+    }
+
+    /**
+     * Start filling a form
+     * @param driver WebDriver instance
+     * @return New FormFiller
+     */
+    public static FormFiller on(WebDriver driver) {
+        return new FormFiller(driver);
+    }
+
+    /**
+     * Set a TextBox through the fill script
+     * @param textBox TextBox wrapper
+     * @param value Value to set
+     * @return FormFiller instance for method chaining
+     */
+    public FormFiller set(TextBox textBox, String value) {
+        return add(new Field(textBox.getElementName(), textBox.getElement(), null, value, false));
+    }
+
+    /**
+     * Set a WebElement through the fill script
+     * @param element Input or textarea element
+     * @param value Value to set
+     * @return FormFiller instance for method chaining
+     */
+    public FormFiller set(WebElement element, String value) {
+        return add(new Field(element.toString(), element, null, value, false));
+    }
+
+    /**
+     * Set the element found by a locator through the fill script
+     * @param locator Locator of the input or textarea element
+     * @param value Value to set
+     * @return FormFiller instance for method chaining
+     */
+    public FormFiller set(By locator, String value) {
+        return add(new Field(locator.toString(), null, locator, value, false));
+    }
+
+    /**
+     * Set all fields of a map through the fill script
+     * @param values TextBox, WebElement or By keys mapped to values, applied in map order
+     * @return FormFiller instance for method chaining
+     */
+    public FormFiller setAll(Map<?, String> values) {
+        values.forEach((target, value) -> {
+            if (target instanceof TextBox) {
+                set((TextBox) target, value);
+            } else if (target instanceof WebElement) {
+                set((WebElement) target, value);
+            } else if (target instanceof By) {
+                set((By) target, value);
+            } else {
+                throw new IllegalArgumentException("Unsupported form field: " + target);
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Type into a TextBox with real keystrokes (for fields reacting to key events)
+     * @param textBox TextBox wrapper
+     * @param value Value to type
+     * @return FormFiller instance for method chaining
+     */
+    public FormFiller typed(TextBox textBox, String value) {
+        return add(new Field(textBox.getElementName(), textBox.getElement(), null, value, true));
+    }
+
+    /**
+     * Type into the element found by a locator with real keystrokes
+     * @param locator Locator of the input or textarea element
+     * @param value Value to type
+     * @return FormFiller instance for method chaining
+     */
+    public FormFiller typed(By locator, String value) {
+        return add(new Field(locator.toString(), null, locator, value, true));
+    }
+
+    /**
+     * Fill all collected fields
+     * Script fields are set first in one execution, keystroke fields are typed afterwards in order
+     */
+    public void fill() {
+        List<Field> scripted = new ArrayList<>();
+        List<Field> keystrokes = new ArrayList<>();
+        boolean typeAll = ConfigReader.isFormFillKeystrokes();
+        for (Field field : fields) {
+            if (field.keystrokes || typeAll) {
+                keystrokes.add(field);
+            } else {
+                scripted.add(field);
+            }
+        }
+
+        if (!scripted.isEmpty()) {
+            List<Object> outcomes = runFillScript(scripted);
+            for (int i = 0; i < scripted.size(); i++) {
+                Object outcome = outcomes.get(i);
+                if ("ok".equals(outcome)) {
+                    logger.info("{}: Set value by script", scripted.get(i).name);
+                } else {
+                    logger.info("{}: Script fill {}, falling back to keystrokes", scripted.get(i).name, outcome);
+                    keystrokes.add(scripted.get(i));
+                }
+            }
+        }
+
+        for (Field field : keystrokes) {
+            type(field);
+        }
+        fields.clear();
+    }
+
+    private FormFiller add(Field field) {
+        fields.add(field);
+        return this;
+    }
+
+    /**
+     * Set script fields in one script execution
+     * @param scripted Fields to set
+     * @return Outcome per field: ok, missing, not-interactable, rejected or script-error
+     */
+    @SuppressWarnings("unchecked")
+    private List<Object> runFillScript(List<Field> scripted) {
+        try {
+            List<Map<String, Object>> arguments = new ArrayList<>();
+            for (Field field : scripted) {
+                Map<String, Object> argument = new LinkedHashMap<>();
+                argument.put("value", field.value);
+                String lookup = scriptLookup(field.locator);
+                if (field.element != null) {
+                    argument.put("element", field.element);
+                } else if (lookup != null) {
+                    argument.put(lookup, String.valueOf(((By.Remotable) field.locator).getRemoteParameters().value()));
+                } else {
+                    argument.put("element", driver.findElement(field.locator));
+                }
+                arguments.add(argument);
+            }
+            return (List<Object>) ((JavascriptExecutor) driver).executeScript(FILL_SCRIPT, arguments);
+        } catch (Exception e) {
+            logger.warn("Form fill script failed, typing {} fields instead: {}", scripted.size(), e.getMessage());
+            List<Object> outcomes = new ArrayList<>();
+            scripted.forEach(field -> outcomes.add("script-error"));
+            return outcomes;
+        }
+    }
+
+    /**
+     * Map the W3C strategy of a locator to the lookup done by the fill script
+     * @param locator Locator or null
+     * @return css, xpath, or null if the element is found by the driver
+     */
+    private static String scriptLookup(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            return null;
+        }
+        switch (((By.Remotable) locator).getRemoteParameters().using()) {
+            case "css selector":
+                return "css";
+            case "xpath":
+                return "xpath";
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Type a field with real keystrokes after waiting for it to be visible
+     * @param field Field to type
+     */
+    private void type(Field field) {
+        try {
+            WebElement element = field.element != null
+                ? wait.until(ExpectedConditions.visibilityOf(field.element))
+                : wait.until(ExpectedConditions.visibilityOfElementLocated(field.locator));
+            element.clear();
+            element.sendKeys(field.value);
+            logger.info("{}: Typed value", field.name);
+        } catch (Exception e) {
+            logger.error("{}: Failed to fill field", field.name, e);
+            throw new RuntimeException("Failed to fill form field " + field.name, e);
+        }
+    }
+
+    /**
+     * One form field and how it is filled
+     */
+    private static class Field {
+
+        private final String name;
+        private final WebElement element;
+        private final By locator;
+        private final String value;
+        private final boolean keystrokes;
+
+        private Field(String name, WebElement element, By locator, String value, boolean keystrokes) {
+            this.name = name;
+            this.element = element;
+            this.locator = locator;
+            this.value = value != null ? value : "";
+            this.keystrokes = keystrokes;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+(function () {
+    var showPassword = document.getElementById('show-password');
+    if (showPassword) {
+        showPassword.addEventListener('click', function () {
+            var password = document.getElementById('password');
+            password.type = password.type === 'password' ? 'text' : 'password';
+        });
+    }
+
+    var clearSearch = document.getElementById('clear-search');
+    if (clearSearch) {
+        clearSearch.addEventListener('click', function () {
+            document.getElementById('search-query').value = '';
+        });
+    }
+
+    document.querySelectorAll('.filter-button').forEach(function (button) {
+        button.addEventListener('click', function () {
+            button.classList.toggle('active');
+        });
+    });
+
+    // Infinite scroll: append the next result page when the list is scrolled near its end
+    var results = document.querySelector('.search-results');
+    var loading = false;
+    if (results) {
+        results.addEventListener('scroll', function () {
+            var nextPage = results.getAttribute('data-next-page');
+            if (loading || !nextPage || results.scrollTop + results.clientHeight < results.scrollHeight - 100) {
+                return;
+            }
+            loading = true;
+            fetch('/search/results?q=' + encodeURIComponent(results.getAttribute('data-query')) + '&page=' + nextPage)
+                .then(function (response) {
+                    results.setAttribute('data-next-page', response.headers.get('X-Next-Page') || '');
+                    return response.text();
+                })
+                .then(function (html) {
+                    results.insertAdjacentHTML('beforeend', html);
+                })
+                .finally(function () {
+                    loading = false;
+                });
+        });
+    }
+})();
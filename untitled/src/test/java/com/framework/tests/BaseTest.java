@@ -1,26 +1,45 @@
 package com.framework.tests;
 
+import com.framework.base.ActionBatch;
+import com.framework.exceptions.BrowserHangException;
 import com.framework.utils.ConfigReader;
 import com.framework.utils.DriverFactory;
+import com.framework.utils.DriverWatchdog;
+import com.framework.utils.FailureClassifier;
+import com.framework.utils.FixtureServer;
+import com.framework.utils.ImpactRecorder;
+import com.framework.utils.PerformanceCollector;
+import com.framework.utils.TestContext;
+import com.framework.utils.TestDurationStore;
 import com.framework.utils.TestListener;
 import io.qameta.allure.Step;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.WebDriver;
+import org.testng.IHookCallBack;
+import org.testng.IHookable;
+import org.testng.ITestResult;
 import org.testng.annotations.*;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
 /**
  * Base test class providing common setup and teardown functionality
  * This demonstrates:
  * 1. Inheritance - Other test classes will extend this class
  * 2. Template Method Pattern - Defining common test structure
  * 3. Encapsulation - Protected access to common test utilities
+ * 
+ * Driver, page objects and test data live in a per-invocation TestContext instead of instance fields,
+ * so methods of the same test instance can safely run in parallel (parallel="methods"). The context is
+ * attached to the ITestResult and bound again in teardown and around the test method, which TestNG runs
+ * on threads of their own when a time-out applies outside its worker threads.
  */
 @Listeners(TestListener.class)
-public abstract class BaseTest {
+public abstract class BaseTest implements IHookable {
     
     protected static final Logger logger = LogManager.getLogger(BaseTest.class);
-    protected WebDriver driver;
     
     /**
      * Suite level setup - runs once before all tests in the suite
@@ -29,26 +48,52 @@ public abstract class BaseTest {
     @Step("Suite Setup")
     public void suiteSetup() {
         logger.info("=== Starting Test Suite ===");
+        if (ConfigReader.isFixtureServerEnabled()) {
+            FixtureServer.start();
+        }
         logger.info("Test Environment: {}", ConfigReader.getEnvironment());
         logger.info("Base URL: {}", ConfigReader.getBaseUrl());
         logger.info("Browser: {}", ConfigReader.getBrowser());
         logger.info("Headless Mode: {}", ConfigReader.isHeadless());
         logger.info("Thread Count: {}", ConfigReader.getThreadCount());
+        logger.info("Driver Mode: {}", ConfigReader.getDriverMode());
         logger.info("=== Suite Setup Completed ===");
     }
     
     /**
      * Test level setup - runs before each test method
+     * @param method Test method about to run
+     * @param result Result of the test method about to run
      */
     @BeforeMethod(alwaysRun = true)
     @Step("Test Setup")
-    public void setUp() {
+    public void setUp(Method method, ITestResult result) {
         logger.info("Setting up test: {}", getTestMethodName());
         
+        // Fresh per-invocation context, adopting a browser session kept for this retry
+        TestContext context = TestContext.start(result);
+        
+        // Attribute page objects created from here on to the test method for impact analysis
+        ImpactRecorder.startTest(TestDurationStore.keyOf(getClass().getName(), method.getName()));
+        
         try {
-            // Create driver instance
-            driver = DriverFactory.createDriver(ConfigReader.getBrowser());
-            logger.info("WebDriver initialized successfully for test: {}", getTestMethodName());
+            // Create driver instance in the context
+            if (DriverFactory.hasDriver()) {
+                // Session kept alive by teardown of a failed attempt that is being retried
+                try {
+                    DriverFactory.getDriver().manage().deleteAllCookies();
+                    logger.info("Reusing browser session for retry of test: {}", getTestMethodName());
+                } catch (Exception e) {
+                    logger.warn("Kept browser session is unusable, recycling it: {}", e.getMessage());
+                    DriverFactory.quitDriver();
+                }
+            }
+            if (!DriverFactory.hasDriver()) {
+                DriverFactory.createDriver(ConfigReader.getBrowser());
+                logger.info("WebDriver initialized successfully for test: {}", getTestMethodName());
+            }
+            WebDriver driver = DriverFactory.getDriver();
+            context.setDriver(driver);
             
             // Navigate to base URL
             driver.get(ConfigReader.getBaseUrl());
@@ -62,31 +107,73 @@ public abstract class BaseTest {
     
     /**
      * Test level teardown - runs after each test method
+     * Keeps the browser session when the test is retried after a failure that left the session healthy
+     * @param result Result of the test method
      */
     @AfterMethod(alwaysRun = true)
     @Step("Test Teardown")
-    public void tearDown() {
+    public void tearDown(ITestResult result) {
         logger.info("Tearing down test: {}", getTestMethodName());
+        TestContext.bind(result);
         
         try {
             // Quit driver if it exists
-            if (driver != null) {
-                DriverFactory.quitDriver();
-                logger.info("WebDriver quit successfully for test: {}", getTestMethodName());
+            if (TestContext.isActive() && TestContext.current().getDriver() != null) {
+                if (result.wasRetried() && FailureClassifier.classify(result.getThrowable()).isSessionReusable()) {
+                    TestContext.current().keepDriverForRetry(result);
+                    logger.info("Keeping browser session for retry of test: {}", getTestMethodName());
+                } else {
+                    DriverFactory.quitDriver();
+                    logger.info("WebDriver quit successfully for test: {}", getTestMethodName());
+                }
             }
         } catch (Exception e) {
             logger.error("Error during test teardown for test: {}", getTestMethodName(), e);
+        } finally {
+            ActionBatch.discardPending();
+            ImpactRecorder.finishTest();
+            TestContext.end(result);
         }
         
         logger.info("Test teardown completed: {}", getTestMethodName());
     }
     
+    /**
+     * Run the test method with the context of its invocation bound to the executing thread,
+     * fail it with a BrowserHangException if the watchdog killed its session and enforce
+     * performance budgets of the page the test method ended on
+     * @param callBack Callback running the test method
+     * @param testResult Result of the test method
+     */
+    @Override
+    public void run(IHookCallBack callBack, ITestResult testResult) {
+        TestContext previous = TestContext.bind(testResult);
+        try {
+            callBack.runTestMethod(testResult);
+            // Blame a session killed by the watchdog while the retry analyzer can still see it
+            Throwable failure = testResult.getThrowable() instanceof InvocationTargetException
+                ? testResult.getThrowable().getCause() : testResult.getThrowable();
+            BrowserHangException hang = DriverWatchdog.hangFailure(failure);
+            if (hang != null) {
+                throw hang;
+            }
+            // Lifetime metrics of the last page are final only now, while a violation can still fail the test
+            if (DriverFactory.hasDriver()) {
+                PerformanceCollector.afterTestMethod(DriverFactory.getDriver(), testResult.getThrowable() == null);
+            }
+        } finally {
+            TestContext.restore(previous);
+        }
+    }
+    
     /**
      * Suite level teardown - runs once after all tests in the suite
      */
     @AfterSuite(alwaysRun = true)
     @Step("Suite Teardown")
     public void suiteTeardown() {
+        DriverFactory.shutdown();
+        FixtureServer.stop();
         logger.info("=== Test Suite Completed ===");
     }
     
@@ -125,6 +212,7 @@ public abstract class BaseTest {
      * @return WebDriver instance
      */
     protected WebDriver getDriver() {
+        WebDriver driver = TestContext.isActive() ? TestContext.current().getDriver() : null;
         if (driver == null) {
             logger.error("WebDriver instance is null");
             throw new RuntimeException("WebDriver instance is null. Test setup may have failed.");
@@ -132,6 +220,34 @@ public abstract class BaseTest {
         return driver;
     }
     
+    /**
+     * Get the per-invocation test context of the current test method
+     * @return TestContext instance
+     */
+    protected TestContext getTestContext() {
+        return TestContext.current();
+    }
+    
+    /**
+     * Get page object stored in the current test context
+     * @param pageClass Page object class
+     * @param <T> Page object type
+     * @return Page object
+     */
+    protected <T> T getPage(Class<T> pageClass) {
+        return getTestContext().getPage(pageClass);
+    }
+    
+    /**
+     * Store page object in the current test context
+     * @param page Page object
+     * @param <T> Page object type
+     * @return The stored page object for method chaining
+     */
+    protected <T> T setPage(T page) {
+        return getTestContext().setPage(page);
+    }
+    
     /**
      * Wait for a specified amount of time
      * This is a utility method for explicit waits in tests
@@ -5,6 +5,8 @@ import com.framework.components.HeaderComponent;
 import com.framework.components.NavigationComponent;
 import com.framework.pages.DashboardPage;
 import com.framework.pages.EnhancedLoginPage;
+import com.framework.utils.DataSource;
+import com.framework.utils.DataSources;
 import com.framework.utils.PageObjectUtils;
 import com.framework.wrappers.Button;
 import com.framework.wrappers.Dropdown;
@@ -15,7 +17,6 @@ import org.apache.logging.log4j.Logger;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
-import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.util.List;
@@ -28,13 +29,15 @@ import java.util.List;
  * 3. Advanced page object interactions
  * 4. Comprehensive POM validation
  * 5. All OOP principles in action (Inheritance, Encapsulation, Abstraction, Polymorphism)
+ * 
+ * These tests log in through the form on purpose: the form wrappers, language selection and deferred
+ * actions are what they verify, so they do not use LoginPage.loginWithCachedSession.
  */
 @Epic("Enhanced Page Object Model")
 @Feature("Advanced POM Patterns")
 public class EnhancedPOMTest extends BaseTest {
     
     private static final Logger logger = LogManager.getLogger(EnhancedPOMTest.class);
-    private EnhancedLoginPage enhancedLoginPage;
     
     /**
      * Class level setup for enhanced POM tests
@@ -55,7 +58,7 @@ public class EnhancedPOMTest extends BaseTest {
         logTestStep("Setting up enhanced login page for POM testing");
         
         // Initialize enhanced login page
-        enhancedLoginPage = new EnhancedLoginPage(getDriver());
+        EnhancedLoginPage enhancedLoginPage = setPage(new EnhancedLoginPage(getDriver()));
         enhancedLoginPage.navigateToLoginPage();
         
         // Verify page is loaded
@@ -65,16 +68,11 @@ public class EnhancedPOMTest extends BaseTest {
     }
     
     /**
-     * Test data provider for login credentials and languages
+     * Get enhanced login page of the current test invocation
+     * @return EnhancedLoginPage instance
      */
-    @DataProvider(name = "loginWithLanguageData")
-    public Object[][] getLoginWithLanguageData() {
-        return new Object[][]{
-            {"testuser@example.com", "testpassword123", "English", "Valid login with English"},
-            {"testuser@example.com", "testpassword123", "Spanish", "Valid login with Spanish"},
-            {"testuser@example.com", "testpassword123", "French", "Valid login with French"},
-            {"testuser@example.com", "testpassword123", "German", "Valid login with German"}
-        };
+    private EnhancedLoginPage enhancedLoginPage() {
+        return getPage(EnhancedLoginPage.class);
     }
     
     /**
@@ -88,18 +86,18 @@ public class EnhancedPOMTest extends BaseTest {
         logTestStep("Testing enhanced POM page initialization");
         
         // Verify page is loaded
-        Assert.assertTrue(enhancedLoginPage.isPageLoaded(), "Enhanced login page should be loaded");
+        Assert.assertTrue(enhancedLoginPage().isPageLoaded(), "Enhanced login page should be loaded");
         
         // Verify comprehensive validation
-        Assert.assertTrue(enhancedLoginPage.performComprehensiveValidation(), 
+        Assert.assertTrue(enhancedLoginPage().performComprehensiveValidation(), 
             "Comprehensive page validation should pass");
         
         // Verify form elements using enhanced wrappers
-        Assert.assertTrue(enhancedLoginPage.verifyLoginFormElements(), 
+        Assert.assertTrue(enhancedLoginPage().verifyLoginFormElements(), 
             "All login form elements should be present and functional");
         
         // Verify page object initialization using utility
-        Assert.assertTrue(PageObjectUtils.verifyPageObjectInitialization(enhancedLoginPage),
+        Assert.assertTrue(PageObjectUtils.verifyPageObjectInitialization(enhancedLoginPage()),
             "Page object should be properly initialized");
         
         logger.info("Enhanced POM page initialization test completed");
@@ -116,7 +114,7 @@ public class EnhancedPOMTest extends BaseTest {
         logTestStep("Testing element wrapper functionality");
         
         // Test TextBox wrapper
-        TextBox usernameBox = enhancedLoginPage.getUsernameTextBox();
+        TextBox usernameBox = enhancedLoginPage().getUsernameTextBox();
         Assert.assertTrue(usernameBox.isDisplayed(), "Username textbox should be displayed");
         Assert.assertTrue(usernameBox.isEnabled(), "Username textbox should be enabled");
         
@@ -128,7 +126,7 @@ public class EnhancedPOMTest extends BaseTest {
         Assert.assertTrue(usernameBox.getText().isEmpty(), "Username should be cleared");
         
         // Test Button wrapper
-        Button loginButton = enhancedLoginPage.getLoginButtonWrapper();
+        Button loginButton = enhancedLoginPage().getLoginButtonWrapper();
         Assert.assertTrue(loginButton.isDisplayed(), "Login button should be displayed");
         Assert.assertTrue(loginButton.isEnabled(), "Login button should be enabled");
         
@@ -137,7 +135,7 @@ public class EnhancedPOMTest extends BaseTest {
         
         // Test Dropdown wrapper (if available)
         try {
-            Dropdown languageDropdown = enhancedLoginPage.getLanguageDropdown();
+            Dropdown languageDropdown = enhancedLoginPage().getLanguageDropdown();
             if (languageDropdown.isDisplayed()) {
                 List<String> options = languageDropdown.getAllOptionTexts();
                 Assert.assertFalse(options.isEmpty(), "Language dropdown should have options");
@@ -164,7 +162,7 @@ public class EnhancedPOMTest extends BaseTest {
         
         // Test Header Component (if present)
         try {
-            HeaderComponent header = enhancedLoginPage.getHeaderComponent();
+            HeaderComponent header = enhancedLoginPage().getHeaderComponent();
             if (header.isComponentLoaded()) {
                 Assert.assertTrue(header.isComponentLoaded(), "Header component should be loaded");
                 
@@ -180,7 +178,7 @@ public class EnhancedPOMTest extends BaseTest {
         
         // Test Footer Component (if present)
         try {
-            FooterComponent footer = enhancedLoginPage.getFooterComponent();
+            FooterComponent footer = enhancedLoginPage().getFooterComponent();
             if (footer.isComponentLoaded()) {
                 Assert.assertTrue(footer.isComponentLoaded(), "Footer component should be loaded");
                 
@@ -211,7 +209,7 @@ public class EnhancedPOMTest extends BaseTest {
         logTestStep("Testing enhanced login functionality");
         
         // Perform enhanced login
-        DashboardPage dashboardPage = enhancedLoginPage
+        DashboardPage dashboardPage = enhancedLoginPage()
             .enterUsername("testuser@example.com")
             .enterPassword("testpassword123")
             .clickLoginButton();
@@ -226,7 +224,9 @@ public class EnhancedPOMTest extends BaseTest {
     /**
      * Test login with language selection using dropdown wrapper
      */
-    @Test(priority = 5, groups = {"regression", "enhanced-pom", "login"}, dataProvider = "loginWithLanguageData")
+    @Test(priority = 5, groups = {"regression", "enhanced-pom", "login"},
+          dataProvider = DataSources.PARALLEL, dataProviderClass = DataSources.class)
+    @DataSource(value = "testdata/login-languages.jsonl", columns = {"username", "password", "language", "description"})
     @Story("Multi-language Login")
     @Severity(SeverityLevel.NORMAL)
     @Description("Verify login with different language selections")
@@ -235,11 +235,11 @@ public class EnhancedPOMTest extends BaseTest {
         
         try {
             // Check if language dropdown is available
-            Dropdown languageDropdown = enhancedLoginPage.getLanguageDropdown();
+            Dropdown languageDropdown = enhancedLoginPage().getLanguageDropdown();
             if (languageDropdown.isDisplayed() && languageDropdown.hasOptionWithText(language)) {
                 
                 // Perform login with language selection
-                DashboardPage dashboardPage = enhancedLoginPage
+                DashboardPage dashboardPage = enhancedLoginPage()
                     .selectLanguage(language)
                     .enterUsername(username)
                     .enterPassword(password)
@@ -268,8 +268,8 @@ public class EnhancedPOMTest extends BaseTest {
     public void testAdvancedWrapperOperations() {
         logTestStep("Testing advanced wrapper operations");
         
-        TextBox usernameBox = enhancedLoginPage.getUsernameTextBox();
-        TextBox passwordBox = enhancedLoginPage.getPasswordTextBox();
+        TextBox usernameBox = enhancedLoginPage().getUsernameTextBox();
+        TextBox passwordBox = enhancedLoginPage().getPasswordTextBox();
         
         // Test focus operations
         usernameBox.focus();
@@ -295,11 +295,11 @@ public class EnhancedPOMTest extends BaseTest {
         Assert.assertTrue(passwordBox.getText().isEmpty(), "Password should be cleared");
         
         // Test Enter key submission
-        enhancedLoginPage.enterUsername("testuser@example.com");
-        enhancedLoginPage.enterPassword("testpassword123");
+        enhancedLoginPage().enterUsername("testuser@example.com");
+        enhancedLoginPage().enterPassword("testpassword123");
         
         try {
-            DashboardPage dashboardPage = enhancedLoginPage.submitFormUsingEnter();
+            DashboardPage dashboardPage = enhancedLoginPage().submitFormUsingEnter();
             Assert.assertTrue(dashboardPage.isPageLoaded(), "Form should submit using Enter key");
         } catch (Exception e) {
             logger.info("Enter key submission may not be supported on this page");
@@ -323,21 +323,21 @@ public class EnhancedPOMTest extends BaseTest {
             "Page should be loaded within timeout");
         
         // Test page object verification
-        Assert.assertTrue(PageObjectUtils.verifyPageObjectInitialization(enhancedLoginPage),
+        Assert.assertTrue(PageObjectUtils.verifyPageObjectInitialization(enhancedLoginPage()),
             "Page object should be properly initialized");
         
         // Test element text retrieval
-        String usernameText = PageObjectUtils.getElementTextSafely(enhancedLoginPage.getUsernameTextBox().getElement());
+        String usernameText = PageObjectUtils.getElementTextSafely(enhancedLoginPage().getUsernameTextBox().getElement());
         logger.info("Username field text (safe): '{}'", usernameText);
         
         // Test element attribute retrieval
         String usernameType = PageObjectUtils.getElementAttributeSafely(
-            enhancedLoginPage.getUsernameTextBox().getElement(), "type");
+            enhancedLoginPage().getUsernameTextBox().getElement(), "type");
         Assert.assertFalse(usernameType.isEmpty(), "Username field should have a type attribute");
         
         // Test element visibility in viewport
         boolean inViewport = PageObjectUtils.isElementInViewport(getDriver(), 
-            enhancedLoginPage.getLoginButtonWrapper().getElement());
+            enhancedLoginPage().getLoginButtonWrapper().getElement());
         Assert.assertTrue(inViewport, "Login button should be in viewport");
         
         logger.info("POM utilities test completed");
@@ -354,7 +354,7 @@ public class EnhancedPOMTest extends BaseTest {
         logTestStep("Testing fluent interface and method chaining");
         
         // Test method chaining in enhanced login page
-        DashboardPage dashboardPage = enhancedLoginPage
+        DashboardPage dashboardPage = enhancedLoginPage()
             .clearUsername()
             .clearPassword()
             .focusOnUsername()
@@ -370,6 +370,31 @@ public class EnhancedPOMTest extends BaseTest {
         logger.info("Fluent interface test completed");
     }
     
+    /**
+     * Test fluent interface with deferred actions flushed as one batch
+     */
+    @Test(priority = 8, groups = {"regression", "enhanced-pom", "fluent"})
+    @Story("Fluent Interface")
+    @Severity(SeverityLevel.MINOR)
+    @Description("Verify chained actions are queued and flushed at the login click")
+    public void testDeferredFluentInterface() {
+        logTestStep("Testing deferred fluent interface");
+    
+        // Clearing and typing are queued, the login click flushes them in one script
+        DashboardPage dashboardPage = enhancedLoginPage()
+            .deferActions()
+            .clearUsername()
+            .clearPassword()
+            .enterUsername("fluent@example.com")
+            .enterPassword("fluentpassword")
+            .clickLoginButton();
+    
+        Assert.assertTrue(dashboardPage.isPageLoaded(),
+            "Dashboard should be loaded after deferred fluent login operations");
+    
+        logger.info("Deferred fluent interface test completed");
+    }
+    
     /**
      * Test error handling in enhanced POM
      */
@@ -381,16 +406,16 @@ public class EnhancedPOMTest extends BaseTest {
         logTestStep("Testing error handling in enhanced POM");
         
         // Test with invalid credentials to trigger error handling
-        enhancedLoginPage
+        enhancedLoginPage()
             .enterUsername("invalid@example.com")
             .enterPassword("wrongpassword")
             .clickLoginButton();
         
         // Verify error message handling
         try {
-            if (enhancedLoginPage.isDisplayed(
+            if (enhancedLoginPage().isDisplayed(
                 getDriver().findElement(org.openqa.selenium.By.className("error-message")))) {
-                String errorMessage = enhancedLoginPage.getErrorMessage();
+                String errorMessage = enhancedLoginPage().getErrorMessage();
                 Assert.assertFalse(errorMessage.isEmpty(), "Error message should be displayed for invalid login");
                 logger.info("Error message handled correctly: {}", errorMessage);
             }
@@ -399,7 +424,7 @@ public class EnhancedPOMTest extends BaseTest {
         }
         
         // Verify page remains stable after error
-        Assert.assertTrue(enhancedLoginPage.isPageLoaded(), 
+        Assert.assertTrue(enhancedLoginPage().isPageLoaded(), 
             "Page should remain stable after login error");
         
         logger.info("Error handling test completed");
@@ -416,30 +441,30 @@ public class EnhancedPOMTest extends BaseTest {
         logTestStep("Testing comprehensive POM patterns demonstration");
         
         // Demonstrate Inheritance (EnhancedLoginPage extends BasePage)
-        Assert.assertTrue(enhancedLoginPage instanceof com.framework.base.BasePage, 
+        Assert.assertTrue(enhancedLoginPage() instanceof com.framework.base.BasePage, 
             "EnhancedLoginPage should inherit from BasePage");
         
         // Demonstrate Encapsulation (private fields, public methods)
-        Assert.assertTrue(enhancedLoginPage.verifyLoginFormElements(),
+        Assert.assertTrue(enhancedLoginPage().verifyLoginFormElements(),
             "Encapsulated form validation should work");
         
         // Demonstrate Abstraction (using interfaces and abstract methods)
-        Assert.assertTrue(enhancedLoginPage.isPageLoaded(),
+        Assert.assertTrue(enhancedLoginPage().isPageLoaded(),
             "Abstract method implementation should work");
         
         // Demonstrate Polymorphism (method overriding and interface implementation)
-        byte[] screenshot = enhancedLoginPage.takeScreenshot();
+        byte[] screenshot = enhancedLoginPage().takeScreenshot();
         Assert.assertTrue(screenshot.length > 0, "Polymorphic screenshot method should work");
         
         // Demonstrate Component Pattern
-        HeaderComponent header = enhancedLoginPage.getHeaderComponent();
-        FooterComponent footer = enhancedLoginPage.getFooterComponent();
+        HeaderComponent header = enhancedLoginPage().getHeaderComponent();
+        FooterComponent footer = enhancedLoginPage().getFooterComponent();
         Assert.assertNotNull(header, "Header component should be initialized");
         Assert.assertNotNull(footer, "Footer component should be initialized");
         
         // Demonstrate Wrapper Pattern
-        TextBox usernameBox = enhancedLoginPage.getUsernameTextBox();
-        Button loginButton = enhancedLoginPage.getLoginButtonWrapper();
+        TextBox usernameBox = enhancedLoginPage().getUsernameTextBox();
+        Button loginButton = enhancedLoginPage().getLoginButtonWrapper();
         Assert.assertTrue(usernameBox.isDisplayed(), "TextBox wrapper should work");
         Assert.assertTrue(loginButton.isDisplayed(), "Button wrapper should work");
         
@@ -447,9 +472,9 @@ public class EnhancedPOMTest extends BaseTest {
         Assert.assertNotNull(getDriver(), "Driver factory should provide WebDriver instance");
         
         // Demonstrate all patterns working together
-        DashboardPage dashboardPage = enhancedLoginPage
+        DashboardPage dashboardPage = enhancedLoginPage()
             .performComprehensiveValidation() // Validation method
-            ? enhancedLoginPage
+            ? enhancedLoginPage()
                 .enterUsername("comprehensive@example.com")
                 .enterPassword("comprehensivetest")
                 .clickLoginButton()
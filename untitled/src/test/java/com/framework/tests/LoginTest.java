@@ -2,12 +2,13 @@ package com.framework.tests;
 
 import com.framework.pages.DashboardPage;
 import com.framework.pages.LoginPage;
+import com.framework.utils.DataSource;
+import com.framework.utils.DataSources;
 import io.qameta.allure.*;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
-import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 /**
@@ -15,7 +16,7 @@ import org.testng.annotations.Test;
  * This demonstrates:
  * 1. Inheritance - Extends BaseTest
  * 2. Test organization using TestNG annotations
- * 3. Data-driven testing using DataProvider
+ * 3. Data-driven testing using file-backed DataSources
  * 4. Allure reporting annotations
  */
 @Epic("Authentication")
@@ -23,7 +24,6 @@ import org.testng.annotations.Test;
 public class LoginTest extends BaseTest {
     
     private static final Logger logger = LogManager.getLogger(LoginTest.class);
-    private LoginPage loginPage;
     
     /**
      * Class level setup for login tests
@@ -35,22 +35,6 @@ public class LoginTest extends BaseTest {
         logger.info("Login Test class setup completed");
     }
     
-    /**
-     * Test data provider for login credentials
-     * @return Object array containing test data
-     */
-    @DataProvider(name = "loginCredentials")
-    public Object[][] getLoginCredentials() {
-        return new Object[][]{
-            {"validUser", "validPassword", true, "Valid credentials should allow login"},
-            {"invalidUser", "validPassword", false, "Invalid username should prevent login"},
-            {"validUser", "invalidPassword", false, "Invalid password should prevent login"},
-            {"", "validPassword", false, "Empty username should prevent login"},
-            {"validUser", "", false, "Empty password should prevent login"},
-            {"", "", false, "Empty credentials should prevent login"}
-        };
-    }
-    
     /**
      * Test successful login with valid credentials
      */
@@ -62,7 +46,7 @@ public class LoginTest extends BaseTest {
         logTestStep("Starting successful login test");
         
         // Initialize login page
-        loginPage = new LoginPage(getDriver());
+        LoginPage loginPage = new LoginPage(getDriver());
         
         // Verify login page is loaded
         Assert.assertTrue(loginPage.isPageLoaded(), "Login page should be loaded");
@@ -90,7 +74,7 @@ public class LoginTest extends BaseTest {
         logTestStep("Starting invalid login test");
         
         // Initialize login page
-        loginPage = new LoginPage(getDriver());
+        LoginPage loginPage = new LoginPage(getDriver());
         
         // Navigate to login page
         loginPage.navigateToLoginPage();
@@ -114,7 +98,9 @@ public class LoginTest extends BaseTest {
     /**
      * Data-driven test for multiple login scenarios
      */
-    @Test(priority = 3, groups = {"regression", "login"}, dataProvider = "loginCredentials")
+    @Test(priority = 3, groups = {"regression", "login"},
+          dataProvider = DataSources.PARALLEL, dataProviderClass = DataSources.class)
+    @DataSource("testdata/login-credentials.csv")
     @Story("Multiple Login Scenarios")
     @Severity(SeverityLevel.NORMAL)
     @Description("Verify login behavior with various credential combinations")
@@ -122,7 +108,7 @@ public class LoginTest extends BaseTest {
         logTestStep("Testing login scenario: " + description);
         
         // Initialize login page
-        loginPage = new LoginPage(getDriver());
+        LoginPage loginPage = new LoginPage(getDriver());
         loginPage.navigateToLoginPage();
         
         // Verify login page elements
@@ -165,7 +151,7 @@ public class LoginTest extends BaseTest {
         logTestStep("Testing login page elements visibility");
         
         // Initialize login page
-        loginPage = new LoginPage(getDriver());
+        LoginPage loginPage = new LoginPage(getDriver());
         loginPage.navigateToLoginPage();
         
         // Verify page title
@@ -196,7 +182,7 @@ public class LoginTest extends BaseTest {
         logTestStep("Testing remember me functionality");
         
         // Initialize login page
-        loginPage = new LoginPage(getDriver());
+        LoginPage loginPage = new LoginPage(getDriver());
         loginPage.navigateToLoginPage();
         
         // Click remember me checkbox
@@ -232,7 +218,7 @@ public class LoginTest extends BaseTest {
         logTestStep("Testing forgot password link");
         
         // Initialize login page
-        loginPage = new LoginPage(getDriver());
+        LoginPage loginPage = new LoginPage(getDriver());
         loginPage.navigateToLoginPage();
         
         // Click forgot password link
@@ -256,7 +242,7 @@ public class LoginTest extends BaseTest {
         logTestStep("Testing sign up link");
         
         // Initialize login page
-        loginPage = new LoginPage(getDriver());
+        LoginPage loginPage = new LoginPage(getDriver());
         loginPage.navigateToLoginPage();
         
         // Click sign up link
@@ -280,7 +266,7 @@ public class LoginTest extends BaseTest {
         logTestStep("Testing input field clear functionality");
         
         // Initialize login page
-        loginPage = new LoginPage(getDriver());
+        LoginPage loginPage = new LoginPage(getDriver());
         loginPage.navigateToLoginPage();
         
         // Enter text in fields
@@ -0,0 +1,143 @@
+package com.framework.utils;
+
+import com.framework.exceptions.FrameworkException;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.testng.Assert;
+import org.testng.ITestContext;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlTest;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Unit tests of the streaming CSV and JSON Lines data providers
+ * Rows are read from src/test/resources/testdata/unit into the fixture methods below
+ */
+@Epic("Framework")
+@Feature("Data-Driven Testing")
+public class DataSourcesTest {
+
+    @Test(groups = "unit", description = "CSV rows skip header, comments and blank lines and honour quoting")
+    public void testCsvRows() throws NoSuchMethodException {
+        List<Object[]> rows = readAll(DataSources.sequential(method("csv"), null));
+
+        Assert.assertEquals(rows.size(), 4);
+        Assert.assertEquals(rows.get(0), new Object[] {"plain", 1, 9.99, true});
+        Assert.assertEquals(rows.get(1), new Object[] {"quoted, with comma", 2, 19.5, false});
+        Assert.assertEquals(rows.get(2), new Object[] {"she said \"hi\"", 3, 0.0, true});
+        Assert.assertEquals(rows.get(3), new Object[] {"", 4, 1.25, false});
+    }
+
+    @Test(groups = "unit", description = "JSON Lines rows are read from arrays by position and from objects by column")
+    public void testJsonLinesRows() throws NoSuchMethodException {
+        List<Object[]> rows = readAll(DataSources.parallel(method("jsonLines"), null));
+
+        Assert.assertEquals(rows.size(), 3);
+        Assert.assertEquals(rows.get(0), new Object[] {"array", 1, 9.99, true});
+        Assert.assertEquals(rows.get(1), new Object[] {"object", 2, 19.5, false});
+        // Missing keys become null, or zero/false for primitive parameters
+        Assert.assertEquals(rows.get(2), new Object[] {"missing values", 0, 0.0, false});
+    }
+
+    @Test(groups = "unit", description = "Rows are split across shards by index modulo shard count")
+    public void testShardedRows() throws NoSuchMethodException {
+        List<Object[]> first = readAll(DataSources.sequential(method("csv"), context("0", "2")));
+        List<Object[]> second = readAll(DataSources.sequential(method("csv"), context("1", "2")));
+
+        Assert.assertEquals(names(first), List.of("plain", "she said \"hi\""));
+        Assert.assertEquals(names(second), List.of("quoted, with comma", ""));
+    }
+
+    @Test(groups = "unit", description = "Rows are read lazily and the iterator ends with NoSuchElementException")
+    public void testIteratorContract() throws NoSuchMethodException {
+        Iterator<Object[]> rows = DataSources.sequential(method("csv"), null);
+
+        Assert.assertTrue(rows.hasNext());
+        Assert.assertTrue(rows.hasNext(), "hasNext must not consume a row");
+        Assert.assertEquals(rows.next()[0], "plain");
+        readAll(rows);
+        Assert.assertFalse(rows.hasNext());
+        Assert.assertThrows(NoSuchElementException.class, rows::next);
+    }
+
+    @Test(groups = "unit", description = "Invalid data sources fail with a FrameworkException naming the problem")
+    public void testInvalidSources() throws NoSuchMethodException {
+        assertFails("unannotated", "has no @DataSource annotation");
+        assertFails("missingFile", "not found on classpath");
+        assertFails("unsupportedFormat", "Unsupported data source format");
+        assertFails("objectsWithoutColumns", "need @DataSource(columns = ...)");
+        assertFails("shortRow", "line 2 has 2 values, test method expects 4");
+    }
+
+    private static void assertFails(String methodName, String message) throws NoSuchMethodException {
+        Method method = method(methodName);
+        FrameworkException exception = Assert.expectThrows(FrameworkException.class,
+            () -> readAll(DataSources.sequential(method, null)));
+        Assert.assertTrue(exception.getMessage().contains(message),
+            methodName + " failed with: " + exception.getMessage());
+    }
+
+    private static Method method(String name) throws NoSuchMethodException {
+        return Orders.class.getMethod(name, String.class, int.class, double.class, boolean.class);
+    }
+
+    private static List<Object[]> readAll(Iterator<Object[]> iterator) {
+        List<Object[]> rows = new ArrayList<>();
+        iterator.forEachRemaining(rows::add);
+        return rows;
+    }
+
+    private static List<Object> names(List<Object[]> rows) {
+        List<Object> names = new ArrayList<>();
+        rows.forEach(row -> names.add(row[0]));
+        return names;
+    }
+
+    private static ITestContext context(String shardIndex, String shardCount) {
+        XmlTest test = new XmlTest();
+        test.setParameters(Map.of("data.shard.index", shardIndex, "data.shard.count", shardCount));
+        return (ITestContext) Proxy.newProxyInstance(ITestContext.class.getClassLoader(),
+            new Class<?>[] {ITestContext.class},
+            (proxy, invoked, args) -> "getCurrentXmlTest".equals(invoked.getName()) ? test : null);
+    }
+
+    /**
+     * Fixture methods declaring the data sources under test
+     */
+    public static class Orders {
+
+        @DataSource("testdata/unit/rows.csv")
+        public void csv(String name, int quantity, double price, boolean express) {
+        }
+
+        @DataSource(value = "testdata/unit/rows.jsonl", columns = {"name", "quantity", "price", "express"})
+        public void jsonLines(String name, int quantity, double price, boolean express) {
+        }
+
+        public void unannotated(String name, int quantity, double price, boolean express) {
+        }
+
+        @DataSource("testdata/unit/missing.csv")
+        public void missingFile(String name, int quantity, double price, boolean express) {
+        }
+
+        @DataSource("testdata/unit/rows.txt")
+        public void unsupportedFormat(String name, int quantity, double price, boolean express) {
+        }
+
+        @DataSource("testdata/unit/rows.jsonl")
+        public void objectsWithoutColumns(String name, int quantity, double price, boolean express) {
+        }
+
+        @DataSource("testdata/unit/short-row.csv")
+        public void shortRow(String name, int quantity, double price, boolean express) {
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.framework.utils;
+
+import com.framework.exceptions.BrowserHangException;
+import com.framework.exceptions.FrameworkException;
+import com.framework.utils.FailureClassifier.FailureType;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.testng.internal.thread.ThreadTimeoutException;
+
+/**
+ * Unit tests of failure classification for retries and browser session reuse
+ */
+@Epic("Framework")
+@Feature("Retry Policy")
+public class FailureClassifierTest {
+
+    @Test(groups = "unit", description = "Stale elements and timeouts are transient and keep the session")
+    public void testTransientFailures() {
+        assertType(new StaleElementReferenceException("stale element reference"), FailureType.STALE_ELEMENT);
+        assertType(new TimeoutException("Expected condition failed"), FailureType.TIMEOUT);
+        Assert.assertTrue(FailureType.STALE_ELEMENT.isTransient() && FailureType.STALE_ELEMENT.isSessionReusable());
+        Assert.assertTrue(FailureType.TIMEOUT.isTransient() && FailureType.TIMEOUT.isSessionReusable());
+    }
+
+    @Test(groups = "unit", description = "TestNG time-outs are transient but the session is recycled")
+    public void testTestTimeout() {
+        assertType(new ThreadTimeoutException("Method didn't finish within the time-out 1000"), FailureType.TEST_TIMEOUT);
+        assertType(new ThreadTimeoutException(new TimeoutException("Expected condition failed")), FailureType.TEST_TIMEOUT);
+        assertType(new FrameworkException("Step failed", new ThreadTimeoutException("time-out")), FailureType.TEST_TIMEOUT);
+        Assert.assertTrue(FailureType.TEST_TIMEOUT.isTransient());
+        Assert.assertFalse(FailureType.TEST_TIMEOUT.isSessionReusable());
+    }
+
+    @Test(groups = "unit", description = "Dead sessions are transient but must be recycled")
+    public void testDriverCrash() {
+        assertType(new NoSuchSessionException("Session ID is null"), FailureType.DRIVER_CRASH);
+        assertType(new UnreachableBrowserException("Error communicating with the remote browser"), FailureType.DRIVER_CRASH);
+        assertType(new BrowserHangException("Browser did not answer within 30 s"), FailureType.DRIVER_CRASH);
+        assertType(new WebDriverException("unknown error: Chrome not reachable"), FailureType.DRIVER_CRASH);
+        assertType(new WebDriverException("unknown error: session deleted because of page crash\nfrom tab crashed"),
+            FailureType.DRIVER_CRASH);
+        Assert.assertTrue(FailureType.DRIVER_CRASH.isTransient());
+        Assert.assertFalse(FailureType.DRIVER_CRASH.isSessionReusable());
+    }
+
+    @Test(groups = "unit", description = "Assertions, missing elements and unknown errors are not retried")
+    public void testNonTransientFailures() {
+        assertType(null, FailureType.NON_TRANSIENT);
+        assertType(new AssertionError("expected [true] but found [false]"), FailureType.NON_TRANSIENT);
+        assertType(new NoSuchElementException("no such element: #login-button"), FailureType.NON_TRANSIENT);
+        assertType(new WebDriverException("element click intercepted"), FailureType.NON_TRANSIENT);
+        assertType(new IllegalStateException("test data missing"), FailureType.NON_TRANSIENT);
+        Assert.assertFalse(FailureType.NON_TRANSIENT.isTransient());
+    }
+
+    @Test(groups = "unit", description = "Wrapped exceptions are classified by the whole cause chain")
+    public void testCauseChain() {
+        assertType(new FrameworkException("Click failed", new StaleElementReferenceException("stale")), FailureType.STALE_ELEMENT);
+        assertType(new TimeoutException("wait", new StaleElementReferenceException("stale")), FailureType.STALE_ELEMENT);
+        assertType(new FrameworkException("Wait failed", new TimeoutException("wait", new NoSuchSessionException("gone"))),
+            FailureType.DRIVER_CRASH);
+        assertType(new AssertionError("Dashboard should be loaded", new TimeoutException("wait")), FailureType.NON_TRANSIENT);
+    }
+
+    @Test(groups = "unit", description = "Cyclic cause chains terminate")
+    public void testCyclicCauseChain() {
+        Exception first = new Exception("first");
+        Exception second = new Exception("second", first);
+        first.initCause(second);
+        assertType(first, FailureType.NON_TRANSIENT);
+    }
+
+    private static void assertType(Throwable throwable, FailureType expected) {
+        Assert.assertEquals(FailureClassifier.classify(throwable), expected, "Classification of " + throwable);
+    }
+}
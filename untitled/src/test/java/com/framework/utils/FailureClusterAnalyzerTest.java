@@ -0,0 +1,171 @@
+package com.framework.utils;
+
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.json.Json;
+import org.testng.Assert;
+import org.testng.IClass;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unit tests of failure signature normalization and clustering
+ * Cluster reports are written to a temporary file set through failure.clusters.path
+ */
+@Epic("Framework")
+@Feature("Failure Triage")
+public class FailureClusterAnalyzerTest {
+
+    private Path directory;
+
+    @BeforeMethod(alwaysRun = true)
+    public void useTemporaryReport() throws IOException {
+        directory = Files.createTempDirectory("clusters");
+        System.setProperty("failure.clusters.path", directory.resolve("failure-clusters.json").toString());
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void restoreReport() {
+        System.clearProperty("failure.clusters.path");
+    }
+
+    @Test(groups = "unit", description = "Numbers, ids and session info are masked in the first message line")
+    public void testNormalize() {
+        Assert.assertEquals(FailureClusterAnalyzer.normalize(
+                "Expected condition failed: waiting for visibility of element (tried for 10 second(s) with 500 milliseconds interval)"),
+            "Expected condition failed: waiting for visibility of element (tried for <n> second(s) with <n> milliseconds interval)");
+        Assert.assertEquals(FailureClusterAnalyzer.normalize(
+                "invalid session id: 7f3a9c2e1b4d5a6f8e9d0c1b2a3f4e5d (Session info: chrome=126.0.6478.126)"),
+            "invalid session id: <id>");
+        Assert.assertEquals(FailureClusterAnalyzer.normalize("Order 3fa85f64-5717-4562-b3fc-2c963f66afa6 not found"),
+            "Order <id> not found");
+        Assert.assertEquals(FailureClusterAnalyzer.normalize("Price was 19.99 after 3 retries"), "Price was <n> after <n> retries");
+    }
+
+    @Test(groups = "unit", description = "Only the first line is kept, whitespace collapsed and long messages truncated")
+    public void testNormalizeShape() {
+        Assert.assertEquals(FailureClusterAnalyzer.normalize(null), "");
+        Assert.assertEquals(FailureClusterAnalyzer.normalize("  no such   element\nFor documentation on this error, please visit"),
+            "no such element");
+        String normalized = FailureClusterAnalyzer.normalize("x".repeat(400));
+        Assert.assertEquals(normalized, "x".repeat(300) + "...");
+        // Words containing digits are not masked, only whole numbers
+        Assert.assertEquals(FailureClusterAnalyzer.normalize("h2 element #item42 missing"), "h2 element #item42 missing");
+    }
+
+    @Test(groups = "unit", description = "Failures that differ only in run-specific details form one cluster")
+    @SuppressWarnings("unchecked")
+    public void testClustering() throws IOException {
+        FailureClusterAnalyzer.record(failed("testSearch", pageFailure(new TimeoutException("waited 10 seconds for results"))));
+        FailureClusterAnalyzer.record(failed("testFilter", pageFailure(new TimeoutException("waited 15 seconds for results"))));
+        FailureClusterAnalyzer.record(failed("testLogin", new AssertionError("expected [true] but found [false]")));
+        FailureClusterAnalyzer.record(failed("testSkipped", null));
+        FailureClusterAnalyzer.report("Unit");
+
+        Map<String, Object> document = read(directory.resolve("failure-clusters.json"));
+        Assert.assertEquals(((Number) document.get("failures")).longValue(), 3);
+        Assert.assertEquals(((Number) document.get("clusterCount")).longValue(), 2);
+
+        List<Map<String, Object>> clusters = (List<Map<String, Object>>) document.get("clusters");
+        Map<String, Object> largest = clusters.get(0);
+        Assert.assertEquals(((Number) largest.get("rank")).longValue(), 1);
+        Assert.assertEquals(((Number) largest.get("count")).longValue(), 2);
+        Assert.assertEquals(largest.get("exception"), "TimeoutException");
+        Assert.assertEquals(largest.get("message"), "waited <n> seconds for results");
+        Assert.assertEquals(largest.get("origin"), "SearchPage.searchFor");
+        Assert.assertEquals(largest.get("pageClass"), "SearchPage");
+        Assert.assertEquals(largest.get("tests"), List.of("FailureClusterAnalyzerTest.testSearch", "FailureClusterAnalyzerTest.testFilter"));
+        Assert.assertEquals(document.get("byPageClass"), Map.of("SearchPage", 2L));
+        Assert.assertEquals(clusters.get(1).get("exception"), "AssertionError");
+    }
+
+    @Test(groups = "unit", description = "Cluster files of several shards are merged by key; missing files are skipped")
+    @SuppressWarnings("unchecked")
+    public void testMergeReports() throws IOException {
+        Path first = directory.resolve("shard-0.json");
+        Path second = directory.resolve("shard-1.json");
+        Files.writeString(first, new Json().toJson(Map.of("clusters", List.of(
+            cluster("a", 1, "Shop.testA"), cluster("b", 1, "Shop.testB")))), StandardCharsets.UTF_8);
+        Files.writeString(second, new Json().toJson(Map.of("clusters", List.of(
+            cluster("b", 2, "Cart.testC", "Cart.testD")))), StandardCharsets.UTF_8);
+        Path merged = directory.resolve("merged.json");
+
+        FailureClusterAnalyzer.mergeReports(List.of(first, directory.resolve("shard-2.json"), second), merged);
+
+        Map<String, Object> document = read(merged);
+        Assert.assertEquals(((Number) document.get("failures")).longValue(), 4);
+        List<Map<String, Object>> clusters = (List<Map<String, Object>>) document.get("clusters");
+        Assert.assertEquals(clusters.get(0).get("key"), "b");
+        Assert.assertEquals(((Number) clusters.get(0).get("count")).longValue(), 3);
+        Assert.assertEquals(clusters.get(0).get("tests"), List.of("Shop.testB", "Cart.testC", "Cart.testD"));
+        Assert.assertEquals(clusters.get(1).get("key"), "a");
+        Assert.assertEquals(document.get("byLocator"), Map.of("LoginPage.usernameField", 4L));
+    }
+
+    @Test(groups = "unit", description = "Merging only missing files writes no report")
+    public void testMergeNothing() throws IOException {
+        Path merged = directory.resolve("merged.json");
+        FailureClusterAnalyzer.mergeReports(List.of(directory.resolve("shard-0.json")), merged);
+        Assert.assertFalse(Files.exists(merged));
+    }
+
+    private static Throwable pageFailure(TimeoutException cause) {
+        NoSuchElementException wrapper = new NoSuchElementException("no such element", cause);
+        StackTraceElement[] frames = {
+            new StackTraceElement("org.openqa.selenium.support.ui.WebDriverWait", "until", "WebDriverWait.java", 90),
+            new StackTraceElement("com.framework.utils.WaitUtils", "waitForVisible", "WaitUtils.java", 40),
+            new StackTraceElement("com.framework.pages.SearchPage", "searchFor_aroundBody0", "SearchPage.java", 71),
+            new StackTraceElement("com.framework.tests.SearchTest", "testSearch", "SearchTest.java", 30)};
+        cause.setStackTrace(frames);
+        wrapper.setStackTrace(frames);
+        return wrapper;
+    }
+
+    private static Map<String, Object> cluster(String key, long count, String... tests) {
+        return Map.of("key", key, "count", count, "tests", List.of(tests),
+            "locator", "LoginPage.usernameField", "pageClass", "");
+    }
+
+    private static Map<String, Object> read(Path path) throws IOException {
+        return new Json().toType(Files.readString(path, StandardCharsets.UTF_8), Json.MAP_TYPE);
+    }
+
+    private static ITestResult failed(String methodName, Throwable throwable) {
+        IClass testClass = proxy(IClass.class, "getRealClass", FailureClusterAnalyzerTest.class);
+        ITestNGMethod method = proxy(ITestNGMethod.class, "getMethodName", methodName);
+        return (ITestResult) Proxy.newProxyInstance(FailureClusterAnalyzerTest.class.getClassLoader(), new Class<?>[] {ITestResult.class},
+            (proxy, called, args) -> {
+                switch (called.getName()) {
+                    case "getThrowable":
+                        return throwable;
+                    case "getTestClass":
+                        return testClass;
+                    case "getMethod":
+                        return method;
+                    case "getParameters":
+                        return new Object[0];
+                    default:
+                        return null;
+                }
+            });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, String methodName, Object value) {
+        return (T) Proxy.newProxyInstance(FailureClusterAnalyzerTest.class.getClassLoader(), new Class<?>[] {type},
+            (proxy, called, args) -> methodName.equals(called.getName()) ? value : null);
+    }
+}
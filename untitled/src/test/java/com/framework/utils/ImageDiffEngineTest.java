@@ -0,0 +1,172 @@
+package com.framework.utils;
+
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Unit tests of decoding and tiled comparison in ImageDiffEngine
+ * No browser needed, images are drawn in memory and encoded as PNG
+ */
+@Epic("Framework")
+@Feature("Visual Regression")
+public class ImageDiffEngineTest {
+
+    private static final int WIDTH = 200;
+    private static final int HEIGHT = 100;
+
+    @Test(groups = "unit", description = "RGB and RGBA PNGs decode to the same ARGB pixels")
+    public void testDecodeRgbAndRgba() throws IOException {
+        for (int type : new int[] {BufferedImage.TYPE_INT_RGB, BufferedImage.TYPE_INT_ARGB,
+                BufferedImage.TYPE_3BYTE_BGR, BufferedImage.TYPE_4BYTE_ABGR}) {
+            BufferedImage source = page(type);
+            ImageDiffEngine.Image image = ImageDiffEngine.decode(png(source));
+
+            Assert.assertEquals(image.getWidth(), WIDTH, "Width of image type " + type);
+            Assert.assertEquals(image.getHeight(), HEIGHT, "Height of image type " + type);
+            ImageDiffEngine.DiffResult result = ImageDiffEngine.compare(image, ImageDiffEngine.decode(png(page(BufferedImage.TYPE_INT_ARGB))), exact(List.of()));
+            Assert.assertEquals(result.getDiffPixels(), 0, "Pixels of image type " + type + " should decode like ARGB");
+        }
+    }
+
+    @Test(groups = "unit", description = "Translucent pixels keep their alpha channel")
+    public void testDecodeKeepsAlpha() throws IOException {
+        BufferedImage source = new BufferedImage(4, 4, BufferedImage.TYPE_4BYTE_ABGR);
+        source.setRGB(1, 2, 0x80123456);
+        BufferedImage opaque = new BufferedImage(4, 4, BufferedImage.TYPE_4BYTE_ABGR);
+        opaque.setRGB(1, 2, 0xff123456);
+
+        ImageDiffEngine.DiffResult result = ImageDiffEngine.compare(ImageDiffEngine.decode(png(opaque)),
+            ImageDiffEngine.decode(png(source)), exact(List.of()));
+        Assert.assertEquals(result.getDiffPixels(), 1, "Only the alpha channel of one pixel differs");
+    }
+
+    @Test(groups = "unit", description = "Changed pixels are counted and located by tile")
+    public void testCompareFindsChangedTiles() throws IOException {
+        BufferedImage changed = page(BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = changed.createGraphics();
+        graphics.setColor(Color.RED);
+        graphics.fillRect(70, 10, 10, 10);
+        graphics.dispose();
+
+        ImageDiffEngine.DiffResult result = ImageDiffEngine.compare(
+            ImageDiffEngine.decode(png(page(BufferedImage.TYPE_INT_RGB))), ImageDiffEngine.decode(png(changed)), exact(List.of()));
+
+        Assert.assertEquals(result.getDiffPixels(), 100);
+        Assert.assertEquals(result.getDiffRatio(), 100.0 / (WIDTH * HEIGHT), 1e-9);
+        Assert.assertEquals(result.getChangedTiles(), List.of(new Rectangle(64, 0, 64, 64)));
+        Assert.assertTrue(result.toDiffPng().length > 0, "Diff image should be rendered");
+    }
+
+    @Test(groups = "unit", description = "Identical images have no differences")
+    public void testCompareIdentical() throws IOException {
+        byte[] png = png(page(BufferedImage.TYPE_4BYTE_ABGR));
+        ImageDiffEngine.DiffResult result = ImageDiffEngine.compare(ImageDiffEngine.decode(png), ImageDiffEngine.decode(png),
+            new ImageDiffEngine.Options(16, 0, true, List.of()));
+
+        Assert.assertEquals(result.getDiffPixels(), 0);
+        Assert.assertTrue(result.getChangedTiles().isEmpty());
+    }
+
+    @Test(groups = "unit", description = "Color differences within the tolerance are ignored")
+    public void testColorTolerance() throws IOException {
+        BufferedImage baseline = solid(0xff808080);
+        BufferedImage shifted = solid(0xff868480);
+
+        ImageDiffEngine.Image expected = ImageDiffEngine.decode(png(baseline));
+        ImageDiffEngine.Image actual = ImageDiffEngine.decode(png(shifted));
+        Assert.assertEquals(ImageDiffEngine.compare(expected, actual, new ImageDiffEngine.Options(64, 6, false, List.of())).getDiffPixels(), 0);
+        Assert.assertEquals(ImageDiffEngine.compare(expected, actual, new ImageDiffEngine.Options(64, 5, false, List.of())).getDiffPixels(),
+            WIDTH * HEIGHT);
+    }
+
+    @Test(groups = "unit", description = "Pixels inside ignore regions are not compared")
+    public void testIgnoreRegions() throws IOException {
+        BufferedImage changed = page(BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = changed.createGraphics();
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, 100, 10);
+        graphics.dispose();
+        ImageDiffEngine.Image baseline = ImageDiffEngine.decode(png(page(BufferedImage.TYPE_INT_RGB)));
+        ImageDiffEngine.Image actual = ImageDiffEngine.decode(png(changed));
+
+        // Covers the change partly: tile 0 fully, tile 1 (64..127) from 64 to 79
+        ImageDiffEngine.DiffResult partly = ImageDiffEngine.compare(baseline, actual, exact(List.of(new Rectangle(0, 0, 80, 10))));
+        Assert.assertEquals(partly.getDiffPixels(), 20 * 10);
+        Assert.assertEquals(partly.getChangedTiles(), List.of(new Rectangle(64, 0, 64, 64)));
+
+        ImageDiffEngine.DiffResult fully = ImageDiffEngine.compare(baseline, actual, exact(List.of(new Rectangle(0, 0, 100, 10))));
+        Assert.assertEquals(fully.getDiffPixels(), 0);
+    }
+
+    @Test(groups = "unit", description = "Single pixel edge shifts between darker and brighter neighbors count as anti-aliasing")
+    public void testAntiAliasing() throws IOException {
+        BufferedImage baseline = solid(0xffffffff);
+        BufferedImage actual = solid(0xffffffff);
+        // Gradient edge: black | gray | white, the gray pixel shifts one step in the actual image
+        for (int y = 0; y < HEIGHT; y++) {
+            baseline.setRGB(10, y, 0xff000000);
+            baseline.setRGB(11, y, 0xff808080);
+            actual.setRGB(10, y, 0xff000000);
+            actual.setRGB(11, y, 0xff606060);
+        }
+        ImageDiffEngine.Image expected = ImageDiffEngine.decode(png(baseline));
+        ImageDiffEngine.Image current = ImageDiffEngine.decode(png(actual));
+
+        Assert.assertEquals(ImageDiffEngine.compare(expected, current, new ImageDiffEngine.Options(64, 0, true, List.of())).getDiffPixels(), 0);
+        Assert.assertEquals(ImageDiffEngine.compare(expected, current, new ImageDiffEngine.Options(64, 0, false, List.of())).getDiffPixels(),
+            HEIGHT);
+    }
+
+    @Test(groups = "unit", description = "Images of different size are reported as size mismatch")
+    public void testSizeMismatch() throws IOException {
+        ImageDiffEngine.DiffResult result = ImageDiffEngine.compare(ImageDiffEngine.decode(png(page(BufferedImage.TYPE_INT_RGB))),
+            ImageDiffEngine.decode(png(new BufferedImage(WIDTH, HEIGHT + 1, BufferedImage.TYPE_INT_RGB))), exact(List.of()));
+
+        Assert.assertTrue(result.isSizeMismatch());
+        Assert.assertEquals(result.getDiffRatio(), 1.0);
+    }
+
+    private static ImageDiffEngine.Options exact(List<Rectangle> ignoreRegions) {
+        return new ImageDiffEngine.Options(64, 0, false, ignoreRegions);
+    }
+
+    private static BufferedImage page(int type) {
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, type);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, WIDTH, HEIGHT);
+        graphics.setColor(new Color(0x1a, 0x73, 0xe8));
+        graphics.fillRect(10, 40, 120, 30);
+        graphics.setColor(Color.DARK_GRAY);
+        graphics.drawLine(0, 90, WIDTH, 90);
+        graphics.dispose();
+        return image;
+    }
+
+    private static BufferedImage solid(int argb) {
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                image.setRGB(x, y, argb);
+            }
+        }
+        return image;
+    }
+
+    private static byte[] png(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,154 @@
+package com.framework.utils;
+
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Unit tests of /proc parsing
+ * Statistics are read from a temporary directory laid out like /proc with captured file contents
+ */
+@Epic("Framework")
+@Feature("Resource Monitoring")
+public class ProcFsTest {
+
+    private Path proc;
+
+    @BeforeMethod(alwaysRun = true)
+    public void useCapturedProc() throws IOException {
+        proc = Files.createTempDirectory("proc");
+        ProcFs.useRoot(proc);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void restoreProc() {
+        ProcFs.useRoot(null);
+    }
+
+    @Test(groups = "unit", description = "Host CPU ticks count idle and iowait as not busy")
+    public void testCpuTicks() throws IOException {
+        write("stat", "cpu  4705 150 1120 16250 520 30 45 10 0 0\n"
+            + "cpu0 2350 75 560 8125 260 15 22 5 0 0\n"
+            + "intr 114930548 113199788 3 0 5\n");
+        write("meminfo", "MemTotal:       16318412 kB\n");
+
+        long[] ticks = ProcFs.cpuTicks();
+        // total = user..steal = 22830, idle + iowait = 16770; guest columns are already part of user
+        Assert.assertEquals(ticks, new long[] {6060, 22830});
+        Assert.assertTrue(ProcFs.isAvailable());
+    }
+
+    @Test(groups = "unit", description = "CPU utilization is the busy share between two samples, clamped to 0..1")
+    public void testCpuUtilization() {
+        Assert.assertEquals(ProcFs.cpuUtilization(new long[] {100, 1000}, new long[] {175, 1100}), 0.75, 1e-9);
+        Assert.assertEquals(ProcFs.cpuUtilization(new long[] {100, 1000}, new long[] {100, 1000}), 0.0);
+        Assert.assertEquals(ProcFs.cpuUtilization(new long[] {100, 1000}, new long[] {90, 1100}), 0.0);
+        Assert.assertEquals(ProcFs.cpuUtilization(new long[] {0, 0}, new long[] {6060, 22830}), 6060.0 / 22830, 1e-9);
+    }
+
+    @Test(groups = "unit", description = "Memory values are read by key from meminfo")
+    public void testMemInfo() throws IOException {
+        write("meminfo", "MemTotal:       16318412 kB\n"
+            + "MemFree:         1203344 kB\n"
+            + "MemAvailable:    9876543 kB\n"
+            + "Buffers:          412356 kB\n");
+
+        Assert.assertEquals(ProcFs.memTotalKb(), 16318412);
+        Assert.assertEquals(ProcFs.memAvailableKb(), 9876543);
+    }
+
+    @Test(groups = "unit", description = "Missing /proc files degrade to zero values")
+    public void testUnavailable() {
+        Assert.assertFalse(ProcFs.isAvailable());
+        Assert.assertEquals(ProcFs.cpuTicks(), new long[] {0, 0});
+        Assert.assertEquals(ProcFs.memAvailableKb(), 0);
+        Assert.assertEquals(ProcFs.memTotalKb(), 0);
+        Assert.assertEquals(ProcFs.commandLine(42), "");
+        Assert.assertEquals(ProcFs.processCpuTicks(42), -1);
+        Assert.assertTrue(ProcFs.processes().isEmpty());
+    }
+
+    @Test(groups = "unit", description = "Processes are read from status files; other entries and exited processes are skipped")
+    public void testProcesses() throws IOException {
+        process(1, 0, "systemd", 12000, 1);
+        process(200, 1, "java", 512000, 48);
+        // Kernel threads have no VmRSS line
+        write("2/status", "Name:\tkthreadd\nPPid:\t0\nThreads:\t1\n");
+        // Exited while listing: directory without status
+        Files.createDirectories(proc.resolve("300"));
+        Files.createDirectories(proc.resolve("self"));
+
+        List<ProcFs.ProcessInfo> processes = ProcFs.processes().stream()
+            .sorted(Comparator.comparingLong(ProcFs.ProcessInfo::getPid))
+            .collect(Collectors.toList());
+
+        Assert.assertEquals(processes.stream().map(ProcFs.ProcessInfo::getPid).collect(Collectors.toList()), List.of(1L, 2L, 200L));
+        ProcFs.ProcessInfo java = processes.get(2);
+        Assert.assertEquals(java.getParentPid(), 1);
+        Assert.assertEquals(java.getName(), "java");
+        Assert.assertEquals(java.getRssKb(), 512000);
+        Assert.assertEquals(java.getThreads(), 48);
+        Assert.assertEquals(processes.get(1).getRssKb(), 0);
+    }
+
+    @Test(groups = "unit", description = "Process CPU time is utime + stime, also when the command name contains spaces and parentheses")
+    public void testProcessCpuTicks() throws IOException {
+        write("200/stat", "200 (Web Content (1)) S 1 200 200 0 -1 4194560 5000 0 12 0 1500 320 0 0 20 0 31 0 9000 "
+            + "3000000000 128000 18446744073709551615\n");
+
+        Assert.assertEquals(ProcFs.processCpuTicks(200), 1820);
+        Assert.assertEquals(ProcFs.processCpuTicks(201), -1);
+    }
+
+    @Test(groups = "unit", description = "Command line arguments are NUL separated")
+    public void testCommandLine() throws IOException {
+        write("200/cmdline", "/opt/google/chrome/chrome\0--type=renderer\0--lang=en-US\0");
+
+        Assert.assertEquals(ProcFs.commandLine(200), "/opt/google/chrome/chrome --type=renderer --lang=en-US");
+    }
+
+    @Test(groups = "unit", description = "Process tree contains the root and all descendants, but not siblings")
+    public void testProcessTree() throws IOException {
+        process(1, 0, "systemd", 0, 1);
+        process(100, 1, "chromedriver", 0, 1);
+        process(110, 100, "chrome", 0, 1);
+        process(111, 110, "chrome", 0, 1);
+        process(112, 110, "chrome", 0, 1);
+        process(120, 111, "chrome", 0, 1);
+        process(500, 1, "bash", 0, 1);
+
+        List<ProcFs.ProcessInfo> processes = ProcFs.processes();
+        Assert.assertEquals(pids(ProcFs.processTree(processes, 100)), List.of(100L, 110L, 111L, 112L, 120L));
+        Assert.assertEquals(pids(ProcFs.processTree(processes, 111)), List.of(111L, 120L));
+        // Root already exited: descendants are still found
+        Assert.assertEquals(pids(ProcFs.processTree(processes.stream().filter(p -> p.getPid() != 110).collect(Collectors.toList()), 110)),
+            List.of(111L, 112L, 120L));
+        Assert.assertTrue(ProcFs.processTree(processes, 999).isEmpty());
+    }
+
+    private void process(long pid, long parentPid, String name, long rssKb, int threads) throws IOException {
+        write(pid + "/status", "Name:\t" + name + "\nUmask:\t0022\nState:\tS (sleeping)\nPPid:\t" + parentPid
+            + "\nVmRSS:\t  " + rssKb + " kB\nThreads:\t" + threads + "\n");
+    }
+
+    private void write(String file, String content) throws IOException {
+        Path path = proc.resolve(file);
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, content, StandardCharsets.UTF_8);
+    }
+
+    private static List<Long> pids(List<ProcFs.ProcessInfo> processes) {
+        return processes.stream().map(ProcFs.ProcessInfo::getPid).sorted().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,234 @@
+package com.framework.utils;
+
+import com.framework.exceptions.FrameworkException;
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Unit tests of duration-balanced suite sharding
+ * Suites are written to a temporary directory and refer to the fixture classes below;
+ * durations come from a temporary history file
+ */
+@Epic("Framework")
+@Feature("Sharded Execution")
+public class ShardPlannerTest {
+
+    private static final String CHECKOUT = Checkout.class.getName();
+    private static final String WIZARD = Wizard.class.getName();
+    private static final String IMPORT = Import.class.getName();
+
+    private Path directory;
+
+    @BeforeMethod(alwaysRun = true)
+    public void useTemporaryHistory() throws IOException {
+        directory = Files.createTempDirectory("shards");
+        System.setProperty("test.history.path", directory.resolve("durations.json").toString());
+        TestDurationStore.reload();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void restoreHistory() {
+        System.clearProperty("test.history.path");
+        TestDurationStore.reload();
+    }
+
+    @Test(groups = "unit", description = "Longest methods go first to the least loaded shard")
+    public void testLongestProcessingTimeFirst() throws IOException {
+        history("a", 50, "b", 40, "c", 30, "d", 20, "e", 10);
+        List<XmlSuite> shards = ShardPlanner.plan(suite(test("Shop", false, CHECKOUT, "a", "b", "c", "d", "e")), 2);
+
+        Assert.assertEquals(shards.size(), 2);
+        // a=50 -> 0, b=40 -> 1, c=30 -> 1 (70), d=20 -> 0 (70), e=10 -> 0 on the tie (80)
+        Assert.assertEquals(methodsOf(shards.get(0)), Set.of("a", "d", "e"));
+        Assert.assertEquals(methodsOf(shards.get(1)), Set.of("b", "c"));
+    }
+
+    @Test(groups = "unit", description = "Methods without history are estimated with the median known duration")
+    public void testMedianForUnknownMethods() throws IOException {
+        history("a", 40, "b", 10);
+        List<XmlSuite> shards = ShardPlanner.plan(suite(test("Shop", false, CHECKOUT, "a", "b", "c")), 2);
+
+        // c is estimated at the median 40: a -> 0, c -> 1, b -> 0 on the tie
+        Assert.assertEquals(methodsOf(shards.get(0)), Set.of("a", "b"));
+        Assert.assertEquals(methodsOf(shards.get(1)), Set.of("c"));
+    }
+
+    @Test(groups = "unit", description = "Without any history every method counts the same")
+    public void testWithoutHistory() throws IOException {
+        List<XmlSuite> shards = ShardPlanner.plan(suite(test("Shop", false, CHECKOUT, "a", "b", "c", "d", "e")), 2);
+
+        Assert.assertEquals(methodsOf(shards.get(0)), Set.of("a", "c", "e"));
+        Assert.assertEquals(methodsOf(shards.get(1)), Set.of("b", "d"));
+    }
+
+    @Test(groups = "unit", description = "No more shards than placeable units are planned")
+    public void testFewerUnitsThanShards() throws IOException {
+        List<XmlSuite> shards = ShardPlanner.plan(suite(test("Shop", false, CHECKOUT, "a", "b", "c")), 8);
+
+        Assert.assertEquals(shards.size(), 3);
+        for (XmlSuite shard : shards) {
+            Assert.assertEquals(methodsOf(shard).size(), 1);
+        }
+    }
+
+    @Test(groups = "unit", description = "Tests with preserve-order stay together in one shard")
+    public void testPreserveOrderKeptTogether() throws IOException {
+        history("a", 100, "step1", 10, "step2", 10, "step3", 10);
+        List<XmlSuite> shards = ShardPlanner.plan(suite(
+            test("Shop", false, CHECKOUT, "a"),
+            test("Wizard", true, WIZARD, "step1", "step2", "step3")), 4);
+
+        Assert.assertEquals(shards.size(), 2, "Two units: method a and the whole ordered test");
+        Assert.assertEquals(methodsOf(shards.get(0)), Set.of("a"));
+        Assert.assertEquals(methodsOf(shards.get(1)), Set.of("step1", "step2", "step3"));
+        Assert.assertEquals(shards.get(1).getTests().get(0).getName(), "Wizard");
+    }
+
+    @Test(groups = "unit", description = "Tests without preserve-order are kept together, as TestNG preserves order by default")
+    public void testDefaultPreserveOrder() throws IOException {
+        List<XmlSuite> shards = ShardPlanner.plan(suite("    <test name=\"Shop\">\n      <classes>\n"
+            + "        <class name=\"" + CHECKOUT + "\"/>\n      </classes>\n    </test>\n"), 2);
+
+        Assert.assertEquals(shards.size(), 1);
+        Assert.assertEquals(methodsOf(shards.get(0)), Set.of("a", "b", "c", "d", "e"));
+    }
+
+    @Test(groups = "unit", description = "Data source methods run in every shard with their share of rows")
+    public void testDataSourceMethodsReplicated() throws IOException {
+        XmlSuite[] shards = ShardPlanner.plan(suite(test("Import", IMPORT)), 3).toArray(new XmlSuite[0]);
+
+        Assert.assertEquals(shards.length, 3, "Replicated methods use all requested shards");
+        Set<String> single = new TreeSet<>();
+        for (int i = 0; i < shards.length; i++) {
+            Set<String> methods = methodsOf(shards[i]);
+            Assert.assertTrue(methods.contains("rows"), "Shard " + i + " should run its share of rows");
+            methods.remove("rows");
+            single.addAll(methods);
+            XmlTest test = shards[i].getTests().get(0);
+            Assert.assertEquals(test.getLocalParameters().get("data.shard.index"), String.valueOf(i));
+            Assert.assertEquals(test.getLocalParameters().get("data.shard.count"), "3");
+        }
+        Assert.assertEquals(single, Set.of("validate"), "Other @Test methods are placed once");
+    }
+
+    @Test(groups = "unit", description = "Shard suites keep the attributes and parameters of the original suite")
+    public void testSuiteAttributesKept() throws IOException {
+        List<XmlSuite> shards = ShardPlanner.plan(suite(test("Shop", false, CHECKOUT, "a", "b")), 2);
+
+        for (XmlSuite shard : shards) {
+            Assert.assertEquals(shard.getName(), "Planned");
+            Assert.assertEquals(shard.getParallel(), XmlSuite.ParallelMode.METHODS);
+            Assert.assertEquals(shard.getThreadCount(), 3);
+            Assert.assertEquals(shard.getParameter("environment"), "qa");
+        }
+    }
+
+    @Test(groups = "unit", description = "A suite without test methods cannot be planned", expectedExceptions = FrameworkException.class)
+    public void testEmptySuite() throws IOException {
+        ShardPlanner.plan(suite(test("Empty", Empty.class.getName())), 2);
+    }
+
+    private void history(Object... methodsAndDurations) throws IOException {
+        StringBuilder json = new StringBuilder("{");
+        for (int i = 0; i < methodsAndDurations.length; i += 2) {
+            String className = String.valueOf(methodsAndDurations[i]).startsWith("step") ? WIZARD : CHECKOUT;
+            json.append(i > 0 ? ", " : "").append('"').append(TestDurationStore.keyOf(className, (String) methodsAndDurations[i]))
+                .append("\": ").append(methodsAndDurations[i + 1]);
+        }
+        Files.writeString(directory.resolve("durations.json"), json.append('}'), StandardCharsets.UTF_8);
+        TestDurationStore.reload();
+    }
+
+    /**
+     * Build a test tag of one class whose @Test methods are discovered by the planner
+     */
+    private static String test(String name, String className) {
+        return "    <test name=\"" + name + "\" preserve-order=\"false\">\n      <classes>\n        <class name=\"" + className
+            + "\"/>\n      </classes>\n    </test>\n";
+    }
+
+    /**
+     * Build a test tag of one class with explicitly included methods, in placement order
+     */
+    private static String test(String name, boolean preserveOrder, String className, String... methods) {
+        StringBuilder xml = new StringBuilder("    <test name=\"").append(name).append("\" preserve-order=\"")
+            .append(preserveOrder).append("\">\n      <classes>\n        <class name=\"").append(className)
+            .append("\">\n          <methods>\n");
+        for (String method : methods) {
+            xml.append("            <include name=\"").append(method).append("\"/>\n");
+        }
+        return xml.append("          </methods>\n        </class>\n      </classes>\n    </test>\n").toString();
+    }
+
+    private String suite(String... tests) throws IOException {
+        Path file = directory.resolve("testng.xml");
+        Files.writeString(file, "<suite name=\"Planned\" parallel=\"methods\" thread-count=\"3\">\n"
+            + "    <parameter name=\"environment\" value=\"qa\"/>\n" + String.join("", tests) + "</suite>\n", StandardCharsets.UTF_8);
+        return file.toString();
+    }
+
+    private static Set<String> methodsOf(XmlSuite suite) {
+        return suite.getTests().stream()
+            .flatMap(test -> test.getXmlClasses().stream())
+            .flatMap((XmlClass xmlClass) -> xmlClass.getIncludedMethods().stream())
+            .map(XmlInclude::getName)
+            .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    /**
+     * Fixture: independent methods
+     */
+    public static class Checkout {
+        @Test public void a() { }
+        @Test public void b() { }
+        @Test public void c() { }
+        @Test public void d() { }
+        @Test public void e() { }
+    }
+
+    /**
+     * Fixture: steps that must run in order
+     */
+    public static class Wizard {
+        @Test public void step1() { }
+        @Test public void step2() { }
+        @Test public void step3() { }
+    }
+
+    /**
+     * Fixture: one data source method, one plain test method and a helper that is no test
+     */
+    public static class Import {
+        @Test
+        @DataSource("testdata/import.csv")
+        public void rows(String row) { }
+
+        @Test public void validate() { }
+
+        public void helper() { }
+    }
+
+    /**
+     * Fixture: no test methods
+     */
+    public static class Empty {
+        public void helper() { }
+    }
+}
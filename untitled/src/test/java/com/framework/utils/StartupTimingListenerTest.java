@@ -0,0 +1,62 @@
+package com.framework.utils;
+
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * Unit tests of the class-data-sharing status in the startup timing report
+ * Archive and jars are temporary files whose modification times are set by the tests
+ */
+@Epic("Framework")
+@Feature("Startup Timing")
+public class StartupTimingListenerTest {
+
+    @Test(groups = "unit", description = "Without -XX:SharedArchiveFile class-data sharing is off")
+    public void testOff() {
+        Assert.assertEquals(StartupTimingListener.archiveStatus("", "classes.jar"), "off");
+    }
+
+    @Test(groups = "unit", description = "A missing archive is being recorded")
+    public void testMissingArchive() throws IOException {
+        Path directory = Files.createTempDirectory("cds");
+        Path jar = file(directory.resolve("classes.jar"), 1_000);
+        Assert.assertEquals(StartupTimingListener.archiveStatus(directory.resolve("tests.jsa").toString(), jar.toString()),
+            "recording");
+    }
+
+    @Test(groups = "unit", description = "An archive older than a classpath jar is rejected and recorded again")
+    public void testOutdatedArchive() throws IOException {
+        Path directory = Files.createTempDirectory("cds");
+        Path archive = file(directory.resolve("tests.jsa"), 2_000);
+        Path classes = file(directory.resolve("classes.jar"), 1_000);
+        Path tests = file(directory.resolve("test-classes.jar"), 3_000);
+        String classPath = classes + File.pathSeparator + directory.resolve("target/classes") + File.pathSeparator + tests;
+
+        Assert.assertEquals(StartupTimingListener.archiveStatus(archive.toString(), classPath), "recording");
+    }
+
+    @Test(groups = "unit", description = "An archive newer than all classpath jars is mapped; directories and missing entries are ignored")
+    public void testMappedArchive() throws IOException {
+        Path directory = Files.createTempDirectory("cds");
+        Path archive = file(directory.resolve("tests.jsa"), 2_000);
+        Path classes = file(directory.resolve("classes.jar"), 1_000);
+        Files.setLastModifiedTime(directory, FileTime.fromMillis(3_000_000));
+        String classPath = classes + File.pathSeparator + directory + File.pathSeparator + directory.resolve("missing.jar");
+
+        Assert.assertEquals(StartupTimingListener.archiveStatus(archive.toString(), classPath), "mapped");
+    }
+
+    private static Path file(Path path, long secondsSinceEpoch) throws IOException {
+        Files.write(path, new byte[] {1});
+        Files.setLastModifiedTime(path, FileTime.fromMillis(secondsSinceEpoch * 1_000));
+        return path;
+    }
+}
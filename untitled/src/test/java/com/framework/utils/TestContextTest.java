@@ -0,0 +1,126 @@
+package com.framework.utils;
+
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Unit tests of TestContext binding across the threads of one test invocation
+ * Setup, test body and teardown run on separate threads here, as TestNG does under a time-out
+ */
+@Epic("Framework")
+@Feature("Test Context")
+public class TestContextTest {
+
+    private static final TestContext.Local<String> slot = new TestContext.Local<>();
+
+    @Test(groups = "unit", description = "Context and slots started on one thread are reachable on another after bind()")
+    public void testBindAcrossThreads() throws Exception {
+        ITestResult result = result("testBindAcrossThreads", new Object());
+
+        onThread(() -> {
+            TestContext.start(result).putData("user", "alice");
+            slot.set("set in setup");
+            TestContext.restore(null);
+        });
+        onThread(() -> {
+            Assert.assertFalse(TestContext.isActive(), "Fresh thread has no context before bind()");
+            TestContext previous = TestContext.bind(result);
+            Assert.assertNull(previous);
+            Assert.assertEquals(TestContext.current().<String>getData("user"), "alice");
+            Assert.assertEquals(slot.get(), "set in setup");
+            slot.set("set in test body");
+            TestContext.restore(previous);
+            Assert.assertFalse(TestContext.isActive(), "restore() unbinds the context again");
+        });
+        onThread(() -> {
+            TestContext.bind(result);
+            Assert.assertEquals(slot.get(), "set in test body");
+            TestContext.end(result);
+            Assert.assertFalse(TestContext.isActive());
+            Assert.assertNull(result.getAttribute(TestContext.class.getName()), "end() detaches the context from the result");
+        });
+    }
+
+    @Test(groups = "unit", description = "Slots are kept per thread without a bound context")
+    public void testLocalWithoutContext() throws Exception {
+        TestContext.Local<StringBuilder> buffer = new TestContext.Local<>(StringBuilder::new);
+        buffer.get().append("main");
+        onThread(() -> Assert.assertEquals(buffer.get().toString(), ""));
+        Assert.assertEquals(buffer.get().toString(), "main");
+        buffer.remove();
+        Assert.assertEquals(buffer.get().toString(), "");
+    }
+
+    @Test(groups = "unit", description = "A session kept for a retry is adopted by the retry's context on another thread")
+    public void testRetryDriverHandover() throws Exception {
+        Object instance = new Object();
+        ITestResult failed = result("testRetryDriverHandover", instance);
+        WebDriver driver = (WebDriver) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {WebDriver.class},
+            (proxy, method, args) -> method.getName().equals("toString") ? "kept driver" : null);
+
+        onThread(() -> {
+            TestContext.start(failed).setDriver(driver);
+            TestContext.current().keepDriverForRetry(failed);
+            TestContext.end(failed);
+        });
+        onThread(() -> {
+            ITestResult retry = result("testRetryDriverHandover", instance);
+            TestContext context = TestContext.start(retry);
+            Assert.assertSame(context.getDriver(), driver);
+            Assert.assertTrue(DriverFactory.hasDriver(), "Adopted session is the driver of the retry");
+            TestContext.end(retry);
+        });
+        Assert.assertTrue(TestContext.drainRetryDrivers().isEmpty(), "Adopted session is no longer kept");
+    }
+
+    private static void onThread(Runnable action) throws InterruptedException {
+        try {
+            CompletableFuture.runAsync(action, command -> new Thread(command).start()).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof AssertionError) {
+                throw (AssertionError) e.getCause();
+            }
+            throw new AssertionError(e.getCause());
+        }
+    }
+
+    /**
+     * Minimal ITestResult with attributes, method name, instance and no parameters
+     */
+    private static ITestResult result(String methodName, Object instance) {
+        ITestNGMethod method = (ITestNGMethod) Proxy.newProxyInstance(TestContextTest.class.getClassLoader(),
+            new Class<?>[] {ITestNGMethod.class},
+            (proxy, called, args) -> called.getName().equals("getQualifiedName") ? "Fixture." + methodName : null);
+        Map<String, Object> attributes = new HashMap<>();
+        return (ITestResult) Proxy.newProxyInstance(TestContextTest.class.getClassLoader(), new Class<?>[] {ITestResult.class},
+            (proxy, called, args) -> {
+                switch (called.getName()) {
+                    case "setAttribute":
+                        return attributes.put((String) args[0], args[1]);
+                    case "getAttribute":
+                        return attributes.get((String) args[0]);
+                    case "removeAttribute":
+                        return attributes.remove((String) args[0]);
+                    case "getMethod":
+                        return method;
+                    case "getInstance":
+                        return instance;
+                    case "getParameters":
+                        return new Object[0];
+                    default:
+                        return null;
+                }
+            });
+    }
+}
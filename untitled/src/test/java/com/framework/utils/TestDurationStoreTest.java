@@ -0,0 +1,112 @@
+package com.framework.utils;
+
+import io.qameta.allure.Epic;
+import io.qameta.allure.Feature;
+import org.openqa.selenium.json.Json;
+import org.testng.Assert;
+import org.testng.ITestNGMethod;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Unit tests of the historical duration store
+ * The store reads and writes a temporary history file set through test.history.path
+ */
+@Epic("Framework")
+@Feature("Duration-Aware Scheduling")
+public class TestDurationStoreTest {
+
+    private Path history;
+
+    @BeforeMethod(alwaysRun = true)
+    public void useTemporaryHistory() throws IOException {
+        history = Files.createTempDirectory("durations").resolve("durations.json");
+        System.setProperty("test.history.path", history.toString());
+        TestDurationStore.reload();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void restoreHistory() {
+        System.clearProperty("test.history.path");
+        TestDurationStore.reload();
+    }
+
+    @Test(groups = "unit", description = "Methods without history have no expected duration and an empty store no median")
+    public void testEmptyStore() {
+        Assert.assertEquals(TestDurationStore.getExpectedDuration("com.example.LoginTest.testLogin"), -1.0);
+        Assert.assertEquals(TestDurationStore.getMedianDuration(), -1.0);
+    }
+
+    @Test(groups = "unit", description = "Invocations of one method are summed per run and persisted on flush")
+    public void testRecordAndFlush() throws IOException {
+        ITestNGMethod method = method(TestDurationStoreTest.class, "testLogin");
+        TestDurationStore.record(method, 300);
+        TestDurationStore.record(method, 200);
+        TestDurationStore.record(method, -1);
+        TestDurationStore.flush();
+
+        String key = TestDurationStore.keyOf("com.framework.utils.TestDurationStoreTest", "testLogin");
+        Assert.assertEquals(TestDurationStore.keyOf(method), key);
+        Assert.assertEquals(TestDurationStore.getExpectedDuration(key), 500.0, "First run is taken over as is");
+        Map<String, Object> stored = new Json().toType(Files.readString(history, StandardCharsets.UTF_8), Json.MAP_TYPE);
+        Assert.assertEquals(((Number) stored.get(key)).doubleValue(), 500.0);
+    }
+
+    @Test(groups = "unit", description = "Later runs move the stored average towards the new duration")
+    public void testMovingAverage() {
+        ITestNGMethod method = method(TestDurationStoreTest.class, "testSearch");
+        String key = TestDurationStore.keyOf(method);
+        TestDurationStore.record(method, 1000);
+        TestDurationStore.flush();
+        TestDurationStore.record(method, 2000);
+        TestDurationStore.flush();
+        Assert.assertEquals(TestDurationStore.getExpectedDuration(key), 1300.0, 1e-9, "1000 + 0.3 * (2000 - 1000)");
+
+        TestDurationStore.reload();
+        Assert.assertEquals(TestDurationStore.getExpectedDuration(key), 1300.0, 1e-9, "Average is read back from disk");
+    }
+
+    @Test(groups = "unit", description = "Median of the stored durations is the estimate for unknown methods")
+    public void testMedian() throws IOException {
+        Files.writeString(history, "{\"a.A.one\": 100, \"a.A.two\": 400, \"a.A.three\": 200, \"a.A.four\": 300, \"a.A.bad\": \"x\"}",
+            StandardCharsets.UTF_8);
+        Assert.assertEquals(TestDurationStore.getMedianDuration(), 300.0, "Upper median of 100, 200, 300, 400");
+        Assert.assertEquals(TestDurationStore.getExpectedDuration("a.A.bad"), -1.0, "Non-numeric values are skipped");
+    }
+
+    @Test(groups = "unit", description = "An unreadable history file is ignored")
+    public void testUnreadableHistory() throws IOException {
+        Files.writeString(history, "not json", StandardCharsets.UTF_8);
+        Assert.assertEquals(TestDurationStore.getMedianDuration(), -1.0);
+
+        TestDurationStore.record(method(TestDurationStoreTest.class, "testLogin"), 100);
+        TestDurationStore.flush();
+        Assert.assertTrue(Files.readString(history, StandardCharsets.UTF_8).contains("TestDurationStoreTest.testLogin"),
+            "Flush replaces the unreadable file");
+    }
+
+    /**
+     * Minimal ITestNGMethod with real class and method name
+     */
+    private static ITestNGMethod method(Class<?> realClass, String methodName) {
+        return (ITestNGMethod) Proxy.newProxyInstance(TestDurationStoreTest.class.getClassLoader(), new Class<?>[] {ITestNGMethod.class},
+            (proxy, called, args) -> {
+                switch (called.getName()) {
+                    case "getRealClass":
+                        return realClass;
+                    case "getMethodName":
+                        return methodName;
+                    default:
+                        return null;
+                }
+            });
+    }
+}